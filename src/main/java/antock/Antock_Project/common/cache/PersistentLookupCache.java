@@ -0,0 +1,357 @@
+package antock.Antock_Project.common.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 외부 API 조회 결과용 캐시.
+ * <ul>
+ *     <li>TTL: 조회 결과는 ttl, "결과 없음"(negative)은 negativeTtl 동안 유지</li>
+ *     <li>크기 제한: maxSize를 넘으면 가장 오래 사용하지 않은 항목부터 제거 (LRU)</li>
+ *     <li>영속화: 변경 내용을 디스크의 journal 파일에 추가 기록하고, 시작 시 다시 읽어 재시작 후에도 유지</li>
+ * </ul>
+ * journal 파일은 한 줄에 "key \t 만료시각(epoch ms) \t JSON 값(negative는 -)" 형식이며,
+ * 줄 수가 maxSize의 2배를 넘으면 현재 내용으로 다시 작성(compaction)합니다.
+ * <p>
+ * 캐시는 외부 API 응답 스레드(Netty event loop)에서 갱신되므로, journal 기록과 compaction은 캐시마다 하나인
+ * writer 스레드에서 실행합니다. 갱신 시에는 메모리의 항목만 바꾸고 기록할 내용을 대기열에 넣습니다.
+ */
+@Slf4j
+public class PersistentLookupCache<V> implements Closeable {
+
+    private static final String NEGATIVE = "-";
+    private static final long CLOSE_TIMEOUT_MILLIS = 10_000; // 종료 시 남은 기록을 기다리는 최대 시간
+    private static final long STATS_LOG_EVERY = 10_000; // 적중률 로그 간격 (조회 건수)
+
+    @Getter
+    private final String name;
+    private final Class<V> valueType;
+    private final ObjectMapper objectMapper;
+    private final long ttlMillis;
+    private final long negativeTtlMillis;
+    private final int maxSize;
+    private final Path journalFile; // null이면 메모리 전용
+
+    private final LinkedHashMap<String, Entry<V>> entries;
+    // journal에 기록할 항목 (맵을 갱신한 순서와 같도록 lock 안에서 추가). writer 스레드가 꺼내서 기록
+    private final BlockingQueue<JournalWrite<V>> pendingWrites = new LinkedBlockingQueue<>();
+    private final JournalWrite<V> endOfWrites = new JournalWrite<>(null, null); // 종료 표시 (identity 비교)
+    private final Thread writer; // null이면 디스크에 기록하지 않음
+    private boolean closed;
+
+    // journal 파일은 생성자(load) 이후에는 writer 스레드에서만 사용
+    private BufferedWriter journal;
+    private long journalLines;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param directory journal 파일을 저장할 디렉토리 (null이면 디스크에 저장하지 않음)
+     */
+    public PersistentLookupCache(String name, Class<V> valueType, ObjectMapper objectMapper,
+                                 Duration ttl, Duration negativeTtl, int maxSize, Path directory) {
+        this.name = name;
+        this.valueType = valueType;
+        this.objectMapper = objectMapper;
+        this.ttlMillis = ttl.toMillis();
+        this.negativeTtlMillis = negativeTtl.toMillis();
+        this.maxSize = maxSize;
+        this.journalFile = directory != null ? directory.resolve(name + ".cache") : null;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) { // accessOrder = true (LRU)
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<V>> eldest) {
+                return size() > PersistentLookupCache.this.maxSize;
+            }
+        };
+        if (journalFile != null) {
+            load();
+        }
+        if (journal != null) {
+            writer = new Thread(this::writeJournal, "cache-journal-" + name);
+            writer.setDaemon(true);
+            writer.start();
+        } else {
+            writer = null;
+        }
+    }
+
+    /**
+     * 캐시된 항목을 조회합니다. 만료된 항목은 없는 것으로 처리합니다.
+     *
+     * @return 캐시 항목 (없으면 null). 항목의 값이 null이면 "결과 없음"이 캐시된 것
+     */
+    public synchronized Entry<V> get(String key) {
+        key = sanitize(key);
+        Entry<V> entry = entries.get(key);
+        if (entry != null && entry.isExpired(System.currentTimeMillis())) {
+            entries.remove(key);
+            entry = null;
+        }
+        if (entry == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        long lookups = hits.sum() + misses.sum();
+        if (lookups % STATS_LOG_EVERY == 0) {
+            log.info("Cache [{}] stats: lookups={}, size={}, hitRate={}", name, lookups, entries.size(),
+                    String.format("%.3f", getHitRate()));
+        }
+        return entry;
+    }
+
+    /**
+     * 조회 결과를 ttl 동안 캐시합니다.
+     */
+    public void put(String key, V value) {
+        store(key, new Entry<>(value, System.currentTimeMillis() + ttlMillis));
+    }
+
+    /**
+     * "결과 없음"을 negativeTtl 동안 캐시합니다.
+     */
+    public void putNegative(String key) {
+        store(key, new Entry<>(null, System.currentTimeMillis() + negativeTtlMillis));
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * 캐시 적중률 (0.0 ~ 1.0)
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total > 0 ? (double) hitCount / total : 0.0;
+    }
+
+    /**
+     * 대기 중인 journal 기록을 마치고 현재 내용으로 journal 파일을 다시 작성한 뒤 닫습니다.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (writer == null || closed) {
+                return;
+            }
+            closed = true;
+            pendingWrites.add(endOfWrites);
+        }
+        try {
+            writer.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            log.warn("Cache [{}] journal writer did not finish within {} ms", name, CLOSE_TIMEOUT_MILLIS);
+        }
+        log.info("Cache [{}] closed: size={}, hitRate={}", name, size(), String.format("%.3f", getHitRate()));
+    }
+
+    private synchronized void store(String key, Entry<V> entry) {
+        key = sanitize(key);
+        entries.put(key, entry);
+        if (writer != null && !closed) {
+            pendingWrites.add(new JournalWrite<>(key, entry));
+        }
+    }
+
+    // writer 스레드: 대기열의 항목을 journal에 추가하고, 대기열이 비면 flush. 줄 수가 많아지면 compaction
+    private void writeJournal() {
+        List<JournalWrite<V>> batch = new ArrayList<>();
+        try {
+            while (true) {
+                batch.add(pendingWrites.take());
+                pendingWrites.drainTo(batch);
+                for (JournalWrite<V> write : batch) {
+                    if (write == endOfWrites) {
+                        compact(snapshot());
+                        closeJournal();
+                        return;
+                    }
+                    append(write);
+                }
+                batch.clear();
+                flushJournal();
+                if (journalLines > (long) maxSize * 2) {
+                    compact(snapshot());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            closeJournal();
+        }
+    }
+
+    private void append(JournalWrite<V> write) {
+        if (journal == null) {
+            return; // compaction 실패로 영속화 중단됨
+        }
+        try {
+            journal.write(toLine(write.key(), write.entry()));
+            journal.newLine();
+            journalLines++;
+        } catch (IOException e) {
+            log.warn("Failed to write cache journal {}: {}", journalFile, e.getMessage());
+        }
+    }
+
+    private void flushJournal() {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.flush();
+        } catch (IOException e) {
+            log.warn("Failed to write cache journal {}: {}", journalFile, e.getMessage());
+        }
+    }
+
+    private void closeJournal() {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.close();
+        } catch (IOException e) {
+            log.warn("Failed to close cache journal {}: {}", journalFile, e.getMessage());
+        }
+        journal = null;
+    }
+
+    // compaction용 현재 내용 복사. 대기 중인 기록은 이미 복사본에 반영되어 있으므로 버림 (종료 표시는 남김)
+    private synchronized Map<String, Entry<V>> snapshot() {
+        pendingWrites.removeIf(write -> write != endOfWrites);
+        return new LinkedHashMap<>(entries);
+    }
+
+    // journal 파일을 읽어 만료되지 않은 항목만 복원한 뒤, 새 내용으로 다시 작성
+    private synchronized void load() {
+        try {
+            Files.createDirectories(journalFile.getParent());
+            if (Files.exists(journalFile)) {
+                long now = System.currentTimeMillis();
+                try (BufferedReader reader = Files.newBufferedReader(journalFile, StandardCharsets.UTF_8)) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        readLine(line, now);
+                    }
+                }
+                log.info("Cache [{}] loaded {} entries from {}", name, entries.size(), journalFile);
+            }
+            compact(entries);
+        } catch (IOException e) {
+            log.warn("Failed to load cache journal {}, continuing with empty cache: {}", journalFile, e.getMessage());
+            entries.clear();
+        }
+    }
+
+    private void readLine(String line, long now) {
+        String[] parts = line.split("\t", 3);
+        if (parts.length != 3) {
+            return; // 기록 도중 종료되어 잘린 줄 등
+        }
+        try {
+            long expiresAt = Long.parseLong(parts[1]);
+            if (expiresAt <= now) {
+                entries.remove(parts[0]);
+                return;
+            }
+            V value = NEGATIVE.equals(parts[2]) ? null : objectMapper.readValue(parts[2], valueType);
+            entries.put(parts[0], new Entry<>(value, expiresAt));
+        } catch (NumberFormatException | JsonProcessingException e) {
+            log.debug("Skipping malformed cache journal line in {}: {}", journalFile, e.getMessage());
+        }
+    }
+
+    // 주어진 캐시 내용으로 journal 파일을 다시 작성 (임시 파일 작성 후 교체)
+    private void compact(Map<String, Entry<V>> contents) {
+        try {
+            if (journal != null) {
+                journal.close();
+            }
+            Path tempFile = journalFile.resolveSibling(journalFile.getFileName() + ".tmp");
+            long now = System.currentTimeMillis();
+            long lines = 0;
+            try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, Entry<V>> e : contents.entrySet()) {
+                    if (!e.getValue().isExpired(now)) {
+                        writer.write(toLine(e.getKey(), e.getValue()));
+                        writer.newLine();
+                        lines++;
+                    }
+                }
+            }
+            Files.move(tempFile, journalFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            journal = Files.newBufferedWriter(journalFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            journalLines = lines;
+        } catch (IOException e) {
+            log.warn("Failed to compact cache journal {}, disabling persistence: {}", journalFile, e.getMessage());
+            journal = null;
+        }
+    }
+
+    private String toLine(String key, Entry<V> entry) throws JsonProcessingException {
+        String value = entry.getValue() == null ? NEGATIVE : objectMapper.writeValueAsString(entry.getValue());
+        return key + "\t" + entry.getExpiresAt() + "\t" + value;
+    }
+
+    // journal 형식을 깨뜨리는 탭/개행 문자 제거
+    private static String sanitize(String key) {
+        return key.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+    }
+
+    private record JournalWrite<V>(String key, Entry<V> entry) {
+    }
+
+    @Getter
+    public static final class Entry<V> {
+        private final V value; // null이면 "결과 없음"
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        public boolean isNegative() {
+            return value == null;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+}
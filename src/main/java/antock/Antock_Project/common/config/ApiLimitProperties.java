@@ -0,0 +1,57 @@
+package antock.Antock_Project.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+
+/**
+ * 외부 API별 호출 제한 설정 (application.yml의 api.antocker.*, api.address.*)
+ * 초당 요청 수는 토큰 버킷으로 고정 제한하고, 동시 호출 수는 min~max 범위에서 응답 상태에 따라 자동 조절(AIMD)합니다.
+ * 장애 시에는 circuit breaker가 호출을 차단하고, bulkhead가 API 하나가 차지할 수 있는 호출 수를 제한합니다.
+ */
+@Getter
+@Setter
+public class ApiLimitProperties {
+
+    // 초당 최대 요청 수 (외부 API 할당량, 0이면 제한 없음). 재시도도 포함
+    private double rateLimit = 0;
+
+    // 쉬는 동안 쌓일 수 있는 최대 요청 수
+    private int rateBurst = 10;
+
+    // 동시 호출 수 자동 조절 범위와 시작값
+    private int minConcurrency = 1;
+    private int initialConcurrency = 8;
+    private int maxConcurrency = 64;
+
+    // 응답 시간이 기준의 몇 배를 넘으면 과부하로 보고 동시 호출 수를 줄일지
+    private double latencyTolerance = 2.0;
+
+    // 과부하 시 동시 호출 수에 곱할 값 (0~1)
+    private double backoffRatio = 0.5;
+
+    // 재시도를 포함한 호출 하나의 최대 동시 실행 수 (bulkhead). 초과한 호출은 bulkheadMaxWait 동안 자리를 기다리고,
+    // 그래도 자리가 나지 않으면 실패 (행은 보강 대기로 저장)
+    // async 모드에서는 처리 스레드 수보다 작게 두어야 이 API가 느려져도 다른 API 호출에 쓸 스레드가 남음
+    private int bulkheadMaxCalls = 32;
+
+    // bulkhead 자리를 기다리는 최대 시간. API가 정상이면 자리가 금방 나므로 동시 요청이 bulkhead보다 많아도 실패하지 않음
+    private Duration bulkheadMaxWait = Duration.ofSeconds(5);
+
+    private CircuitBreakerSettings circuitBreaker = new CircuitBreakerSettings();
+
+    @Getter
+    @Setter
+    public static class CircuitBreakerSettings {
+
+        // 최근 sliding-window-size개 호출 중 실패 비율이 이 값 이상이면 호출 차단 (minimum-calls개 이상 호출된 뒤)
+        private double failureRateThreshold = 0.5;
+        private int slidingWindowSize = 50;
+        private int minimumCalls = 20;
+
+        // 차단 유지 시간. 지나면 half-open-calls개의 시험 호출로 복구 여부 판단
+        private Duration openDuration = Duration.ofSeconds(30);
+        private int halfOpenCalls = 5;
+    }
+}
@@ -1,26 +1,102 @@
 package antock.Antock_Project.common.config;
 
+import antock.Antock_Project.common.util.ConcurrencyLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 // 멀티스레드 설정
+@Slf4j
 @Configuration
 @EnableAsync // 비동기 처리 활성화
+@EnableScheduling // 보강 대기 행 재처리(PendingEnrichmentService) 등 주기 작업 활성화
 public class AsyncConfig {
 
-    @Bean(name = "antockerDataProcessorExcecutor")
+    // platform: 고정 크기 스레드 풀, virtual: 작업마다 가상 스레드 생성 (JDK 21 이상 필요)
+    @Value("${antocker.executor.mode:platform}")
+    private String mode;
+
+    @Value("${antocker.executor.core-pool-size:0}") // 0이면 CPU 코어 수
+    private int corePoolSize;
+
+    @Value("${antocker.executor.max-pool-size:0}") // 0이면 CPU 코어 수 * 2
+    private int maxPoolSize;
+
+    @Value("${antocker.executor.queue-capacity:1000}")
+    private int queueCapacity;
+
+    // 동시에 실행할 지역 적재 작업 수 (초과한 작업은 큐에서 대기)
+    @Value("${antocker.scheduler.max-concurrent-regions:2}")
+    private int maxConcurrentRegions;
+
+    // 동시에 진행할 CSV 다운로드 수 (브라우저 실행 수)
+    @Value("${antocker.scheduler.max-concurrent-downloads:1}")
+    private int maxConcurrentDownloads;
+
+    // @Async("antockerDataProcessorExecutor")에서 사용하는 이름과 동일해야 함
+    @Bean(name = "antockerDataProcessorExecutor")
     public Executor taskExecutor() {
+        if ("virtual".equalsIgnoreCase(mode)) {
+            return virtualThreadExecutor();
+        }
+        return platformThreadExecutor();
+    }
+
+    /**
+     * 지역 적재 작업(AntockerService) 실행용 Executor.
+     * 외부 API 처리용 Executor와 분리하여, 지역 작업이 많이 요청되어도 동시에 실행되는 작업은 max-concurrent-regions개로 제한합니다.
+     */
+    @Bean(name = "regionImportExecutor")
+    public Executor regionImportExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrentRegions);
+        executor.setMaxPoolSize(maxConcurrentRegions);
+        executor.setThreadNamePrefix("RegionImport-");
+        executor.initialize();
+        log.info("Using region import executor (max concurrent regions={})", maxConcurrentRegions);
+        return executor;
+    }
+
+    /**
+     * CSV 다운로드 동시 실행 수 제한 (지역 작업이 여러 개 실행되어도 브라우저는 max-concurrent-downloads개까지만 실행)
+     */
+    @Bean
+    public ConcurrencyLimiter csvDownloadLimiter() {
+        return new ConcurrencyLimiter("CSV download", maxConcurrentDownloads);
+    }
+
+    private Executor platformThreadExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         int processors = Runtime.getRuntime().availableProcessors();
-        executor.setCorePoolSize(processors);
-        executor.setMaxPoolSize(processors * 2);
-        executor.setQueueCapacity(50);
+        executor.setCorePoolSize(corePoolSize > 0 ? corePoolSize : processors);
+        executor.setMaxPoolSize(maxPoolSize > 0 ? maxPoolSize : processors * 2);
+        executor.setQueueCapacity(queueCapacity);
+        // 큐까지 가득 차면 TaskRejectedException 대신 호출 스레드에서 실행 (자연스러운 backpressure)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
         executor.setThreadNamePrefix("SellerDataProcessor-");
         executor.initialize();
+        log.info("Using platform thread pool executor (core={}, max={}, queue={})",
+                executor.getCorePoolSize(), executor.getMaxPoolSize(), queueCapacity);
+        return executor;
+    }
+
+    private Executor virtualThreadExecutor() {
+        if (Runtime.version().feature() < 21) {
+            throw new IllegalStateException("antocker.executor.mode=virtual 은 JDK 21 이상에서만 사용할 수 있습니다. (현재: "
+                    + Runtime.version() + ")");
+        }
+        // 작업마다 가상 스레드를 생성. 외부 API별 동시 호출 수는 각 API 클라이언트의 ApiCallLimiter가 제한
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("SellerDataProcessor-vt-");
+        executor.setVirtualThreads(true);
+        log.info("Using virtual thread per task executor");
         return executor;
     }
 }
@@ -0,0 +1,60 @@
+package antock.Antock_Project.common.config;
+
+import antock.Antock_Project.external.csv.CsvDownloader;
+import antock.Antock_Project.external.csv.FallbackCsvDownloader;
+import antock.Antock_Project.external.csv.FtcCsvDownloader;
+import antock.Antock_Project.external.csv.HttpCsvDownloader;
+import antock.Antock_Project.external.csv.SeleniumCsvDownloader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+
+import java.nio.file.Paths;
+import java.time.Duration;
+
+// CSV 다운로드 구성
+// antocker.csv.download-mode=http    : HTTP로 직접 다운로드, 실패 시 브라우저로 다운로드
+// antocker.csv.download-mode=browser : 브라우저(Selenium)로만 다운로드
+@Slf4j
+@Configuration
+public class CsvDownloaderConfig {
+
+    /**
+     * 서비스에서 사용하는 CsvDownloader.
+     * 브라우저 다운로드는 운영 환경(prod)이면 SeleniumCsvDownloader, 아니면 FtcCsvDownloader를 사용합니다.
+     */
+    @Bean
+    @Primary
+    public CsvDownloader csvDownloader(ObjectProvider<SeleniumCsvDownloader> seleniumCsvDownloader,
+                                       FtcCsvDownloader ftcCsvDownloader,
+                                       WebClient.Builder webClientBuilder,
+                                       HttpClient apiHttpClient,
+                                       @Value("${antocker.csv.download-mode:http}") String downloadMode,
+                                       @Value("${antocker.csv.http.url-template}") String urlTemplate,
+                                       @Value("${antocker.csv.http.download-directory:downloads}") String downloadDirectory,
+                                       @Value("${antocker.csv.http.response-timeout:30s}") Duration responseTimeout,
+                                       @Value("${antocker.csv.http.timeout:5m}") Duration timeout) {
+        SeleniumCsvDownloader selenium = seleniumCsvDownloader.getIfAvailable();
+        CsvDownloader browser = selenium != null ? selenium : ftcCsvDownloader;
+        if ("browser".equalsIgnoreCase(downloadMode)) {
+            log.info("CSV download mode: browser ({})", browser.getClass().getSimpleName());
+            return browser;
+        }
+        // 공유 연결 풀을 사용하되, 파일 생성에 시간이 걸리는 응답을 위해 응답 대기 시간은 따로 지정
+        WebClient webClient = webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(apiHttpClient
+                        .followRedirect(true)
+                        .responseTimeout(responseTimeout)))
+                .build();
+        HttpCsvDownloader http = new HttpCsvDownloader(webClient, urlTemplate,
+                Paths.get(downloadDirectory).toAbsolutePath(), timeout);
+        log.info("CSV download mode: http (fallback: {})", browser.getClass().getSimpleName());
+        return new FallbackCsvDownloader(http, browser);
+    }
+}
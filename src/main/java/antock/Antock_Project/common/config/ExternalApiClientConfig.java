@@ -0,0 +1,100 @@
+package antock.Antock_Project.common.config;
+
+import antock.Antock_Project.common.cache.PersistentLookupCache;
+import antock.Antock_Project.external.Antocker.AntockerApiClient;
+import antock.Antock_Project.external.Antocker.CachingAntockerApiClient;
+import antock.Antock_Project.external.Antocker.FtcAntockerApiClient;
+import antock.Antock_Project.external.Antocker.SingleFlightAntockerApiClient;
+import antock.Antock_Project.external.Antocker.dto.AntockerDetailResponse;
+import antock.Antock_Project.external.address.AddressApiClient;
+import antock.Antock_Project.external.address.CachingAddressApiClient;
+import antock.Antock_Project.external.address.JusoAddressApiClient;
+import antock.Antock_Project.external.address.SingleFlightAddressApiClient;
+import antock.Antock_Project.external.address.dto.AddressResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+// 외부 API 클라이언트 구성 (실제 API 클라이언트 앞에 캐시 등의 계층을 추가)
+// 호출 순서: 캐시 → single-flight → 실제 API 클라이언트
+@Slf4j
+@Configuration
+public class ExternalApiClientConfig {
+
+    @Value("${api.cache.directory:cache}") // 캐시 파일 저장 디렉토리 (빈 값이면 메모리에만 저장)
+    private String cacheDirectory;
+
+    /**
+     * 통신판매사업자 API 호출 제한 설정 (api.antocker.rate-limit, api.antocker.*-concurrency 등)
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "api.antocker")
+    public ApiLimitProperties antockerApiLimits() {
+        return new ApiLimitProperties();
+    }
+
+    /**
+     * 공공주소 API 호출 제한 설정 (api.address.rate-limit, api.address.*-concurrency 등)
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "api.address")
+    public ApiLimitProperties addressApiLimits() {
+        return new ApiLimitProperties();
+    }
+
+    /**
+     * 서비스에서 사용하는 AntockerApiClient.
+     * 같은 사업자등록번호의 동시 호출은 하나로 합치고,
+     * api.antocker.cache.enabled=true 이면 그 앞에 사업자등록번호 기준 캐시를 둡니다.
+     */
+    @Bean
+    @Primary
+    public AntockerApiClient antockerApiClient(FtcAntockerApiClient ftcAntockerApiClient,
+                                               ObjectMapper objectMapper,
+                                               @Value("${api.antocker.cache.enabled:true}") boolean cacheEnabled,
+                                               @Value("${api.antocker.cache.ttl:30d}") Duration ttl,
+                                               @Value("${api.antocker.cache.negative-ttl:1d}") Duration negativeTtl,
+                                               @Value("${api.antocker.cache.max-size:500000}") int maxSize) {
+        AntockerApiClient client = new SingleFlightAntockerApiClient(ftcAntockerApiClient);
+        if (!cacheEnabled) {
+            return client;
+        }
+        PersistentLookupCache<AntockerDetailResponse> cache = new PersistentLookupCache<>("ftc-detail",
+                AntockerDetailResponse.class, objectMapper, ttl, negativeTtl, maxSize, cachePath());
+        return new CachingAntockerApiClient(client, cache);
+    }
+
+    /**
+     * 서비스에서 사용하는 AddressApiClient.
+     * 같은 주소의 동시 호출은 하나로 합치고,
+     * api.address.cache.enabled=true 이면 그 앞에 정규화된 주소 기준 캐시를 둡니다.
+     */
+    @Bean
+    @Primary
+    public AddressApiClient addressApiClient(JusoAddressApiClient jusoAddressApiClient,
+                                             ObjectMapper objectMapper,
+                                             @Value("${api.address.cache.enabled:true}") boolean cacheEnabled,
+                                             @Value("${api.address.cache.ttl:90d}") Duration ttl,
+                                             @Value("${api.address.cache.negative-ttl:1d}") Duration negativeTtl,
+                                             @Value("${api.address.cache.max-size:200000}") int maxSize) {
+        AddressApiClient client = new SingleFlightAddressApiClient(jusoAddressApiClient);
+        if (!cacheEnabled) {
+            return client;
+        }
+        PersistentLookupCache<AddressResponse> cache = new PersistentLookupCache<>("juso-address",
+                AddressResponse.class, objectMapper, ttl, negativeTtl, maxSize, cachePath());
+        return new CachingAddressApiClient(client, cache);
+    }
+
+    private Path cachePath() {
+        return cacheDirectory == null || cacheDirectory.isBlank() ? null : Paths.get(cacheDirectory).toAbsolutePath();
+    }
+}
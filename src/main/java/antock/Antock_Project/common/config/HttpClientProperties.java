@@ -0,0 +1,42 @@
+package antock.Antock_Project.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 외부 API 호출용 공유 HTTP 클라이언트(Reactor Netty) 설정 (application.yml의 api.http.*)
+ * 모든 외부 API 클라이언트가 하나의 연결 풀을 공유하며, 연결 풀은 호스트별로 나뉘어 관리됩니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "api.http")
+public class HttpClientProperties {
+
+    // 호스트별 최대 연결 수. 외부 API별 최대 동시 호출 수(api.*.max-concurrency)보다 크거나 같아야 함
+    private int maxConnections = 128;
+
+    // 연결을 얻기 위해 대기할 수 있는 최대 요청 수와 대기 시간 (초과 시 오류)
+    private int pendingAcquireMaxCount = 1000;
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(10);
+
+    // 사용하지 않는 연결을 닫기까지의 시간 (서버가 먼저 끊은 연결을 재사용하지 않도록 서버의 keep-alive보다 짧게)
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+
+    // 연결 최대 수명 (DNS 변경 등을 반영하도록 주기적으로 새 연결 사용)
+    private Duration maxLifeTime = Duration.ofMinutes(5);
+
+    // 유휴/만료 연결을 백그라운드에서 정리하는 간격
+    private Duration evictionInterval = Duration.ofSeconds(30);
+
+    private Duration connectTimeout = Duration.ofSeconds(3);
+
+    // 요청 전송 후 응답까지 최대 시간 (재시도 단위 타임아웃은 각 API 클라이언트의 ATTEMPT_TIMEOUT)
+    private Duration responseTimeout = Duration.ofSeconds(5);
+
+    // HTTP keep-alive 및 gzip 응답 압축 사용 여부
+    private boolean keepAlive = true;
+    private boolean compress = true;
+}
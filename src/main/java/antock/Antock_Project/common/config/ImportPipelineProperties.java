@@ -0,0 +1,48 @@
+package antock.Antock_Project.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 지역 데이터 적재 파이프라인(파싱 → 중복 제거 → 처리 → 저장) 설정 (application.yml의 antocker.pipeline.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "antocker.pipeline")
+public class ImportPipelineProperties {
+
+    // 단계 사이 큐의 최대 크기. 큐가 가득 차면 앞 단계가 대기 (backpressure)
+    private int queueCapacity = 1000;
+
+    // 외부 API 처리 방식 (ASYNC: @Async 스레드 풀에서 블로킹 호출, REACTIVE: WebClient 논블로킹 호출)
+    private EnrichMode enrichMode = EnrichMode.ASYNC;
+
+    // 동시에 처리 중(외부 API 호출 중)일 수 있는 최대 행 수
+    // REACTIVE 모드에서는 스레드를 점유하지 않으므로 수백~수천으로 높게 설정 가능
+    private int enrichConcurrency = 32;
+
+    // 외부 API로 한 번에 처리할 행 수. 1보다 크면 통신판매사업자 상세 조회를 여러 사업자등록번호에 대해 한 번에 요청하고,
+    // async 모드에서는 행 하나가 아니라 묶음 하나마다 스레드 하나를 사용. enrichConcurrency의 약수로 두어야 묶음이 고르게 진행됨
+    private int enrichBatchSize = 1;
+
+    // 한 번에 DB에 저장할 엔티티 수. 배치마다 별도 트랜잭션으로 커밋됨
+    private int batchSize = 500;
+
+    // 다운로드 스트리밍 여부. true면 CSV를 파일로 저장하지 않고 받는 대로 파싱하여, 다운로드 중에도 첫 행부터 처리를 시작
+    // (보관한 파일이 없으므로 실패한 작업은 checkpoint부터 재개하지 않고 다시 다운로드)
+    private boolean streamDownload = false;
+
+    // 증분 적재 여부. true면 지난 적재 이후 새로 생기거나 내용이 바뀐 행만 처리하고, CSV에서 사라진 행은 removed로 표시
+    private boolean deltaSync = true;
+
+    // 진행 상황(큐 깊이, 단계별 처리량) 로그 출력 간격
+    private Duration progressLogInterval = Duration.ofSeconds(5);
+
+    public enum EnrichMode {
+        ASYNC,
+        REACTIVE
+    }
+}
@@ -0,0 +1,10 @@
+package antock.Antock_Project.common.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+// @ConfigurationProperties 클래스 등록
+@Configuration
+@EnableConfigurationProperties({ImportPipelineProperties.class, HttpClientProperties.class})
+public class PropertiesConfig {
+}
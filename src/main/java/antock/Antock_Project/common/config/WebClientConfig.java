@@ -1,15 +1,56 @@
 package antock.Antock_Project.common.config;
 
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 // HTTP 클라이언트 설정
+// 모든 외부 API 클라이언트가 같은 연결 풀(ConnectionProvider)을 공유하여, 동시 호출이 많아도 연결을 재사용 (호출마다 TCP/TLS 연결을 맺지 않음)
+@Slf4j
 @Configuration
 public class WebClientConfig {
 
+    /**
+     * 외부 API 호출용 연결 풀 (호스트별 최대 연결 수, 유휴/수명 기반 정리). 애플리케이션 종료 시 연결을 닫음
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider apiConnectionProvider(HttpClientProperties properties) {
+        log.info("Using shared HTTP connection pool (max connections per host={}, pending acquire={}, idle={}, life={})",
+                properties.getMaxConnections(), properties.getPendingAcquireMaxCount(),
+                properties.getMaxIdleTime(), properties.getMaxLifeTime());
+        return ConnectionProvider.builder("external-api")
+                .maxConnections(properties.getMaxConnections())
+                .pendingAcquireMaxCount(properties.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(properties.getPendingAcquireTimeout())
+                .maxIdleTime(properties.getMaxIdleTime())
+                .maxLifeTime(properties.getMaxLifeTime())
+                .evictInBackground(properties.getEvictionInterval())
+                .lifo() // 최근 사용한 연결부터 재사용 (나머지는 유휴 상태로 정리됨)
+                .build();
+    }
+
+    @Bean
+    public HttpClient apiHttpClient(ConnectionProvider apiConnectionProvider, HttpClientProperties properties) {
+        return HttpClient.create(apiConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, properties.isKeepAlive())
+                .keepAlive(properties.isKeepAlive())
+                .compress(properties.isCompress())
+                .responseTimeout(properties.getResponseTimeout());
+    }
+
+    /**
+     * 공유 HTTP 클라이언트를 사용하는 WebClient.Builder.
+     * 빈은 하나이므로 각 API 클라이언트는 clone()한 뒤 자신의 헤더 등을 설정해야 합니다.
+     */
     @Bean
-    public WebClient.Builder webClientBuilder() {
-        return WebClient.builder();
+    public WebClient.Builder webClientBuilder(HttpClient apiHttpClient) {
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(apiHttpClient));
     }
 }
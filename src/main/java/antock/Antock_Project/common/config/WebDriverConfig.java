@@ -6,6 +6,7 @@ import jakarta.annotation.PreDestroy;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Scope;
@@ -18,7 +19,14 @@ import java.util.Map;
 @Configuration
 public class WebDriverConfig {
 
-    private final String downloadFilePath = Paths.get("downloads").toAbsolutePath().toString();
+    private final String downloadFilePath;
+    private final boolean headless;
+
+    public WebDriverConfig(@Value("${antocker.browser.download-directory:downloads}") String downloadDirectory,
+                           @Value("${antocker.browser.headless:true}") boolean headless) {
+        this.downloadFilePath = Paths.get(downloadDirectory).toAbsolutePath().toString();
+        this.headless = headless;
+    }
 
     @PostConstruct
     void setupDriver() {
@@ -32,12 +40,12 @@ public class WebDriverConfig {
     }
 
     @Bean
-    @Scope("prototype") // 각 요청 또는 사용 시 새로운 WebDriver 인스턴스 생성
+    @Scope("prototype") // BrowserSessionPool이 브라우저를 새로 실행할 때마다 새 인스턴스 생성
     public WebDriver chromeDriver() {
         ChromeOptions options = new ChromeOptions();
         Map<String, Object> prefs = new HashMap<>();
 
-        // 다운로드 경로 설정
+        // 기본 다운로드 경로 설정 (BrowserSessionPool이 작업마다 별도 디렉토리로 변경)
         prefs.put("download.default_directory", downloadFilePath);
         // 다운로드 시 확인 창 비활성화
         prefs.put("download.prompt_for_download", false);
@@ -46,15 +54,18 @@ public class WebDriverConfig {
 
         options.setExperimentalOption("prefs", prefs);
 
-        // (선택) 백그라운드 실행 (Headless 모드) - 서버 환경 등에서 UI 없이 실행 시
-        // options.addArguments("--headless");
-        // options.addArguments("--disable-gpu"); // 일부 시스템에서 headless 모드 시 필요
-        // options.addArguments("--window-size=1920,1080"); // 해상도 지정
+        // 백그라운드 실행 (Headless 모드) - 서버 환경 등에서 UI 없이 실행 시
+        if (headless) {
+            options.addArguments("--headless=new");
+            options.addArguments("--disable-gpu"); // 일부 시스템에서 headless 모드 시 필요
+            options.addArguments("--window-size=1920,1080"); // 해상도 지정
+        }
+        options.addArguments("--no-sandbox");
+        options.addArguments("--disable-dev-shm-usage"); // 컨테이너의 작은 /dev/shm으로 인한 브라우저 비정상 종료 방지
+        options.addArguments("--remote-allow-origins=*");
 
         return new ChromeDriver(options);
     }
 
-    // 참고: WebDriver 인스턴스 관리는 사용하는 측(예: FtcCsvDownloader)에서
-    // @PreDestroy 등을 이용하거나 try-with-resources 방식으로 처리하는 것이 더 명확할 수 있습니다.
-    // 여기서는 prototype scope 빈으로 생성하여 사용하는 측에서 관리하도록 유도합니다.
+    // 참고: WebDriver 인스턴스는 BrowserSessionPool이 이 빈으로 생성하여 재사용하고, 종료까지 관리합니다.
 }
@@ -22,7 +22,9 @@ public enum ErrorCode {
 
     // API Related
     API_REQUEST_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "API001", "외부 API 요청에 실패했습니다."),
-    API_RESPONSE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "API002", "외부 API 응답 처리 중 오류가 발생했습니다.");
+    API_RESPONSE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "API002", "외부 API 응답 처리 중 오류가 발생했습니다."),
+    API_OVERLOADED(HttpStatus.SERVICE_UNAVAILABLE, "API003", "외부 API가 요청을 제한했거나 일시적으로 응답할 수 없습니다."),
+    API_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "API004", "외부 API 장애로 호출이 일시적으로 차단되었습니다.");
 
     private final HttpStatus status;
     private final String code;
@@ -0,0 +1,234 @@
+package antock.Antock_Project.common.util;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * AIMD(additive increase, multiplicative decrease) 방식으로 동시 호출 수를 스스로 조절하는 제한기.
+ * <ul>
+ *     <li>정상 응답이 기준 응답 시간의 latencyTolerance배 이내이면 제한값을 조금씩 올립니다. (제한값만큼 성공하면 +1)</li>
+ *     <li>과부하 신호(429/5xx, 타임아웃 등 overload로 판단된 오류)나 응답 시간 증가가 보이면 제한값에 backoffRatio를 곱해 줄입니다.</li>
+ * </ul>
+ * 한 번 줄인 뒤에는 줄이기 전에 시작된 호출의 결과로 다시 줄이지 않습니다. (동시에 실패한 호출 때문에 한꺼번에 최소값까지 떨어지지 않도록)
+ * 기준 응답 시간은 정상 응답의 느린 이동 평균이므로, 외부 API가 계속 느려진 경우에도 점차 새 기준에 맞춰집니다.
+ * <p>
+ * 대기는 스레드를 점유하지 않으며 (Mono), 블로킹 호출 측은 결과 Mono를 block 하면 됩니다.
+ */
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double BASELINE_ALPHA = 0.02; // 기준 응답 시간 이동 평균 가중치
+
+    private static final int WAITING = 0;
+    private static final int GRANTED = 1;
+    private static final int CANCELLED = 2;
+
+    @Getter
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double latencyTolerance;
+    private final double backoffRatio;
+    private final Predicate<Throwable> overload;
+
+    // 아래 필드는 this로 동기화
+    private double limit;
+    private int inFlight;
+    private long epoch;                // 제한값을 줄일 때마다 증가
+    private double baselineNanos;      // 기준 응답 시간 (0이면 아직 없음)
+    private final Deque<Waiter> waiters = new ArrayDeque<>();
+
+    /**
+     * @param overload 과부하 신호로 볼 오류 (제한값을 줄임). 그 외 오류는 제한값에 영향을 주지 않음
+     */
+    public AdaptiveConcurrencyLimiter(String name, int minLimit, int initialLimit, int maxLimit,
+                                      double latencyTolerance, double backoffRatio, Predicate<Throwable> overload) {
+        if (minLimit <= 0 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("동시 실행 제한 범위가 올바르지 않습니다: " + name + "=" + minLimit + "~" + maxLimit);
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoffRatio는 0과 1 사이여야 합니다: " + name + "=" + backoffRatio);
+        }
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTolerance = latencyTolerance;
+        this.backoffRatio = backoffRatio;
+        this.overload = overload;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * 허가를 얻은 뒤 작업을 구독하고, 결과(응답 시간/과부하 여부)로 제한값을 조절합니다.
+     *
+     * @param task 실행할 작업 (구독 시 호출 시작)
+     * @return 작업 결과
+     */
+    public <T> Mono<T> call(Supplier<Mono<T>> task) {
+        return call(Mono.empty(), task);
+    }
+
+    /**
+     * 허가를 얻은 뒤 admission(예: 초당 요청 수 제한 토큰 대기)이 끝나면 작업을 구독합니다.
+     * 응답 시간은 admission이 끝난 시점부터 재므로, 토큰 대기 시간을 외부 API의 응답 지연(과부하)으로 보지 않습니다.
+     *
+     * @param admission 작업 전에 기다릴 Mono
+     * @param task      실행할 작업 (구독 시 호출 시작)
+     * @return 작업 결과
+     */
+    public <T> Mono<T> call(Mono<?> admission, Supplier<Mono<T>> task) {
+        return acquire().flatMap(permit -> admission.then(Mono.fromRunnable(permit::start)).then(Mono.defer(task))
+                .doOnSuccess(value -> permit.complete(null))
+                .doOnError(permit::complete)
+                .doFinally(signal -> permit.cancel())); // 성공/오류 후에는 아무 일도 하지 않음
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    private Mono<Permit> acquire() {
+        return Mono.create(sink -> {
+            Waiter waiter = new Waiter(sink);
+            // 허가를 받기 전에 취소된 경우 대기열에서 제거, 허가를 받은 뒤 전달 전에 취소된 경우 허가 반환
+            sink.onCancel(() -> {
+                if (waiter.state.compareAndSet(WAITING, CANCELLED)) {
+                    synchronized (this) {
+                        waiters.remove(waiter);
+                    }
+                } else if (waiter.permit != null) {
+                    waiter.permit.cancel();
+                }
+            });
+            Permit granted = null;
+            synchronized (this) {
+                if (waiters.isEmpty() && inFlight < (int) limit) {
+                    granted = newPermit();
+                } else {
+                    waiters.add(waiter);
+                }
+            }
+            if (granted != null) {
+                waiter.permit = granted;
+                if (waiter.state.compareAndSet(WAITING, GRANTED)) {
+                    sink.success(granted);
+                } else {
+                    granted.cancel(); // 이미 취소됨
+                }
+            }
+        });
+    }
+
+    // this로 동기화된 상태에서 호출
+    private Permit newPermit() {
+        inFlight++;
+        return new Permit(System.nanoTime(), epoch);
+    }
+
+    private void release(Permit permit, Throwable error) {
+        long latency = System.nanoTime() - permit.startNanos;
+        List<Waiter> granted = new ArrayList<>();
+        synchronized (this) {
+            inFlight--;
+            adjust(permit, latency, error);
+            while (inFlight < (int) limit && !waiters.isEmpty()) {
+                Waiter waiter = waiters.poll();
+                waiter.permit = newPermit();
+                granted.add(waiter);
+            }
+        }
+        for (Waiter waiter : granted) {
+            if (waiter.state.compareAndSet(WAITING, GRANTED)) {
+                waiter.sink.success(waiter.permit);
+            } else {
+                waiter.permit.cancel(); // 대기 중 취소됨
+            }
+        }
+    }
+
+    // this로 동기화된 상태에서 호출
+    private void adjust(Permit permit, long latencyNanos, Throwable error) {
+        if (permit.cancelled) {
+            return; // 취소된 호출은 응답 시간을 알 수 없음
+        }
+        boolean overloaded;
+        if (error != null) {
+            overloaded = overload.test(error);
+            if (!overloaded) {
+                return; // 요청 자체의 오류 (4xx 등)는 제한값과 무관
+            }
+        } else {
+            overloaded = baselineNanos > 0 && latencyNanos > baselineNanos * latencyTolerance;
+            baselineNanos = baselineNanos == 0 ? latencyNanos
+                    : baselineNanos + BASELINE_ALPHA * (latencyNanos - baselineNanos);
+        }
+
+        if (overloaded) {
+            if (permit.epoch == epoch) {
+                double previous = limit;
+                limit = Math.max(minLimit, limit * backoffRatio);
+                epoch++;
+                log.info("Concurrency limit [{}] decreased {} -> {} ({})", name, (int) previous, (int) limit,
+                        error != null ? error.getClass().getSimpleName() : "latency " + latencyNanos / 1_000_000 + "ms");
+            }
+        } else if (inFlight + 1 >= (int) limit / 2) {
+            // 제한값의 절반 이상을 사용 중일 때만 증가 (한가할 때 제한값이 의미 없이 커지지 않도록)
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    private final class Permit {
+        private volatile long startNanos;
+        private final long epoch;
+        private final AtomicInteger released = new AtomicInteger();
+        private volatile boolean cancelled;
+
+        private Permit(long startNanos, long epoch) {
+            this.startNanos = startNanos;
+            this.epoch = epoch;
+        }
+
+        // 작업 시작 시점부터 응답 시간을 잼
+        private void start() {
+            startNanos = System.nanoTime();
+        }
+
+        // 성공/오류/취소 중 처음 한 번만 반영
+        private void complete(Throwable error) {
+            if (released.compareAndSet(0, 1)) {
+                release(this, error);
+            }
+        }
+
+        private void cancel() {
+            if (released.get() == 0) {
+                cancelled = true;
+                complete(null);
+            }
+        }
+    }
+
+    private static final class Waiter {
+        private final MonoSink<Permit> sink;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+        private volatile Permit permit;
+
+        private Waiter(MonoSink<Permit> sink) {
+            this.sink = sink;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package antock.Antock_Project.common.util;
+
+import antock.Antock_Project.common.config.ApiLimitProperties;
+import antock.Antock_Project.common.exception.BusinessException;
+import antock.Antock_Project.common.exception.ErrorCode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatusCode;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 외부 API 하나의 호출 제한 (동시 호출 수 자동 조절 + 초당 요청 수 제한 + circuit breaker + bulkhead).
+ * 호출 하나(재시도 시에는 시도 하나)마다 동시 호출 허가와 토큰을 얻은 뒤 요청합니다.
+ * 429/5xx({@link ErrorCode#API_OVERLOADED})와 타임아웃은 과부하 신호로 보고 동시 호출 수를 줄입니다.
+ * 재시도를 포함한 호출 전체는 {@link #guard}로 감싸 장애 시 오래 기다리지 않고 실패하도록 합니다.
+ */
+@Slf4j
+public class ApiCallLimiter {
+
+    @Getter
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    @Getter
+    private final TokenBucketRateLimiter rateLimiter;
+    @Getter
+    private final CircuitBreaker circuitBreaker;
+    @Getter
+    private final Bulkhead bulkhead;
+
+    public ApiCallLimiter(String name, ApiLimitProperties properties) {
+        this.concurrencyLimiter = new AdaptiveConcurrencyLimiter(name, properties.getMinConcurrency(),
+                properties.getInitialConcurrency(), properties.getMaxConcurrency(),
+                properties.getLatencyTolerance(), properties.getBackoffRatio(), ApiCallLimiter::isOverload);
+        this.rateLimiter = new TokenBucketRateLimiter(name, properties.getRateLimit(), properties.getRateBurst());
+        ApiLimitProperties.CircuitBreakerSettings breaker = properties.getCircuitBreaker();
+        this.circuitBreaker = new CircuitBreaker(name, breaker.getFailureRateThreshold(), breaker.getSlidingWindowSize(),
+                breaker.getMinimumCalls(), breaker.getOpenDuration(), breaker.getHalfOpenCalls(), ApiCallLimiter::isFailure);
+        this.bulkhead = new Bulkhead(name, properties.getBulkheadMaxCalls(), properties.getBulkheadMaxWait());
+        log.info("API call limiter [{}]: rate={}/s (burst {}), concurrency={}~{} (initial {})", name,
+                properties.getRateLimit() > 0 ? properties.getRateLimit() : "unlimited", properties.getRateBurst(),
+                properties.getMinConcurrency(), properties.getMaxConcurrency(), properties.getInitialConcurrency());
+    }
+
+    /**
+     * 제한을 적용하여 요청합니다.
+     *
+     * @param request 요청 (구독 시 호출 시작)
+     */
+    public <T> Mono<T> call(Supplier<Mono<T>> request) {
+        // 토큰 대기는 허가를 얻은 뒤 하지만 응답 시간에는 포함하지 않음 (토큰 버킷이 병목일 때 동시 호출 수를 줄이지 않도록)
+        return concurrencyLimiter.call(rateLimiter.acquireReactive(), request);
+    }
+
+    /**
+     * 재시도를 포함한 호출 하나에 bulkhead와 circuit breaker를 적용합니다.
+     * circuit breaker가 열려 있거나 bulkhead 자리를 최대 대기 시간 안에 얻지 못하면 요청하지 않고 {@link ErrorCode#API_UNAVAILABLE}로 실패합니다.
+     *
+     * @param call 호출 (구독 시 시작, 재시도 포함)
+     */
+    public <T> Mono<T> guard(Supplier<Mono<T>> call) {
+        return bulkhead.call(() -> circuitBreaker.call(call));
+    }
+
+    /**
+     * HTTP 오류 상태에 맞는 ErrorCode. 429 Too Many Requests와 5xx는 과부하(잠시 후 재시도), 그 외 4xx는 요청 오류
+     */
+    public static ErrorCode errorCode(HttpStatusCode statusCode) {
+        return statusCode.value() == 429 || statusCode.is5xxServerError()
+                ? ErrorCode.API_OVERLOADED : ErrorCode.API_REQUEST_FAILED;
+    }
+
+    /**
+     * circuit breaker에 실패로 기록할 오류인지. 요청 자체의 오류(4xx)는 API가 정상 응답한 것이므로 제외
+     */
+    public static boolean isFailure(Throwable throwable) {
+        return !(throwable instanceof BusinessException businessException
+                && (businessException.getErrorCode() == ErrorCode.API_REQUEST_FAILED
+                || businessException.getErrorCode() == ErrorCode.API_UNAVAILABLE));
+    }
+
+    /**
+     * 외부 API가 과부하 상태임을 나타내는 오류인지 (재시도 및 동시 호출 수 감소 대상)
+     */
+    public static boolean isOverload(Throwable throwable) {
+        return throwable instanceof TimeoutException
+                || throwable instanceof BusinessException businessException
+                && businessException.getErrorCode() == ErrorCode.API_OVERLOADED;
+    }
+}
@@ -0,0 +1,164 @@
+package antock.Antock_Project.common.util;
+
+import antock.Antock_Project.common.exception.BusinessException;
+import antock.Antock_Project.common.exception.ErrorCode;
+import lombok.Getter;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 외부 API 하나가 동시에 차지할 수 있는 호출 수를 제한하는 bulkhead.
+ * 자리가 없으면 최대 maxWait 동안만 (스레드를 점유하지 않고) 기다린 뒤 {@link ErrorCode#API_UNAVAILABLE}로 실패합니다.
+ * API가 정상이면 자리가 금방 나므로 제한보다 많은 호출이 몰려도 차례로 처리되고,
+ * API가 느려져 자리가 나지 않으면 대기 호출이 곧 실패하므로 그 API를 기다리는 호출이 처리 스레드를 모두 차지하여
+ * 다른 API 호출까지 막히는 일이 없습니다.
+ */
+public class Bulkhead {
+
+    private static final int WAITING = 0;
+    private static final int GRANTED = 1;
+    private static final int CANCELLED = 2;
+
+    @Getter
+    private final String name;
+    @Getter
+    private final int maxConcurrentCalls;
+    @Getter
+    private final Duration maxWait;
+
+    // 아래 필드는 this로 동기화
+    private int inFlight;
+    private final Deque<Waiter> waiters = new ArrayDeque<>();
+
+    /**
+     * 자리가 없으면 기다리지 않고 바로 실패하는 bulkhead
+     */
+    public Bulkhead(String name, int maxConcurrentCalls) {
+        this(name, maxConcurrentCalls, Duration.ZERO);
+    }
+
+    /**
+     * @param maxWait 자리가 날 때까지 기다리는 최대 시간 (0이면 기다리지 않음)
+     */
+    public Bulkhead(String name, int maxConcurrentCalls, Duration maxWait) {
+        if (maxConcurrentCalls <= 0) {
+            throw new IllegalArgumentException("bulkhead 크기는 1 이상이어야 합니다: " + name + "=" + maxConcurrentCalls);
+        }
+        this.name = name;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * 자리를 얻으면 작업을 구독하고, 작업이 끝나거나 취소되면 자리를 반환합니다.
+     *
+     * @param task 실행할 작업 (구독 시 호출 시작)
+     * @return 작업 결과
+     */
+    public <T> Mono<T> call(Supplier<Mono<T>> task) {
+        return acquire().flatMap(slot -> Mono.defer(task).doFinally(signal -> slot.release()));
+    }
+
+    /**
+     * 현재 진행 중인 호출 수
+     */
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    private Mono<Slot> acquire() {
+        Mono<Slot> acquire = Mono.create(sink -> {
+            Waiter waiter = new Waiter(sink);
+            // 자리를 받기 전에 취소(대기 시간 초과 포함)되면 대기열에서 제거, 받은 뒤 전달 전에 취소되면 자리 반환
+            sink.onCancel(() -> {
+                if (waiter.state.compareAndSet(WAITING, CANCELLED)) {
+                    synchronized (this) {
+                        waiters.remove(waiter);
+                    }
+                } else if (waiter.slot != null) {
+                    waiter.slot.release();
+                }
+            });
+            Slot granted = null;
+            boolean rejected = false;
+            synchronized (this) {
+                if (waiters.isEmpty() && inFlight < maxConcurrentCalls) {
+                    inFlight++;
+                    granted = new Slot();
+                } else if (maxWait.isZero() || maxWait.isNegative()) {
+                    rejected = true;
+                } else {
+                    waiters.add(waiter);
+                }
+            }
+            if (rejected) {
+                sink.error(full());
+            } else if (granted != null) {
+                waiter.slot = granted;
+                if (waiter.state.compareAndSet(WAITING, GRANTED)) {
+                    sink.success(granted);
+                } else {
+                    granted.release(); // 이미 취소됨
+                }
+            }
+        });
+        if (maxWait.isZero() || maxWait.isNegative()) {
+            return acquire;
+        }
+        return acquire.timeout(maxWait)
+                .onErrorMap(TimeoutException.class, e -> full());
+    }
+
+    private BusinessException full() {
+        return new BusinessException(ErrorCode.API_UNAVAILABLE,
+                name + " bulkhead full (" + maxConcurrentCalls + " calls in flight, waited " + maxWait.toMillis() + "ms)");
+    }
+
+    // 자리를 반환하고 대기 중인 호출에 넘김
+    private void release() {
+        while (true) {
+            Waiter next;
+            synchronized (this) {
+                next = waiters.poll();
+                if (next == null) {
+                    inFlight--;
+                    return;
+                }
+                next.slot = new Slot(); // 반환된 자리를 그대로 넘기므로 inFlight는 그대로
+            }
+            if (next.state.compareAndSet(WAITING, GRANTED)) {
+                next.sink.success(next.slot);
+                return;
+            }
+            // 대기 중 취소된 호출이면 다음 대기 호출에 넘김
+        }
+    }
+
+    private final class Slot {
+        private final AtomicInteger released = new AtomicInteger();
+
+        // 완료/취소 중 처음 한 번만 반환
+        private void release() {
+            if (released.compareAndSet(0, 1)) {
+                Bulkhead.this.release();
+            }
+        }
+    }
+
+    private static final class Waiter {
+        private final MonoSink<Slot> sink;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+        private volatile Slot slot;
+
+        private Waiter(MonoSink<Slot> sink) {
+            this.sink = sink;
+        }
+    }
+}
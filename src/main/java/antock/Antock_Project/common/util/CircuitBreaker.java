@@ -0,0 +1,226 @@
+package antock.Antock_Project.common.util;
+
+import antock.Antock_Project.common.exception.BusinessException;
+import antock.Antock_Project.common.exception.ErrorCode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 외부 API 하나의 circuit breaker.
+ * <ul>
+ *     <li>CLOSED: 최근 slidingWindowSize개 호출 중 실패 비율이 failureRateThreshold 이상이면 (minimumCalls개 이상 호출된 뒤) OPEN으로 전환</li>
+ *     <li>OPEN: openDuration 동안 호출하지 않고 바로 {@link ErrorCode#API_UNAVAILABLE}로 실패</li>
+ *     <li>HALF_OPEN: 시험 호출을 halfOpenCalls개까지만 허용하여 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN</li>
+ * </ul>
+ * 상태가 바뀌기 전에 시작된 호출의 결과는 새 상태에 반영하지 않습니다.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    @Getter
+    private final String name;
+    private final double failureRateThreshold;
+    private final int minimumCalls;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+    private final Predicate<Throwable> recordFailure;
+    private final LongSupplier nanoClock;
+    private final List<Consumer<State>> listeners = new CopyOnWriteArrayList<>();
+
+    // 아래 필드는 this로 동기화
+    private State state = State.CLOSED;
+    private long generation;                // 상태가 바뀔 때마다 증가
+    private long openedAtNanos;
+    private final boolean[] outcomes;       // 최근 호출 결과 (true = 실패), 원형 버퍼
+    private int outcomeCount;
+    private int outcomeIndex;
+    private int failureCount;
+    private int halfOpenInFlight;
+    private int halfOpenSucceeded;
+
+    /**
+     * @param recordFailure 실패로 기록할 오류. 그 외 오류(요청 자체의 오류 등)는 성공으로 기록
+     */
+    public CircuitBreaker(String name, double failureRateThreshold, int slidingWindowSize, int minimumCalls,
+                          Duration openDuration, int halfOpenCalls, Predicate<Throwable> recordFailure) {
+        this(name, failureRateThreshold, slidingWindowSize, minimumCalls, openDuration, halfOpenCalls, recordFailure,
+                System::nanoTime);
+    }
+
+    CircuitBreaker(String name, double failureRateThreshold, int slidingWindowSize, int minimumCalls,
+                   Duration openDuration, int halfOpenCalls, Predicate<Throwable> recordFailure, LongSupplier nanoClock) {
+        if (failureRateThreshold <= 0 || failureRateThreshold > 1) {
+            throw new IllegalArgumentException("failureRateThreshold는 0 초과 1 이하여야 합니다: " + name + "=" + failureRateThreshold);
+        }
+        if (slidingWindowSize <= 0 || minimumCalls <= 0 || halfOpenCalls <= 0) {
+            throw new IllegalArgumentException("circuit breaker 호출 수 설정은 1 이상이어야 합니다: " + name);
+        }
+        this.name = name;
+        this.failureRateThreshold = failureRateThreshold;
+        this.minimumCalls = Math.min(minimumCalls, slidingWindowSize);
+        this.openDurationNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+        this.recordFailure = recordFailure;
+        this.nanoClock = nanoClock;
+        this.outcomes = new boolean[slidingWindowSize];
+    }
+
+    /**
+     * 호출이 허용되면 작업을 구독하고 결과를 기록합니다. OPEN 상태이면 작업을 구독하지 않고 바로 실패합니다.
+     *
+     * @param task 실행할 작업 (구독 시 호출 시작)
+     * @return 작업 결과
+     */
+    public <T> Mono<T> call(Supplier<Mono<T>> task) {
+        return Mono.defer(() -> {
+            Long callGeneration = tryAcquire();
+            if (callGeneration == null) {
+                return Mono.error(new BusinessException(ErrorCode.API_UNAVAILABLE, name + " circuit breaker OPEN"));
+            }
+            AtomicBoolean recorded = new AtomicBoolean();
+            return Mono.defer(task)
+                    .doOnSuccess(value -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            onResult(callGeneration, false, true);
+                        }
+                    })
+                    .doOnError(error -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            onResult(callGeneration, recordFailure.test(error), true);
+                        }
+                    })
+                    .doFinally(signal -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            onResult(callGeneration, false, false); // 취소됨 (결과 없음)
+                        }
+                    });
+        });
+    }
+
+    /**
+     * 상태가 바뀔 때 호출할 리스너를 등록합니다. (상태를 바꾼 호출 스레드에서 실행됨)
+     */
+    public void addListener(Consumer<State> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 현재 상태. OPEN 유지 시간이 지났으면 HALF_OPEN으로 봅니다.
+     */
+    public State getState() {
+        State current;
+        synchronized (this) {
+            current = state;
+            if (current == State.OPEN && nanoClock.getAsLong() - openedAtNanos >= openDurationNanos) {
+                current = State.HALF_OPEN;
+            }
+        }
+        return current;
+    }
+
+    // 허용되면 현재 generation, 허용되지 않으면 null
+    private Long tryAcquire() {
+        State changed = null;
+        Long acquired = null;
+        synchronized (this) {
+            if (state == State.OPEN && nanoClock.getAsLong() - openedAtNanos >= openDurationNanos) {
+                changed = transition(State.HALF_OPEN);
+            }
+            if (state == State.CLOSED) {
+                acquired = generation;
+            } else if (state == State.HALF_OPEN && halfOpenInFlight < halfOpenCalls) {
+                halfOpenInFlight++;
+                acquired = generation;
+            }
+        }
+        notifyListeners(changed);
+        return acquired;
+    }
+
+    private void onResult(long callGeneration, boolean failed, boolean completed) {
+        State changed = null;
+        synchronized (this) {
+            if (callGeneration != generation) {
+                return; // 상태가 바뀌기 전에 시작된 호출
+            }
+            if (state == State.HALF_OPEN) {
+                halfOpenInFlight--;
+                if (!completed) {
+                    return;
+                }
+                if (failed) {
+                    changed = transition(State.OPEN);
+                } else if (++halfOpenSucceeded >= halfOpenCalls) {
+                    changed = transition(State.CLOSED);
+                }
+            } else if (state == State.CLOSED && completed) {
+                record(failed);
+                if (outcomeCount >= minimumCalls && failureCount >= failureRateThreshold * outcomeCount) {
+                    log.warn("Circuit breaker [{}] opening: {}/{} recent calls failed", name, failureCount, outcomeCount);
+                    changed = transition(State.OPEN);
+                }
+            }
+        }
+        notifyListeners(changed);
+    }
+
+    // this로 동기화된 상태에서 호출
+    private void record(boolean failed) {
+        if (outcomeCount == outcomes.length) {
+            if (outcomes[outcomeIndex]) {
+                failureCount--;
+            }
+        } else {
+            outcomeCount++;
+        }
+        outcomes[outcomeIndex] = failed;
+        if (failed) {
+            failureCount++;
+        }
+        outcomeIndex = (outcomeIndex + 1) % outcomes.length;
+    }
+
+    // this로 동기화된 상태에서 호출
+    private State transition(State next) {
+        log.info("Circuit breaker [{}] {} -> {}", name, state, next);
+        state = next;
+        generation++;
+        halfOpenInFlight = 0;
+        halfOpenSucceeded = 0;
+        if (next == State.OPEN) {
+            openedAtNanos = nanoClock.getAsLong();
+        } else if (next == State.CLOSED) {
+            outcomeCount = 0;
+            outcomeIndex = 0;
+            failureCount = 0;
+        }
+        return next;
+    }
+
+    private void notifyListeners(State changed) {
+        if (changed == null) {
+            return;
+        }
+        for (Consumer<State> listener : listeners) {
+            try {
+                listener.accept(changed);
+            } catch (RuntimeException e) {
+                log.warn("Circuit breaker [{}] listener failed: {}", name, e.getMessage(), e);
+            }
+        }
+    }
+}
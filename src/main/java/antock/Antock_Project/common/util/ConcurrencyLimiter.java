@@ -0,0 +1,59 @@
+package antock.Antock_Project.common.util;
+
+import antock.Antock_Project.common.exception.BusinessException;
+import antock.Antock_Project.common.exception.ErrorCode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * 세마포어 기반 동시 실행 수 제한기.
+ * 가상 스레드처럼 스레드 수 자체로는 동시성이 제한되지 않는 환경에서, 외부 API별로 동시에 진행 중인 블로킹 호출 수를 제한합니다.
+ */
+@Slf4j
+public class ConcurrencyLimiter {
+
+    @Getter
+    private final String name;
+    @Getter
+    private final int limit;
+    private final Semaphore semaphore;
+
+    public ConcurrencyLimiter(String name, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("동시 실행 제한은 1 이상이어야 합니다: " + name + "=" + limit);
+        }
+        this.name = name;
+        this.limit = limit;
+        this.semaphore = new Semaphore(limit);
+    }
+
+    /**
+     * 허가를 얻을 때까지 대기한 뒤 작업을 실행합니다.
+     *
+     * @param task 실행할 작업 (블로킹 호출)
+     * @return 작업 결과
+     */
+    public <T> T call(Supplier<T> task) {
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.API_REQUEST_FAILED, name + " 호출 대기 중 인터럽트 발생");
+        }
+        try {
+            return task.get();
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    /**
+     * 현재 진행 중인 호출 수
+     */
+    public int getInFlight() {
+        return limit - semaphore.availablePermits();
+    }
+}
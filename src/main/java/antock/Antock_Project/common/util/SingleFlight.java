@@ -0,0 +1,143 @@
+package antock.Antock_Project.common.util;
+
+import antock.Antock_Project.common.exception.BusinessException;
+import antock.Antock_Project.common.exception.ErrorCode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 호출을 하나로 합치는 single-flight 실행기.
+ * 어떤 키의 호출이 진행 중일 때 같은 키로 들어온 요청은 새 호출을 만들지 않고, 진행 중인 호출의 결과(또는 예외)를 함께 받습니다.
+ * 호출이 끝나면 키가 제거되므로 결과를 보관하지는 않습니다. (결과 보관은 캐시 계층의 역할)
+ * 블로킹 호출과 논블로킹 호출이 같은 키를 공유합니다.
+ */
+@Slf4j
+public class SingleFlight<K, V> {
+
+    @Getter
+    private final String name;
+    private final ConcurrentMap<K, CompletableFuture<Optional<V>>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder sharedCalls = new LongAdder();
+
+    public SingleFlight(String name) {
+        this.name = name;
+    }
+
+    /**
+     * 같은 키의 호출이 진행 중이면 그 결과를 기다리고, 없으면 직접 호출합니다.
+     *
+     * @param key  호출 키
+     * @param call 실행할 블로킹 호출
+     * @return 호출 결과
+     */
+    public Optional<V> execute(K key, Supplier<Optional<V>> call) {
+        CompletableFuture<Optional<V>> created = new CompletableFuture<>();
+        CompletableFuture<Optional<V>> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            sharedCalls.increment();
+            log.debug("{} single-flight: joining in-flight call for {}", name, key);
+            return await(existing);
+        }
+
+        calls.increment();
+        try {
+            Optional<V> result = call.get();
+            complete(key, created, result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            fail(key, created, e);
+            throw e;
+        }
+    }
+
+    /**
+     * {@link #execute(Object, Supplier)}의 논블로킹 버전. 구독 시점에 진행 중인 호출을 확인합니다.
+     * 진행 중인 호출을 기다리던 구독자가 취소해도 원래 호출은 취소되지 않습니다.
+     *
+     * @param key  호출 키
+     * @param call 실행할 논블로킹 호출
+     * @return 호출 결과 (결과가 없으면 empty Mono)
+     */
+    public Mono<V> executeReactive(K key, Supplier<Mono<V>> call) {
+        return Mono.defer(() -> {
+            CompletableFuture<Optional<V>> created = new CompletableFuture<>();
+            CompletableFuture<Optional<V>> existing = inFlight.putIfAbsent(key, created);
+            if (existing != null) {
+                sharedCalls.increment();
+                log.debug("{} single-flight: joining in-flight call for {}", name, key);
+                return Mono.fromFuture(existing, true).flatMap(Mono::justOrEmpty);
+            }
+
+            calls.increment();
+            return call.get()
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .doOnNext(result -> complete(key, created, result))
+                    .doOnError(e -> fail(key, created, e))
+                    .doOnCancel(() -> fail(key, created,
+                            new CancellationException(name + " 호출이 취소되었습니다: " + key)))
+                    .flatMap(Mono::justOrEmpty);
+        });
+    }
+
+    /**
+     * 실제로 실행된 호출 수
+     */
+    public long getCallCount() {
+        return calls.sum();
+    }
+
+    /**
+     * 진행 중인 호출의 결과를 공유받은 요청 수
+     */
+    public long getSharedCount() {
+        return sharedCalls.sum();
+    }
+
+    /**
+     * 현재 진행 중인 호출 수
+     */
+    public int getInFlight() {
+        return inFlight.size();
+    }
+
+    // 키를 먼저 제거한 뒤 완료시켜, 완료 이후의 요청은 새 호출을 만들도록 함
+    private void complete(K key, CompletableFuture<Optional<V>> future, Optional<V> result) {
+        inFlight.remove(key, future);
+        future.complete(result);
+    }
+
+    private void fail(K key, CompletableFuture<Optional<V>> future, Throwable e) {
+        inFlight.remove(key, future);
+        future.completeExceptionally(e);
+    }
+
+    private Optional<V> await(CompletableFuture<Optional<V>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.API_REQUEST_FAILED, name + " 호출 대기 중 인터럽트 발생");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new BusinessException(ErrorCode.API_REQUEST_FAILED, name + " 호출 실패: " + cause.getMessage());
+        }
+    }
+}
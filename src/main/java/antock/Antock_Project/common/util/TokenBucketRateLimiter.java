@@ -0,0 +1,81 @@
+package antock.Antock_Project.common.util;
+
+import lombok.Getter;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 초당 요청 수를 제한하는 토큰 버킷.
+ * 요청마다 다음 토큰이 생기는 시각을 예약하는 방식(virtual scheduling)으로 구현하여 락 없이 CAS 한 번으로 동작합니다.
+ * 쉬는 동안 토큰은 최대 burst개까지 쌓이며, 쌓인 토큰이 없으면 다음 토큰이 생길 때까지 대기합니다.
+ * 예약 후에는 취소할 수 없으므로 대기 중 요청이 취소되어도 토큰은 사용한 것으로 봅니다.
+ */
+public class TokenBucketRateLimiter {
+
+    @Getter
+    private final String name;
+    @Getter
+    private final double permitsPerSecond;
+    private final long intervalNanos;   // 토큰 하나가 생기는 간격
+    private final long burstNanos;      // 쌓일 수 있는 토큰 (burst - 1) * interval
+    private final AtomicLong nextFreeNanos;
+
+    /**
+     * @param permitsPerSecond 초당 허용 요청 수 (0 이하면 제한 없음)
+     * @param burst            쉬는 동안 쌓일 수 있는 최대 토큰 수
+     */
+    public TokenBucketRateLimiter(String name, double permitsPerSecond, int burst) {
+        this.name = name;
+        this.permitsPerSecond = permitsPerSecond;
+        this.intervalNanos = permitsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond) : 0;
+        this.burstNanos = intervalNanos * Math.max(0, burst - 1);
+        this.nextFreeNanos = new AtomicLong(System.nanoTime() - burstNanos);
+    }
+
+    public boolean isUnlimited() {
+        return intervalNanos == 0;
+    }
+
+    /**
+     * 토큰 하나를 예약하고, 사용할 수 있을 때까지 기다려야 하는 시간을 반환합니다.
+     *
+     * @return 대기 시간 (nanos, 바로 사용할 수 있으면 0)
+     */
+    public long reserve() {
+        if (isUnlimited()) {
+            return 0;
+        }
+        while (true) {
+            long now = System.nanoTime();
+            long next = nextFreeNanos.get();
+            long slot = Math.max(next, now - burstNanos); // 쌓인 토큰은 burst개까지만 인정
+            if (nextFreeNanos.compareAndSet(next, slot + intervalNanos)) {
+                return Math.max(0, slot - now);
+            }
+        }
+    }
+
+    /**
+     * 토큰을 얻을 때까지 대기합니다. (블로킹)
+     */
+    public void acquire() throws InterruptedException {
+        long waitNanos = reserve();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * 토큰을 얻으면 완료되는 Mono. 대기는 스레드를 점유하지 않습니다.
+     * 구독할 때마다 토큰을 하나씩 예약하므로 재시도 시에도 다시 제한을 받습니다.
+     */
+    public Mono<Void> acquireReactive() {
+        return Mono.defer(() -> {
+            long waitNanos = reserve();
+            return waitNanos > 0 ? Mono.delay(Duration.ofNanos(waitNanos)).then() : Mono.empty();
+        });
+    }
+}
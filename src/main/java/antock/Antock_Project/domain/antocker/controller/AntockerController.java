@@ -1,16 +1,27 @@
 package antock.Antock_Project.domain.antocker.controller;
 
-import antock.Antock_Project.domain.antocker.service.AntockerService;
+import antock.Antock_Project.domain.antocker.dto.ImportJobProgressResponse;
+import antock.Antock_Project.domain.antocker.dto.RegionBatchRequest;
+import antock.Antock_Project.domain.antocker.service.ImportJobRegistry;
+import antock.Antock_Project.domain.antocker.service.ImportJobTracker;
+import antock.Antock_Project.domain.antocker.service.RegionImportScheduler;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.concurrent.CompletableFuture;
+import java.net.URI;
+import java.util.List;
 
 @Slf4j
 @RestController
@@ -18,35 +29,68 @@ import java.util.concurrent.CompletableFuture;
 @RequiredArgsConstructor
 public class AntockerController {
 
-    private final AntockerService antockerService;
+    private final RegionImportScheduler regionImportScheduler;
+    private final ImportJobRegistry importJobRegistry;
 
     /**
      * 지정된 지역의 통신판매사업자 데이터 처리 프로세스를 시작합니다.
-     * 비동기 서비스 호출 후 즉시 응답합니다.
+     * 비동기 서비스 호출 후 즉시 응답합니다. 같은 지역의 작업이 이미 진행 중이면 그 작업을 반환합니다.
+     * 응답의 작업 id로 진행 상황을 조회(GET /jobs/{id})하거나 구독(GET /jobs/{id}/events)할 수 있습니다.
      *
      * @param region 처리할 지역 (예: "서울특별시")
-     * @return 처리 시작 응답 (HTTP 202 Accepted)
+     * @return 처리 시작 응답 (HTTP 202 Accepted, Location: 작업 조회 URL)
      */
     @PostMapping("/process")
-    public ResponseEntity<String> startProcessing(@RequestParam String region) {
+    public ResponseEntity<ImportJobProgressResponse> startProcessing(@RequestParam String region) {
         log.info("Received request to start processing for region: {}", region);
 
-        // AntockerService의 비동기 메소드 호출
-        CompletableFuture<Integer> futureResult = antockerService.processAndSaveAntockerData(region);
-
+        // 스케줄러를 통해 비동기 작업 시작 (작업 결과는 스케줄러가 tracker에 기록)
         // 비동기 작업 완료 여부와 관계없이 즉시 응답
-        // 비동기 작업 결과 처리가 필요하다면 콜백 등을 사용하여 별도 처리
-        futureResult.whenComplete((result, ex) -> {
-            if (ex != null) {
-                // 비동기 작업 중 예외 발생 시 로그 기록 (별도의 에러 알림 메커니즘 고려)
-                log.error("Asynchronous processing failed for region: {} - Error: {}", region, ex.getMessage(), ex);
-            } else {
-                // 비동기 작업 성공 시 로그 기록
-                log.info("Asynchronous processing completed successfully for region: {}. Saved {} items.", region, result);
-            }
-        });
+        ImportJobTracker tracker = regionImportScheduler.submit(region);
 
         // 클라이언트에게는 처리 요청이 접수되었음을 알림 (HTTP 202 Accepted)
-        return ResponseEntity.status(HttpStatus.ACCEPTED).body("Processing started for region: " + region);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .location(URI.create("/api/antockers/jobs/" + tracker.getId()))
+                .body(tracker.progress());
+    }
+
+    /**
+     * 여러 지역의 데이터 처리 프로세스를 한 번에 시작합니다.
+     * 작업은 antocker.scheduler.max-concurrent-regions개씩 실행되고, 나머지는 대기합니다.
+     *
+     * @param request 처리할 시/도 목록 (["all"]이면 모든 시/도)
+     * @return 지역별 작업 (HTTP 202 Accepted)
+     */
+    @PostMapping("/process/batch")
+    public ResponseEntity<List<ImportJobProgressResponse>> startBatchProcessing(
+            @Valid @RequestBody RegionBatchRequest request) {
+        log.info("Received request to start processing for regions: {}", request.getRegions());
+
+        List<ImportJobProgressResponse> jobs = regionImportScheduler.submitAll(request.getRegions()).stream()
+                .map(ImportJobTracker::progress)
+                .toList();
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(jobs);
+    }
+
+    /**
+     * 적재 작업의 현재 진행 상황을 조회합니다.
+     *
+     * @param id 작업 id (POST /process 응답의 id)
+     * @return 단계별 처리 건수, 현재 처리량, 예상 남은 시간
+     */
+    @GetMapping("/jobs/{id}")
+    public ResponseEntity<ImportJobProgressResponse> getJob(@PathVariable String id) {
+        return ResponseEntity.ok(importJobRegistry.get(id).progress());
+    }
+
+    /**
+     * 적재 작업의 진행 상황을 SSE로 구독합니다.
+     * 주기적으로 "progress" 이벤트를 보내고, 작업이 끝나면 "done" 이벤트 후 연결을 닫습니다.
+     *
+     * @param id 작업 id
+     */
+    @GetMapping(value = "/jobs/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamJob(@PathVariable String id) {
+        return importJobRegistry.subscribe(id);
     }
 }
@@ -0,0 +1,43 @@
+package antock.Antock_Project.domain.antocker.dto;
+
+import antock.Antock_Project.domain.antocker.entity.ImportJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 적재 작업 진행 상황 응답 (GET /api/antockers/jobs/{id}, SSE progress 이벤트)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJobProgressResponse {
+
+    private String id;
+    private String region;
+    private ImportJobStatus status;
+    private Long importJobId;      // DB에 기록된 작업(checkpoint) id, 다운로드 전에는 null
+
+    private long parsedRows;       // 파싱된 행
+    private long enrichedRows;     // 외부 API 처리 완료
+    private long pendingRows;      // 외부 API 장애로 보강 대기 상태로 처리 (enrichedRows에 포함)
+    private long cacheHits;        // 작업 시작 이후 외부 API 캐시 적중 (동시 실행 중인 작업 포함)
+    private long savedRows;        // DB 저장 완료
+    private long failedRows;       // 처리 실패
+    private long duplicateRows;    // 파일 내 중복으로 제외
+    private long existingRows;     // 이미 저장되어 있어 제외
+    private long checkpointRow;    // 이 순번 미만의 행은 모두 저장되었거나 건너뛰었음
+
+    private double rowsPerSecond;  // 현재 처리량
+    private Long etaSeconds;       // 예상 남은 시간 (전체 행 수를 모르면 null)
+
+    private Integer savedCount;    // 완료 시 저장된 개수
+    private String errorMessage;   // 실패 시 원인
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private long elapsedMillis;
+}
@@ -0,0 +1,16 @@
+package antock.Antock_Project.domain.antocker.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class RegionBatchRequest {
+
+    @NotEmpty(message = "처리할 시/도 (regions)는 필수 입력값입니다. (전체는 \"all\")")
+    private List<String> regions;
+
+}
@@ -34,6 +34,21 @@ public class Antocker {
     @Column(nullable = true, length = 10) // 행정구역코드 길이 고려 (예: 10자리)
     private String administrativeCode; // 행정구역코드 (Nullable)
 
+    // --- 증분 적재(delta sync)용 필드 ---
+    @Column(nullable = true)
+    private Long rowFingerprint; // CSV 행 내용 해시 (변경 여부 비교용, CsvRow.fingerprint())
+
+    @Column(nullable = true, length = 100)
+    private String sourceRegion; // 마지막으로 적재된 지역 조건 (예: "서울,강남구")
+
+    @Builder.Default
+    @Column(nullable = false)
+    private boolean removed = false; // 최근 적재한 지역 CSV에 더 이상 없는 경우 true
+
+    @Builder.Default
+    @Column(nullable = false)
+    private boolean enrichmentPending = false; // 외부 API 장애로 법인등록번호/행정구역코드를 조회하지 못한 경우 true (나중에 다시 조회)
+
     // --- CSV 및 API에서 가져올 수 있는 다른 필요한 필드들 추가 --- 
     // 예시:
     // @Column(length = 50)
@@ -78,6 +93,9 @@ public class Antocker {
                 ", companyName='" + companyName + '\'' +
                 ", address='" + address + '\'' +
                 ", administrativeCode='" + administrativeCode + '\'' +
+                ", sourceRegion='" + sourceRegion + '\'' +
+                ", removed=" + removed +
+                ", enrichmentPending=" + enrichmentPending +
                 // ... 다른 필드 추가
                 '}';
     }
@@ -0,0 +1,54 @@
+package antock.Antock_Project.domain.antocker.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 지역 적재 작업과 checkpoint.
+ * 배치가 커밋될 때마다 같은 트랜잭션에서 lastCommittedRow를 갱신하므로,
+ * 작업이 중단되어도 다운로드한 파일(sourceFile)과 checkpoint로 남은 행부터 다시 처리할 수 있습니다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "import_job", indexes = {
+        @Index(name = "idx_import_job_region_status", columnList = "region, status")
+})
+public class ImportJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String region; // 지역 조건 (예: "서울,강남구")
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ImportJobStatus status;
+
+    @Column(length = 500)
+    private String sourceFile; // 작업 전용으로 보관한 CSV 파일 경로
+
+    @Column(length = 64)
+    private String sourceFileHash; // CSV 파일 SHA-256 (재개 시 파일 변경 여부 확인)
+
+    private long lastCommittedRow; // 이 순번 미만의 행은 모두 저장되었거나 건너뛰었음 (0부터)
+    private long parsedRows;       // 마지막 실행에서 읽은 행 수
+    private long savedRows;        // 지금까지 저장된 행 수 (재개 전 실행 포함)
+    private int resumeAttempts;    // 재개한 횟수 (한도를 넘으면 재개하지 않고 다시 다운로드)
+
+    @Column(length = 1000)
+    private String errorMessage;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
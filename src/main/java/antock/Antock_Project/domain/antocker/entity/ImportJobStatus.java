@@ -0,0 +1,12 @@
+package antock.Antock_Project.domain.antocker.entity;
+
+/**
+ * 지역 적재 작업 상태
+ */
+public enum ImportJobStatus {
+    RUNNING,     // 실행 중
+    COMPLETED,   // 완료
+    FAILED,      // 실패 (checkpoint부터 재개 가능)
+    INTERRUPTED, // 실행 중 애플리케이션 종료 (checkpoint부터 재개 가능)
+    ABANDONED    // 재개 포기 (재개 횟수/기간 초과, 파일 없음, 또는 더 최신 작업이 있음). 보관한 파일은 삭제됨
+}
@@ -0,0 +1,36 @@
+package antock.Antock_Project.domain.antocker.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 지역별 마지막 적재 결과 (증분 적재 manifest).
+ * 행 단위 변경 여부는 Antocker.rowFingerprint로 비교하고, 여기에는 지역 단위 요약만 저장합니다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "region_import_manifest")
+public class RegionImportManifest {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 100)
+    private String region; // 지역 조건 (예: "서울,강남구")
+
+    @Column(nullable = false)
+    private LocalDateTime lastImportedAt; // 마지막 적재 완료 시각
+
+    private long totalRows;     // CSV 전체 행 수
+    private long newRows;       // 새로 추가된 행
+    private long changedRows;   // 내용이 바뀌어 다시 처리한 행
+    private long unchangedRows; // 변경이 없어 건너뛴 행
+    private long removedRows;   // CSV에서 사라져 removed로 표시한 행
+}
@@ -1,9 +1,14 @@
 package antock.Antock_Project.domain.antocker.repository;
 
 import antock.Antock_Project.domain.antocker.entity.Antocker;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +26,62 @@ public interface AntockerRepository extends JpaRepository<Antocker, Long> {
     // 여러 사업자등록번호로 Antocker 리스트 조회
     List<Antocker> findByBusinessRegistrationNumberIn(List<String> businessNumbers);
 
+    // 저장된 사업자등록번호를 id 순으로 조회 (afterId 이후부터, 엔티티를 로딩하지 않음). 전체를 한 번에 조회하지 않기 위해 나눠서 조회
+    @Query("select a.id as id, a.businessRegistrationNumber as businessRegistrationNumber from Antocker a"
+            + " where a.id > :afterId order by a.id")
+    List<BusinessNumberEntry> findBusinessRegistrationNumbersAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 주어진 사업자등록번호 중 이미 저장된 번호만 조회 (엔티티를 로딩하지 않음)
+    @Query("select a.businessRegistrationNumber from Antocker a where a.businessRegistrationNumber in :businessNumbers")
+    List<String> findExistingBusinessRegistrationNumbers(@Param("businessNumbers") Collection<String> businessNumbers);
+
+    // 지역의 사업자등록번호별 행 내용 해시 조회 (증분 적재 비교용)
+    @Query("select a.businessRegistrationNumber as businessRegistrationNumber, a.rowFingerprint as rowFingerprint,"
+            + " a.removed as removed from Antocker a where a.sourceRegion = :region")
+    List<RowFingerprint> findRowFingerprintsBySourceRegion(@Param("region") String region);
+
+    // CSV에서 사라진 행을 removed로 표시
+    @Modifying
+    @Query("update Antocker a set a.removed = true"
+            + " where a.sourceRegion = :region and a.businessRegistrationNumber in :businessNumbers")
+    int markRemoved(@Param("region") String region, @Param("businessNumbers") Collection<String> businessNumbers);
+
+    // 외부 API 장애로 보강하지 못한 행을 id 순으로 조회 (afterId 이후부터, 다시 조회용)
+    List<Antocker> findByEnrichmentPendingTrueAndIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
+    long countByEnrichmentPendingTrue();
+
+    // 다시 보강한 결과만 갱신. 아직 보강 대기 중이고 주소가 보강할 때 읽은 주소와 같은 행만 갱신하여,
+    // 그 사이 적재(upsert)로 바뀐 행을 덮어쓰지 않음
+    @Modifying
+    @Query("update Antocker a set a.corporateRegistrationNumber = :corporateRegistrationNumber,"
+            + " a.administrativeCode = :administrativeCode, a.enrichmentPending = false"
+            + " where a.id = :id and a.enrichmentPending = true"
+            + " and (a.address = :address or (a.address is null and :address is null))")
+    int completeEnrichment(@Param("id") Long id, @Param("address") String address,
+                           @Param("corporateRegistrationNumber") String corporateRegistrationNumber,
+                           @Param("administrativeCode") String administrativeCode);
+
+    /**
+     * 사업자등록번호 조회용 projection (id는 다음 조회 시작 위치)
+     */
+    interface BusinessNumberEntry {
+        Long getId();
+
+        String getBusinessRegistrationNumber();
+    }
+
+    /**
+     * 증분 적재 비교용 projection
+     */
+    interface RowFingerprint {
+        String getBusinessRegistrationNumber();
+
+        Long getRowFingerprint();
+
+        boolean isRemoved();
+    }
+
     // 필요에 따라 다른 조회 메소드 추가 가능 (예: 상호명으로 검색, 특정 조건으로 목록 조회 등)
     // List<Antocker> findByCompanyNameContaining(String companyName);
 }
@@ -0,0 +1,40 @@
+package antock.Antock_Project.domain.antocker.repository;
+
+import antock.Antock_Project.domain.antocker.entity.ImportJob;
+import antock.Antock_Project.domain.antocker.entity.ImportJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ImportJobRepository extends JpaRepository<ImportJob, Long> {
+
+    // 지역의 가장 최근 작업 중 주어진 상태인 작업 조회
+    Optional<ImportJob> findFirstByRegionAndStatusInOrderByIdDesc(String region, Collection<ImportJobStatus> statuses);
+
+    // 지역의 주어진 상태인 작업 전체 조회
+    List<ImportJob> findByRegionAndStatusIn(String region, Collection<ImportJobStatus> statuses);
+
+    // 주어진 작업보다 나중에 시작된 작업 중 주어진 상태인 작업이 있는지 (예: 실패한 작업 이후 완료된 작업)
+    boolean existsByRegionAndStatusAndIdGreaterThan(String region, ImportJobStatus status, Long id);
+
+    // 배치 커밋과 같은 트랜잭션에서 checkpoint 갱신
+    @Modifying
+    @Query("update ImportJob j set j.lastCommittedRow = :checkpoint, j.savedRows = j.savedRows + :saved,"
+            + " j.updatedAt = :now where j.id = :id")
+    int updateCheckpoint(@Param("id") Long id, @Param("checkpoint") long checkpoint, @Param("saved") long saved,
+                         @Param("now") LocalDateTime now);
+
+    // 애플리케이션 시작 시 이전 실행에서 끝나지 않은 작업을 INTERRUPTED로 변경
+    @Modifying
+    @Query("update ImportJob j set j.status = :to, j.updatedAt = :now where j.status = :from")
+    int updateStatus(@Param("from") ImportJobStatus from, @Param("to") ImportJobStatus to,
+                     @Param("now") LocalDateTime now);
+}
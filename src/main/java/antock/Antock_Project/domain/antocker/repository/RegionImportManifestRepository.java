@@ -0,0 +1,13 @@
+package antock.Antock_Project.domain.antocker.repository;
+
+import antock.Antock_Project.domain.antocker.entity.RegionImportManifest;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface RegionImportManifestRepository extends JpaRepository<RegionImportManifest, Long> {
+
+    Optional<RegionImportManifest> findByRegion(String region);
+}
@@ -1,17 +1,24 @@
 package antock.Antock_Project.domain.antocker.service;
 
+import antock.Antock_Project.common.config.ImportPipelineProperties;
 import antock.Antock_Project.domain.antocker.entity.Antocker;
 import antock.Antock_Project.external.Antocker.AntockerApiClient;
 import antock.Antock_Project.external.Antocker.dto.AntockerDetailResponse;
 import antock.Antock_Project.external.address.AddressApiClient;
 import antock.Antock_Project.external.address.dto.AddressResponse;
+import antock.Antock_Project.external.csv.CsvRow;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
@@ -19,63 +26,221 @@ public class AntockerDataProcessor {
 
     private final AntockerApiClient antockerApiClient;
     private final AddressApiClient addressApiClient;
+    private final ImportPipelineProperties pipelineProperties;
 
-    public AntockerDataProcessor(AntockerApiClient antockerApiClient, AddressApiClient addressApiClient) {
+    public AntockerDataProcessor(AntockerApiClient antockerApiClient, AddressApiClient addressApiClient,
+                                 ImportPipelineProperties pipelineProperties) {
         this.antockerApiClient = antockerApiClient;
         this.addressApiClient = addressApiClient;
+        this.pipelineProperties = pipelineProperties;
     }
 
     @Async("antockerDataProcessorExecutor") // 사용할 Executor 빈 이름 지정
-    public CompletableFuture<Antocker> processAntockerData(Map<String, String> csvRow) {
-        String bizRegNum = csvRow.get("사업자등록번호"); // "사업자등록번호" 컬럼명으로 변경
-        String companyName = csvRow.get("상호"); // "상호" 컬럼명으로 변경
-        String address = csvRow.get("사업장주소"); // "사업장주소" 컬럼명으로 변경
+    public CompletableFuture<Antocker> processAntockerData(CsvRow csvRow) {
+        // 헤더 인덱스가 미리 계산된 typed accessor 사용 (행마다 문자열 키 해싱 없음)
+        String bizRegNum = csvRow.getBusinessRegistrationNumber(); // 사업자등록번호
+        String companyName = csvRow.getCompanyName(); // 상호
+        String address = csvRow.getAddress(); // 사업장주소
 
         log.info("데이터 처리 시작 (Thread: {}): 상호 = {}", Thread.currentThread().getName(), companyName); // 스레드 이름 로깅
 
         // 1. 통신판매사업자 등록상세 API 호출 (인터페이스 메소드명 사용 및 Optional 처리)
-        Optional<AntockerDetailResponse> detailOptional = antockerApiClient.fetchAntockerDetails(bizRegNum);
-        String crpNo = detailOptional
+        // 호출이 실패하거나 circuit breaker/bulkhead로 차단되면 값 없이 "보강 대기"로 저장하고 나중에 다시 조회
+        Lookup crpNo = lookup("통신판매사업자 등록상세 API", bizRegNum,
+                () -> antockerApiClient.fetchAntockerDetails(bizRegNum).map(AntockerDataProcessor::extractCrpNo));
+
+        if (crpNo.value() != null) {
+            log.info("통신판매사업자 등록상세 API 응답 (Thread: {}): 법인등록번호 = {}", Thread.currentThread().getName(), crpNo.value()); // 스레드
+                                                                                                                // 이름 로깅
+        } else if (!crpNo.pending()) {
+            log.warn("통신판매사업자 등록상세 API 응답 오류 또는 데이터 없음 (Thread: {})", Thread.currentThread().getName()); // 스레드 이름 로깅
+        }
+
+        // 2. 공공주소 API 호출 (인터페이스 메소드명 사용 및 Optional 처리)
+        Lookup admCd = lookup("공공주소 API", companyName,
+                () -> addressApiClient.fetchAddressInfo(address).map(AntockerDataProcessor::extractAdmCd));
+
+        if (admCd.value() != null) {
+            log.info("공공주소 API 응답 (Thread: {}): 행정구역코드 = {}", Thread.currentThread().getName(), admCd.value()); // 스레드 이름 로깅
+        } else if (!admCd.pending()) {
+            log.warn("공공주소 API 응답 오류 또는 데이터 없음 (Thread: {})", Thread.currentThread().getName()); // 스레드 이름 로깅
+        }
+
+        // 3. Antocker 엔티티 생성 및 데이터 매핑 (엔티티 필드명과 일치하도록 수정)
+        Antocker antocker = buildAntocker(bizRegNum, companyName, address, crpNo, admCd);
+
+        log.info("데이터 처리 완료 (Thread: {}): 상호 = {}", Thread.currentThread().getName(), companyName); // 스레드 이름 로깅
+        return CompletableFuture.completedFuture(antocker); // CompletableFuture 반환
+    }
+
+    /**
+     * CSV 행 하나를 논블로킹으로 처리합니다.
+     * 두 외부 API(통신판매사업자 상세, 공공주소)를 동시에 호출하며, 스레드를 점유하지 않고 응답을 기다립니다.
+     *
+     * @param csvRow 처리할 CSV 행
+     * @return 처리된 Antocker (API 호출 실패 시 해당 값 없이 enrichmentPending=true)
+     */
+    public Mono<Antocker> processAntockerDataReactive(CsvRow csvRow) {
+        return enrichReactive(csvRow.getBusinessRegistrationNumber(), csvRow.getCompanyName(), csvRow.getAddress());
+    }
+
+    /**
+     * 사업자 정보 하나를 외부 API로 보강합니다. (CSV 처리와 보강 대기 행 재처리에서 사용)
+     *
+     * @param bizRegNum   사업자등록번호
+     * @param companyName 상호
+     * @param address     사업장주소
+     * @return 보강된 Antocker (API 호출 실패 시 해당 값 없이 enrichmentPending=true)
+     */
+    public Mono<Antocker> enrichReactive(String bizRegNum, String companyName, String address) {
+        // 결과가 없는 경우(empty)도 zip이 진행되도록 Lookup으로 감쌈
+        Mono<Lookup> crpNoMono = lookupReactive("통신판매사업자 등록상세 API", bizRegNum,
+                antockerApiClient.fetchAntockerDetailsReactive(bizRegNum).mapNotNull(AntockerDataProcessor::extractCrpNo));
+        Mono<Lookup> admCdMono = lookupReactive("공공주소 API", companyName,
+                addressApiClient.fetchAddressInfoReactive(address).mapNotNull(AntockerDataProcessor::extractAdmCd));
+
+        return Mono.zip(crpNoMono, admCdMono)
+                .map(tuple -> {
+                    if (tuple.getT1().isEmpty()) {
+                        log.warn("통신판매사업자 등록상세 API 응답 오류 또는 데이터 없음: 사업자등록번호 = {}", bizRegNum);
+                    }
+                    if (tuple.getT2().isEmpty()) {
+                        log.warn("공공주소 API 응답 오류 또는 데이터 없음: 상호 = {}", companyName);
+                    }
+                    return buildAntocker(bizRegNum, companyName, address, tuple.getT1(), tuple.getT2());
+                });
+    }
+
+    /**
+     * 여러 CSV 행을 논블로킹으로 처리합니다.
+     * 동시에 처리 중인 행 수는 antocker.pipeline.enrich-concurrency로 제한되며,
+     * 이벤트 루프 스레드 몇 개로 수천 건의 요청을 동시에 처리할 수 있습니다. (결과 순서는 보장하지 않음)
+     *
+     * @param csvRows 처리할 CSV 행
+     * @return 처리된 Antocker
+     */
+    public Flux<Antocker> processAntockerDataReactive(Flux<CsvRow> csvRows) {
+        return csvRows.flatMap(this::processAntockerDataReactive, pipelineProperties.getEnrichConcurrency());
+    }
+
+    /**
+     * 여러 CSV 행을 묶음 하나로 처리합니다. (antocker.pipeline.enrich-batch-size > 1, async 모드)
+     * 외부 API 호출은 논블로킹으로 동시에 진행하며, 이 스레드는 묶음 전체의 결과만 기다립니다.
+     *
+     * @param csvRows 처리할 CSV 행
+     * @return csvRows와 같은 순서의 처리 결과
+     */
+    @Async("antockerDataProcessorExecutor")
+    public CompletableFuture<List<Antocker>> processAntockerDataBatch(List<CsvRow> csvRows) {
+        log.debug("묶음 처리 시작 (Thread: {}): {}건", Thread.currentThread().getName(), csvRows.size());
+        return CompletableFuture.completedFuture(processAntockerDataBatchReactive(csvRows).block());
+    }
+
+    /**
+     * 여러 CSV 행을 묶음 하나로 논블로킹 처리합니다.
+     * 통신판매사업자 상세는 묶음의 사업자등록번호를 한 번에 조회하고({@link AntockerApiClient#fetchAntockerDetailsBatchReactive}),
+     * 공공주소는 행마다 조회하되 상세 조회와 동시에 진행합니다.
+     *
+     * @param csvRows 처리할 CSV 행
+     * @return csvRows와 같은 순서의 처리 결과 (API 호출 실패 시 해당 값 없이 enrichmentPending=true)
+     */
+    public Mono<List<Antocker>> processAntockerDataBatchReactive(List<CsvRow> csvRows) {
+        List<String> bizRegNums = csvRows.stream().map(CsvRow::getBusinessRegistrationNumber).toList();
+        Mono<Map<String, AntockerDetailResponse>> detailsMono = antockerApiClient
+                .fetchAntockerDetailsBatchReactive(bizRegNums)
+                .onErrorResume(e -> {
+                    log.warn("통신판매사업자 등록상세 API 묶음 조회 실패, 보강 대기로 저장: {}건 ({})", csvRows.size(), e.getMessage());
+                    return Mono.just(Map.of());
+                });
+        Mono<List<Lookup>> admCdsMono = Flux.fromIterable(csvRows)
+                .flatMapSequential(row -> lookupReactive("공공주소 API", row.getCompanyName(),
+                        addressApiClient.fetchAddressInfoReactive(row.getAddress())
+                                .mapNotNull(AntockerDataProcessor::extractAdmCd)), csvRows.size())
+                .collectList();
+
+        return Mono.zip(detailsMono, admCdsMono)
+                .map(tuple -> {
+                    Map<String, AntockerDetailResponse> details = tuple.getT1();
+                    List<Antocker> antockers = new ArrayList<>(csvRows.size());
+                    for (int i = 0; i < csvRows.size(); i++) {
+                        CsvRow row = csvRows.get(i);
+                        String bizRegNum = row.getBusinessRegistrationNumber();
+                        Lookup crpNo;
+                        if (bizRegNum == null) {
+                            crpNo = Lookup.EMPTY;
+                        } else if (details.containsKey(bizRegNum)) {
+                            crpNo = new Lookup(extractCrpNo(details.get(bizRegNum)), false);
+                        } else {
+                            log.warn("통신판매사업자 등록상세 API 호출 실패, 보강 대기로 저장: {}", bizRegNum);
+                            crpNo = Lookup.PENDING;
+                        }
+                        antockers.add(buildAntocker(bizRegNum, row.getCompanyName(), row.getAddress(),
+                                crpNo, tuple.getT2().get(i)));
+                    }
+                    return antockers;
+                });
+    }
+
+    private static String extractCrpNo(AntockerDetailResponse detail) {
+        return Optional.ofNullable(detail)
                 .map(AntockerDetailResponse::getResponse) // null 체크 포함
                 .map(AntockerDetailResponse.Response::getBody)
                 .map(AntockerDetailResponse.Body::getItems)
                 .map(AntockerDetailResponse.Items::getItem)
                 .filter(items -> items.length > 0) // 배열이 비어있지 않은지 확인
                 .map(items -> items[0].getCrpno()) // 첫 번째 item의 crpno 가져오기
-                .orElse(null); // 값이 없으면 null
-
-        if (crpNo != null) {
-            log.info("통신판매사업자 등록상세 API 응답 (Thread: {}): 법인등록번호 = {}", Thread.currentThread().getName(), crpNo); // 스레드
-                                                                                                                // 이름 로깅
-        } else {
-            log.warn("통신판매사업자 등록상세 API 응답 오류 또는 데이터 없음 (Thread: {})", Thread.currentThread().getName()); // 스레드 이름 로깅
-        }
+                .orElse(null);
+    }
 
-        // 2. 공공주소 API 호출 (인터페이스 메소드명 사용 및 Optional 처리)
-        Optional<AddressResponse> addressOptional = addressApiClient.fetchAddressInfo(address);
-        String admCd = addressOptional
+    private static String extractAdmCd(AddressResponse response) {
+        return Optional.ofNullable(response)
                 .map(AddressResponse::getResults) // Results 객체 가져오기
                 .map(AddressResponse.Results::getJuso) // Juso 배열 가져오기
-                .filter(jusoArray -> jusoArray != null && jusoArray.length > 0) // 배열 null 및 비어있는지 확인
+                .filter(jusoArray -> jusoArray.length > 0) // 배열이 비어있는지 확인
                 .map(jusoArray -> jusoArray[0].getAdmCd()) // 첫 번째 Juso 객체의 admCd 가져오기
-                .orElse(null); // 값이 없으면 null
+                .orElse(null);
+    }
 
-        if (admCd != null) {
-            log.info("공공주소 API 응답 (Thread: {}): 행정구역코드 = {}", Thread.currentThread().getName(), admCd); // 스레드 이름 로깅
-        } else {
-            log.warn("공공주소 API 응답 오류 또는 데이터 없음 (Thread: {})", Thread.currentThread().getName()); // 스레드 이름 로깅
+    private static Lookup lookup(String api, String key, Supplier<Optional<String>> call) {
+        try {
+            return new Lookup(call.get().orElse(null), false);
+        } catch (RuntimeException e) {
+            log.warn("{} 호출 실패, 보강 대기로 저장: {} ({})", api, key, e.getMessage());
+            return Lookup.PENDING;
         }
+    }
 
-        // 3. Antocker 엔티티 생성 및 데이터 매핑 (엔티티 필드명과 일치하도록 수정)
-        Antocker antocker = Antocker.builder()
+    private static Mono<Lookup> lookupReactive(String api, String key, Mono<String> call) {
+        return call.map(value -> new Lookup(value, false))
+                .defaultIfEmpty(Lookup.EMPTY)
+                .onErrorResume(e -> {
+                    log.warn("{} 호출 실패, 보강 대기로 저장: {} ({})", api, key, e.getMessage());
+                    return Mono.just(Lookup.PENDING);
+                });
+    }
+
+    private static Antocker buildAntocker(String bizRegNum, String companyName, String address,
+                                          Lookup crpNo, Lookup admCd) {
+        return Antocker.builder()
                 .companyName(companyName)
                 .businessRegistrationNumber(bizRegNum) // 필드명 businessRegistrationNumber
-                .corporateRegistrationNumber(crpNo) // 필드명 corporateRegistrationNumber
+                .corporateRegistrationNumber(crpNo.value()) // 필드명 corporateRegistrationNumber
                 .address(address)
-                .administrativeCode(admCd) // 필드명 administrativeCode
+                .administrativeCode(admCd.value()) // 필드명 administrativeCode
+                .enrichmentPending(crpNo.pending() || admCd.pending())
                 .build();
+    }
 
-        log.info("데이터 처리 완료 (Thread: {}): 상호 = {}", Thread.currentThread().getName(), companyName); // 스레드 이름 로깅
-        return CompletableFuture.completedFuture(antocker); // CompletableFuture 반환
+    /**
+     * 외부 API 조회 결과. pending이면 호출이 실패하여 값을 알 수 없음 (결과 없음과 구분)
+     */
+    private record Lookup(String value, boolean pending) {
+
+        static final Lookup EMPTY = new Lookup(null, false);
+        static final Lookup PENDING = new Lookup(null, true);
+
+        boolean isEmpty() {
+            return value == null;
+        }
     }
 }
@@ -0,0 +1,498 @@
+package antock.Antock_Project.domain.antocker.service;
+
+import antock.Antock_Project.common.config.ImportPipelineProperties;
+import antock.Antock_Project.domain.antocker.entity.Antocker;
+import antock.Antock_Project.external.csv.CsvHeader;
+import antock.Antock_Project.external.csv.CsvRow;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * 지역 하나의 CSV 데이터를 단계별로 처리하는 파이프라인.
+ * <pre>
+ * [파싱] → rowQueue → [중복 제거] → uniqueRowQueue → [처리(외부 API)] → writeQueue → [배치 저장]
+ * </pre>
+ * 중복 제거는 외부 API 호출 전에 수행하므로, 파일 내 중복 행과 이미 저장된 사업자등록번호는 API를 호출하지 않습니다.
+ * 단계 사이의 큐는 크기가 제한되어 있어, 뒷 단계가 느리면 앞 단계가 대기합니다 (backpressure).
+ * 따라서 파일 크기와 무관하게 메모리 사용량이 일정하고, 처리된 행은 배치 단위로 바로 저장됩니다.
+ * 어느 단계에서든 예외가 발생하면 전체 파이프라인을 중단하고 {@link #run(Stream)}에서 해당 예외를 던집니다.
+ * <p>
+ * 각 행에는 파일 내 순번(0부터)이 붙으며, 배치를 저장할 때 checkpoint(이 순번 미만의 행은 모두 저장되었거나 건너뛰었음)를
+ * 함께 전달합니다. 행은 순서와 무관하게 처리되므로 checkpoint는 연속으로 완료된 행까지만 올라갑니다.
+ * 중단된 작업은 {@link #run(Stream, long)}으로 checkpoint부터 다시 실행할 수 있습니다.
+ * 처리 단계는 행 하나씩, 또는 {@link #batched}로 생성한 경우 enrichBatchSize개씩 묶어서 외부 API로 처리합니다.
+ * 처리 결과는 외부 API 응답 스레드(예: Netty event loop)가 아닌 파이프라인 전용 스레드에서 writeQueue에 넣습니다.
+ * 인스턴스는 한 번만 실행할 수 있습니다.
+ */
+@Slf4j
+public class AntockerImportPipeline {
+
+    private static final long POLL_MILLIS = 100;
+
+    // 각 큐의 종료 표시 (identity 비교)
+    private static final IndexedRow END_OF_ROWS = new IndexedRow(-1, CsvHeader.of().row());
+    private static final IndexedAntocker END_OF_ANTOCKERS = new IndexedAntocker(-1, Antocker.builder().build());
+
+    private final String name;
+    private final ImportPipelineProperties properties;
+    private final Predicate<CsvRow> alreadySaved;
+    private final BatchEnricher enricher;
+    private final int enrichBatchSize;
+    private final BatchWriter batchWriter;
+
+    private final BlockingQueue<IndexedRow> rowQueue;
+    private final BlockingQueue<IndexedRow> uniqueRowQueue;
+    private final BlockingQueue<IndexedAntocker> writeQueue;
+    // 처리 완료 콜백 실행 (writeQueue가 가득 차면 대기하므로 외부 API 응답 스레드에서 실행하지 않음)
+    // 대기 중인 콜백 수는 처리 단계의 허가 수(enrichConcurrency)를 넘지 않음
+    private final ExecutorService completionExecutor;
+    private final ImportPipelineMetrics metrics = new ImportPipelineMetrics();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private volatile Checkpoint checkpoint = new Checkpoint(0);
+
+    /**
+     * @param name        로그 및 스레드 이름에 사용할 이름 (예: 지역명)
+     * @param properties   큐 크기, 동시 처리 수, 배치 크기 설정
+     * @param alreadySaved 행이 이미 저장되어 있어 다시 처리할 필요가 없는지 여부 (true면 처리하지 않음)
+     * @param enricher     CSV 행 하나를 Antocker로 변환 (외부 API 호출)
+     * @param batchWriter  배치와 checkpoint를 저장하고 실제 저장된 개수를 반환
+     */
+    public AntockerImportPipeline(String name, ImportPipelineProperties properties,
+                                  Predicate<CsvRow> alreadySaved,
+                                  Function<CsvRow, CompletableFuture<Antocker>> enricher,
+                                  BatchWriter batchWriter) {
+        this(name, properties, alreadySaved,
+                rows -> enricher.apply(rows.get(0)).thenApply(Collections::singletonList), 1, batchWriter);
+    }
+
+    private AntockerImportPipeline(String name, ImportPipelineProperties properties,
+                                   Predicate<CsvRow> alreadySaved, BatchEnricher enricher, int enrichBatchSize,
+                                   BatchWriter batchWriter) {
+        this.name = name;
+        this.properties = properties;
+        this.alreadySaved = alreadySaved;
+        this.enricher = enricher;
+        this.enrichBatchSize = Math.max(1, Math.min(enrichBatchSize, properties.getEnrichConcurrency()));
+        this.batchWriter = batchWriter;
+        this.rowQueue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.uniqueRowQueue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.writeQueue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.completionExecutor = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "antocker-pipeline-complete-" + name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 처리 단계에서 행을 enrichBatchSize개(antocker.pipeline.enrich-batch-size)씩 묶어서 처리하는 파이프라인을 생성합니다.
+     * 처리 대기 중인 행이 enrichBatchSize개보다 적으면 기다리지 않고 있는 만큼만 묶습니다.
+     *
+     * @param enricher CSV 행 여러 개를 같은 순서의 Antocker 목록으로 변환 (외부 API 호출)
+     */
+    public static AntockerImportPipeline batched(String name, ImportPipelineProperties properties,
+                                                 Predicate<CsvRow> alreadySaved, BatchEnricher enricher,
+                                                 BatchWriter batchWriter) {
+        return new AntockerImportPipeline(name, properties, alreadySaved, enricher,
+                properties.getEnrichBatchSize(), batchWriter);
+    }
+
+    /**
+     * 파이프라인을 실행하고 모든 행이 저장될 때까지 대기합니다.
+     * 파싱/중복 제거/처리 단계는 별도 스레드에서, 저장 단계는 호출 스레드에서 실행됩니다.
+     * Stream은 호출 측에서 닫아야 합니다.
+     *
+     * @param rows 처리할 CSV 행
+     * @return 저장된 데이터 개수
+     */
+    public int run(Stream<CsvRow> rows) {
+        return run(rows, 0);
+    }
+
+    /**
+     * checkpoint부터 파이프라인을 실행합니다.
+     * startRow 미만의 행은 이미 저장된 것으로 보고 외부 API 처리/저장을 하지 않으며, 중복 판단에만 사용합니다.
+     *
+     * @param rows     처리할 CSV 행 (파일 처음부터)
+     * @param startRow 이전 실행의 checkpoint
+     * @return 이번 실행에서 저장된 데이터 개수
+     */
+    public int run(Stream<CsvRow> rows, long startRow) {
+        if (startRow > 0) {
+            log.info("Import pipeline [{}] resuming from row {}", name, startRow);
+        }
+        checkpoint = new Checkpoint(startRow);
+        List<Thread> stages = List.of(
+                startStage("parse", () -> parseStage(rows)),
+                startStage("dedup", this::dedupStage),
+                startStage("enrich", this::enrichStage));
+
+        try {
+            writeStage();
+        } catch (Throwable t) {
+            fail(t);
+        } finally {
+            joinStages(stages);
+            completionExecutor.shutdown();
+        }
+
+        ImportPipelineMetrics.Snapshot snapshot = snapshot();
+        Throwable cause = failure.get();
+        if (cause != null) {
+            log.error("Import pipeline [{}] failed: {}", name, snapshot);
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new CompletionException(cause);
+        }
+        log.info("Import pipeline [{}] completed: {}", name, snapshot);
+        return (int) snapshot.getSavedRows();
+    }
+
+    /**
+     * 현재 큐 깊이와 단계별 처리 건수/처리량을 반환합니다.
+     */
+    public ImportPipelineMetrics.Snapshot snapshot() {
+        return metrics.snapshot(rowQueue.size(), uniqueRowQueue.size(), writeQueue.size(), checkpoint.get());
+    }
+
+    // 1. 파싱: Stream에서 행을 읽어 순번을 붙여 rowQueue에 넣음 (큐가 가득 차면 대기)
+    private void parseStage(Stream<CsvRow> rows) throws InterruptedException {
+        Iterator<CsvRow> iterator = rows.iterator();
+        long index = 0;
+        while (iterator.hasNext()) {
+            if (!put(rowQueue, new IndexedRow(index++, iterator.next()))) {
+                return;
+            }
+            metrics.parsedRows.increment();
+        }
+        metrics.parsingCompleted = true;
+        put(rowQueue, END_OF_ROWS);
+    }
+
+    // 2. 중복 제거: 파일 내 사업자등록번호 중복(먼저 나온 행 유지)과 이미 저장된 행 제외
+    // checkpoint 이전 행은 이미 저장되었으므로 중복 판단에만 사용
+    private void dedupStage() throws InterruptedException {
+        BusinessNumberIndex seenBusinessNumbers = new BusinessNumberIndex();
+        IndexedRow item;
+        while ((item = take(rowQueue)) != null) {
+            if (item == END_OF_ROWS) {
+                put(uniqueRowQueue, END_OF_ROWS);
+                return;
+            }
+            String businessNumber = item.row().getBusinessRegistrationNumber();
+            if (businessNumber != null && !seenBusinessNumbers.add(businessNumber)) {
+                metrics.duplicateRows.increment();
+                checkpoint.complete(item.index());
+            } else if (alreadySaved.test(item.row()) || item.index() < checkpoint.startRow()) {
+                metrics.existingRows.increment();
+                checkpoint.complete(item.index());
+            } else if (!put(uniqueRowQueue, item)) {
+                return;
+            }
+        }
+    }
+
+    // 3. 처리: 최대 enrichConcurrency개의 행을 동시에 외부 API로 처리 (enrichBatchSize개씩 묶어서)
+    private void enrichStage() throws InterruptedException {
+        int concurrency = properties.getEnrichConcurrency();
+        Semaphore permits = new Semaphore(concurrency);
+
+        IndexedRow item;
+        List<IndexedRow> batch = new ArrayList<>(enrichBatchSize);
+        while ((item = take(uniqueRowQueue)) != null && item != END_OF_ROWS) {
+            batch.add(item);
+            if (enrichBatchSize > 1) {
+                // 이미 대기 중인 행만 묶음 (행이 모일 때까지 기다리지 않음). 종료 표시는 항상 마지막
+                uniqueRowQueue.drainTo(batch, enrichBatchSize - 1);
+                if (batch.get(batch.size() - 1) == END_OF_ROWS) {
+                    batch.remove(batch.size() - 1);
+                    item = END_OF_ROWS;
+                }
+            }
+            if (!acquire(permits, batch.size())) {
+                return;
+            }
+            submit(batch, permits);
+            batch = new ArrayList<>(enrichBatchSize);
+            if (item == END_OF_ROWS) {
+                break;
+            }
+        }
+        if (item == null) {
+            return; // 중단됨
+        }
+
+        // 처리 중인 행이 모두 끝날 때까지 대기 후 종료 표시 전달
+        if (acquire(permits, concurrency)) {
+            put(writeQueue, END_OF_ANTOCKERS);
+        }
+    }
+
+    // 행 묶음 하나의 처리를 시작하고, 완료되면 결과를 writeQueue에 넣고 허가를 반환
+    private void submit(List<IndexedRow> batch, Semaphore permits) {
+        int size = batch.size();
+        metrics.inFlightRows.add(size);
+        List<CsvRow> rows = new ArrayList<>(size);
+        for (IndexedRow row : batch) {
+            rows.add(row.row());
+        }
+        CompletableFuture<List<Antocker>> future;
+        try {
+            future = enricher.enrich(rows);
+        } catch (RuntimeException e) {
+            metrics.inFlightRows.add(-size);
+            permits.release(size);
+            throw e;
+        }
+        future.whenCompleteAsync((antockers, ex) -> {
+            try {
+                if (ex == null && (antockers == null || antockers.size() != size)) {
+                    ex = new IllegalStateException("처리 결과 수가 행 수와 다릅니다: " + size + " rows, "
+                            + (antockers == null ? null : antockers.size()) + " results");
+                }
+                if (ex != null) {
+                    metrics.failedRows.add(size);
+                    fail(ex);
+                    return;
+                }
+                for (int i = 0; i < size; i++) {
+                    Antocker antocker = antockers.get(i);
+                    long index = batch.get(i).index();
+                    if (antocker != null) {
+                        metrics.enrichedRows.increment();
+                        if (antocker.isEnrichmentPending()) {
+                            metrics.pendingRows.increment();
+                        }
+                        if (!put(writeQueue, new IndexedAntocker(index, antocker))) {
+                            return;
+                        }
+                    } else {
+                        checkpoint.complete(index); // 저장할 결과 없음
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(e);
+            } finally {
+                metrics.inFlightRows.add(-size);
+                permits.release(size);
+            }
+        }, completionExecutor);
+    }
+
+    // 4. 저장: batchSize 단위로 모아서 저장 (호출 스레드에서 실행)
+    private void writeStage() throws InterruptedException {
+        int batchSize = properties.getBatchSize();
+        long logIntervalNanos = properties.getProgressLogInterval().toNanos();
+        long nextLogAt = System.nanoTime() + logIntervalNanos;
+        List<IndexedAntocker> batch = new ArrayList<>(batchSize);
+
+        IndexedAntocker item;
+        while ((item = take(writeQueue)) != null) {
+            if (item == END_OF_ANTOCKERS) {
+                if (!aborted()) {
+                    flush(batch);
+                }
+                return;
+            }
+            batch.add(item);
+            if (batch.size() >= batchSize) {
+                flush(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+            if (System.nanoTime() - nextLogAt >= 0) {
+                log.info("Import pipeline [{}] progress: {}", name, snapshot());
+                nextLogAt = System.nanoTime() + logIntervalNanos;
+            }
+        }
+    }
+
+    // 배치의 행을 완료 처리한 checkpoint를 배치와 함께 전달 (저장이 실패하면 파이프라인이 중단되므로 checkpoint도 무효)
+    private void flush(List<IndexedAntocker> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<Antocker> antockers = new ArrayList<>(batch.size());
+        for (IndexedAntocker item : batch) {
+            checkpoint.complete(item.index());
+            antockers.add(item.antocker());
+        }
+        int saved = batchWriter.write(antockers, checkpoint.get());
+        metrics.savedRows.add(saved);
+    }
+
+    private Thread startStage(String stage, StageTask task) {
+        Thread thread = new Thread(() -> {
+            try {
+                task.run();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(e);
+            } catch (Throwable t) {
+                fail(t);
+            }
+        }, "antocker-pipeline-" + stage + "-" + name);
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    private void joinStages(List<Thread> stages) {
+        for (Thread stage : stages) {
+            try {
+                stage.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(e);
+                return;
+            }
+        }
+    }
+
+    // 첫 번째 예외만 기록하고, 나머지 단계는 aborted()를 확인하여 종료
+    private void fail(Throwable t) {
+        Throwable cause = unwrap(t);
+        if (failure.compareAndSet(null, cause)) {
+            log.error("Import pipeline [{}] aborted: {}", name, cause.getMessage(), cause);
+        }
+    }
+
+    private boolean aborted() {
+        return failure.get() != null;
+    }
+
+    // 큐에 넣을 수 있을 때까지 대기. 중단된 경우 false
+    private <T> boolean put(BlockingQueue<T> queue, T item) throws InterruptedException {
+        while (!aborted()) {
+            if (queue.offer(item, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 큐에서 꺼낼 수 있을 때까지 대기. 중단된 경우 null
+    private <T> T take(BlockingQueue<T> queue) throws InterruptedException {
+        while (!aborted()) {
+            T item = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            if (item != null) {
+                return item;
+            }
+        }
+        return null;
+    }
+
+    // 세마포어 허가를 얻을 때까지 대기. 중단된 경우 false
+    private boolean acquire(Semaphore semaphore, int permits) throws InterruptedException {
+        while (!aborted()) {
+            if (semaphore.tryAcquire(permits, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Throwable unwrap(Throwable t) {
+        while ((t instanceof CompletionException || t instanceof ExecutionException) && t.getCause() != null) {
+            t = t.getCause();
+        }
+        return t;
+    }
+
+    @FunctionalInterface
+    private interface StageTask {
+        void run() throws InterruptedException;
+    }
+
+    /**
+     * 여러 행을 한 번에 처리하는 함수
+     */
+    @FunctionalInterface
+    public interface BatchEnricher {
+
+        /**
+         * @param rows 처리할 CSV 행 (1개 이상)
+         * @return rows와 같은 순서의 처리 결과 (저장할 결과가 없는 행은 null)
+         */
+        CompletableFuture<List<Antocker>> enrich(List<CsvRow> rows);
+    }
+
+    /**
+     * 배치 저장 함수
+     */
+    @FunctionalInterface
+    public interface BatchWriter {
+
+        /**
+         * @param batch      저장할 Antocker
+         * @param checkpoint 이 배치가 저장되면 완료되는 행 순번 (이 값 미만의 행은 모두 저장되었거나 건너뛰었음)
+         * @return 실제 저장된 개수
+         */
+        int write(List<Antocker> batch, long checkpoint);
+    }
+
+    private record IndexedRow(long index, CsvRow row) {
+    }
+
+    private record IndexedAntocker(long index, Antocker antocker) {
+    }
+
+    /**
+     * 연속으로 완료된 행 순번(watermark).
+     * 행은 순서와 무관하게 완료되므로, watermark보다 뒤에서 먼저 완료된 순번은 따로 보관했다가 앞이 채워지면 한꺼번에 올립니다.
+     * 여러 단계 스레드에서 호출되므로 동기화하며, 진행 상황 조회는 volatile 읽기만 합니다.
+     */
+    private static final class Checkpoint {
+
+        private final long startRow;
+        private volatile long watermark;
+        private final TreeSet<Long> completedAhead = new TreeSet<>();
+
+        private Checkpoint(long startRow) {
+            this.startRow = startRow;
+            this.watermark = startRow;
+        }
+
+        long startRow() {
+            return startRow;
+        }
+
+        synchronized void complete(long index) {
+            if (index < watermark) {
+                return;
+            }
+            if (index > watermark) {
+                completedAhead.add(index);
+                return;
+            }
+            watermark++;
+            while (!completedAhead.isEmpty() && completedAhead.first() == watermark) {
+                completedAhead.pollFirst();
+                watermark++;
+            }
+        }
+
+        long get() {
+            return watermark;
+        }
+    }
+}
@@ -1,194 +1,380 @@
 package antock.Antock_Project.domain.antocker.service;
 
+import antock.Antock_Project.common.config.ImportPipelineProperties;
 import antock.Antock_Project.common.exception.BusinessException;
 import antock.Antock_Project.common.exception.ErrorCode;
+import antock.Antock_Project.common.util.ConcurrencyLimiter;
 import antock.Antock_Project.domain.antocker.entity.Antocker;
+import antock.Antock_Project.domain.antocker.entity.ImportJob;
+import antock.Antock_Project.domain.antocker.entity.RegionImportManifest;
 import antock.Antock_Project.domain.antocker.repository.AntockerRepository;
+import antock.Antock_Project.domain.antocker.repository.RegionImportManifestRepository;
 import antock.Antock_Project.external.csv.CsvDownloader;
 import antock.Antock_Project.external.csv.CsvParser;
+import antock.Antock_Project.external.csv.CsvRow;
+import antock.Antock_Project.infrastructure.storage.AntockerStorageService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AntockerService {
 
-    private final CsvDownloader ftcCsvDownloader; // FtcCsvDownloader 구현체 주입
-    private final CsvParser openCsvParser;       // OpenCsvParser 구현체 주입
+    private final CsvDownloader ftcCsvDownloader; // CsvDownloaderConfig에서 구성한 구현체 주입 (HTTP 직접 다운로드 + 브라우저 fallback)
+    private final CsvParser csvParser;           // antocker.csv.parser에 따라 FastCsvParser(기본) 또는 OpenCsvParser 주입
     private final AntockerDataProcessor antockerDataProcessor;
     private final AntockerRepository antockerRepository;
+    private final AntockerStorageService antockerStorageService; // 기본: JDBC 배치 upsert
+    private final RegionImportManifestRepository regionImportManifestRepository;
+    private final ImportJobService importJobService;
+    private final ImportPipelineProperties pipelineProperties;
+    private final TransactionOperations transactionOperations; // 배치별 트랜잭션 실행
+    private final ConcurrencyLimiter csvDownloadLimiter;
 
     /**
      * 특정 조건(예: 지역)에 해당하는 통신판매업자 데이터를 처리하고 저장합니다.
-     * 1. CSV 파일 다운로드
-     * 2. CSV 파일 파싱
-     * 3. 데이터 처리 (외부 API 호출 등)
-     * 4. 데이터베이스 저장
+     * 1. CSV 파일 다운로드 (antocker.pipeline.stream-download=true면 파일 없이 다운로드하면서 2단계의 파싱을 진행)
+     * 2~4. 파싱 → 중복 제거 → 데이터 처리(외부 API 호출 등) → 배치 저장을 파이프라인으로 실행
+     *      (단계 사이 큐 크기가 제한되어 있어 파일 크기와 무관하게 메모리 사용량이 일정함)
+     *      파일 내 중복 및 이미 저장된 사업자등록번호는 외부 API 호출 전에 제외됨
+     *      저장은 batchSize개마다 별도의 짧은 트랜잭션으로 커밋되므로, 중간에 실패해도 이미 커밋된 배치는 유지됨
      * 5. 임시 파일 정리
+     * <p>
+     * 작업 진행 상황은 ImportJob으로 DB에 기록됩니다. 같은 지역의 이전 작업이 실패했거나 중간에 종료되었다면
+     * 파일을 다시 다운로드하지 않고 보관해 둔 파일의 checkpoint 이후 행부터 처리합니다.
      *
      * @param condition 다운로드 및 처리 조건 (예: "서울,강남구")
      * @return 저장된 데이터 개수를 포함하는 CompletableFuture
      */
-    @Async // common.config.AsyncConfig 에서 설정한 스레드 풀에서 비동기 실행
-    @Transactional // 메소드 전체를 하나의 트랜잭션으로 관리
+    @Async("regionImportExecutor") // common.config.AsyncConfig 에서 설정한 지역 작업용 스레드 풀에서 비동기 실행
     public CompletableFuture<Integer> processAndSaveAntockerData(String condition) {
+        return processAndSaveAntockerData(condition, null);
+    }
+
+    /**
+     * 진행 상황을 tracker로 보고하면서 데이터를 처리하고 저장합니다.
+     * 파이프라인을 실행하기 직전에 tracker를 파이프라인 카운터와 연결합니다. (작업 결과는 호출 측에서 기록)
+     *
+     * @param condition 다운로드 및 처리 조건 (예: "서울,강남구")
+     * @param tracker   진행 상황 보고 대상 (없으면 null)
+     * @return 저장된 데이터 개수를 포함하는 CompletableFuture
+     */
+    @Async("regionImportExecutor")
+    public CompletableFuture<Integer> processAndSaveAntockerData(String condition, ImportJobTracker tracker) {
         log.info("Starting Antocker data processing for condition: {}", condition);
         Path downloadedCsvPath = null;
-        int savedCount = 0;
+        InputStream csvStream = null;
+        ImportJob job = null;
+        AntockerImportPipeline pipeline = null;
 
         try {
-            // 1. CSV 파일 다운로드
-            downloadedCsvPath = ftcCsvDownloader.downloadCsvFile(condition);
-            if (downloadedCsvPath == null) {
-                log.error("CSV file download failed for condition: {}", condition);
-                // 실패 시 빈 CompletableFuture 또는 예외를 포함한 Future 반환 고려
-                return CompletableFuture.completedFuture(0);
+            // 1. 재개할 작업이 있으면 보관한 파일 사용, 없으면 CSV 파일 다운로드 후 새 작업 시작
+            job = importJobService.resume(condition).orElse(null);
+            boolean streaming = job == null && pipelineProperties.isStreamDownload();
+            if (streaming) {
+                // 파일 없이 다운로드하면서 파싱 (다운로드는 파이프라인 실행 직전에 시작)
+                job = importJobService.startStreaming(condition);
+            } else if (job == null) {
+                // 다운로드는 지역 작업 전체에서 csvDownloadLimiter로 동시 실행 수 제한
+                downloadedCsvPath = csvDownloadLimiter.call(() -> ftcCsvDownloader.downloadCsvFile(condition));
+                if (downloadedCsvPath == null) {
+                    log.error("CSV file download failed for condition: {}", condition);
+                    // 실패 시 빈 CompletableFuture 또는 예외를 포함한 Future 반환 고려
+                    return CompletableFuture.completedFuture(0);
+                }
+                log.info("CSV file downloaded successfully: {}", downloadedCsvPath);
+                job = importJobService.start(condition, downloadedCsvPath);
+            }
+            Long jobId = job.getId();
+
+            // 이미 저장된 사업자등록번호 인덱스 (외부 API 호출 전 중복 제거용)
+            BusinessNumberIndex savedBusinessNumbers = loadSavedBusinessNumbers();
+            log.info("Loaded {} existing business registration numbers", savedBusinessNumbers.size());
+
+            // 증분 적재: 지난 적재 때 저장된 행 내용 해시와 비교하여 새 행/변경된 행만 처리
+            RegionDelta delta = pipelineProperties.isDeltaSync()
+                    ? new RegionDelta(savedBusinessNumbers, antockerRepository.findRowFingerprintsBySourceRegion(condition))
+                    : null;
+            Predicate<CsvRow> alreadySaved = delta != null
+                    ? row -> isUpToDate(delta.classify(row))
+                    : row -> savedBusinessNumbers.contains(row.getBusinessRegistrationNumber());
+
+            // 2~4. 파싱 → 중복 제거 → 처리 → 저장 파이프라인 실행
+            AntockerImportPipeline.BatchWriter batchWriter =
+                    (batch, checkpoint) -> saveNewAntockers(batch, delta, jobId, checkpoint);
+            pipeline = pipelineProperties.getEnrichBatchSize() > 1
+                    ? AntockerImportPipeline.batched(condition, pipelineProperties, alreadySaved,
+                            batchEnricher(condition), batchWriter)
+                    : new AntockerImportPipeline(condition, pipelineProperties, alreadySaved,
+                            enricher(condition), batchWriter);
+            if (tracker != null) {
+                // 지난 적재의 전체 행 수를 예상 행 수로 사용 (남은 시간 계산용)
+                long expectedRows = regionImportManifestRepository.findByRegion(condition)
+                        .map(RegionImportManifest::getTotalRows)
+                        .orElse(0L);
+                tracker.attach(pipeline, jobId, expectedRows);
+            }
+            int savedCount;
+            if (streaming) {
+                csvStream = csvDownloadLimiter.call(() -> ftcCsvDownloader.openCsvStream(condition));
+                if (csvStream == null) {
+                    throw new BusinessException(ErrorCode.CSV_DOWNLOAD_FAILED, "CSV 다운로드 실패 (지역: " + condition + ")");
+                }
+            }
+            try (Stream<CsvRow> rows = csvStream != null
+                    ? csvParser.streamCsv(csvStream, condition)
+                    : csvParser.streamCsvFile(Paths.get(job.getSourceFile()))) {
+                savedCount = pipeline.run(rows, job.getLastCommittedRow());
             }
-            log.info("CSV file downloaded successfully: {}", downloadedCsvPath);
 
-            // 2. CSV 파일 파싱
-            List<Map<String, String>> parsedData = openCsvParser.parseCsvFile(downloadedCsvPath);
-            if (parsedData == null || parsedData.isEmpty()) {
+            ImportPipelineMetrics.Snapshot snapshot = pipeline.snapshot();
+            if (snapshot.getParsedRows() == 0) {
                 log.warn("Parsed CSV data is empty for condition: {}", condition);
+                importJobService.complete(jobId, 0);
                 return CompletableFuture.completedFuture(0); // 처리할 데이터 없으면 0 반환
             }
 
-            log.info("Parsed {} data rows for condition: {}", parsedData.size(), condition);
-
-            // 3. 데이터 처리 (비동기 호출 및 결과 수집)
-            List<CompletableFuture<Antocker>> futures = parsedData.stream()
-                    .map(antockerDataProcessor::processAntockerData) // processAntockerData 호출
-                    .collect(Collectors.toList());
-
-            // 모든 비동기 작업이 완료될 때까지 대기
-            CompletableFuture<Void> allOf = CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
-
-            // 모든 작업 완료 후 결과 처리
-            return allOf.handle((v, ex) -> { // handle 사용하여 예외 처리 포함
-                int currentSavedCount = 0;
-                if (ex != null) {
-                    // allOf에서 예외 발생 시 (보통 futures 중 하나에서 예외 발생)
-                    log.error("Error waiting for Antocker data processing completion for condition {}: {}", condition, ex.getMessage(), ex);
-                     // 여기서 예외를 다시 던지거나, 에러 상황에 맞는 값을 반환할 수 있습니다.
-                     // 예외를 CompletableFuture로 감싸서 전파하면 호출 측에서 처리 가능
-                    throw new CompletionException(ex); // 예외를 CompletionException으로 감싸서 전파
-                }
-
-                // 성공적으로 완료된 경우, 결과 수집
-                List<Antocker> antockersToSave = futures.stream()
-                        .map(future -> {
-                            try {
-                                // 각 Future에서 결과 가져오기 (allOf로 완료 보장되므로 join 사용)
-                                return future.join();
-                            } catch (CompletionException ce) {
-                                // 개별 processAntockerData 호출에서 발생한 예외 처리
-                                log.error("Error processing individual Antocker data for condition {}: {}", condition, ce.getMessage(), ce.getCause());
-                                return null; // 예외 발생 시 null 반환 (또는 다른 방식으로 처리)
-                            }
-                        })
-                        .filter(java.util.Objects::nonNull) // null이 아닌 결과만 필터링
-                        .collect(Collectors.toList());
-
-                log.info("Successfully processed {} Antocker data entries for condition: {}", antockersToSave.size(), condition);
-
-                // 처리된 데이터 리스트 내에서 사업자등록번호 기준으로 중복 제거
-                Map<String, Antocker> uniqueAntockersMap = antockersToSave.stream()
-                        .collect(Collectors.toMap(
-                                Antocker::getBusinessRegistrationNumber,
-                                antocker -> antocker,
-                                (existing, replacement) -> existing // 중복 시 기존 값 유지 (또는 로직 추가)
-                        ));
-                List<Antocker> uniqueProcessedAntockers = new ArrayList<>(uniqueAntockersMap.values());
-                log.info("Removed {} duplicates from processed data for condition: {}", antockersToSave.size() - uniqueProcessedAntockers.size(), condition);
-
-                // DB에 이미 존재하는 데이터와 중복 제거
-                List<Antocker> uniqueAntockersToSave = filterUniqueAntockers(uniqueProcessedAntockers);
-
-                // 4. 데이터베이스에 저장 (saveAll 사용)
-                if (!uniqueAntockersToSave.isEmpty()) {
-                    List<Antocker> savedAntockers = antockerRepository.saveAll(uniqueAntockersToSave);
-                    currentSavedCount = savedAntockers.size();
-                    log.info("Successfully saved {} unique Antocker entities for condition: {}", currentSavedCount, condition);
-                } else {
-                    log.info("No new unique Antocker entities to save for condition: {}", condition);
-                }
+            // CSV에서 사라진 행 표시 및 지역 manifest 갱신
+            int removedCount = delta != null ? markRemoved(condition, delta.removedBusinessNumbers()) : 0;
+            updateManifest(condition, snapshot, delta, removedCount);
+            importJobService.complete(jobId, snapshot.getParsedRows());
 
-                return currentSavedCount; // 최종 저장된 개수 반환
-            });
+            log.info("Saved {} unique Antocker entities for condition: {}", savedCount, condition);
+            return CompletableFuture.completedFuture(savedCount); // 최종 저장된 개수 반환
 
         } catch (BusinessException e) {
             log.error("BusinessException during processing for condition {}: {} - {}", condition, e.getErrorCode(), e.getMessage());
+            recordFailure(condition, job, pipeline, e);
              return CompletableFuture.failedFuture(e); // 예외를 CompletableFuture로 감싸 반환
         } catch (Exception e) {
             log.error("Unexpected error during processing for condition {}: {}", condition, e.getMessage(), e);
+            recordFailure(condition, job, pipeline, e);
              return CompletableFuture.failedFuture(e); // 예외를 CompletableFuture로 감싸 반환
         } finally {
-            // 5. 다운로드된 임시 CSV 파일 삭제
+            // 5. 작업 파일로 옮기지 못한 다운로드 파일 삭제 (작업 파일은 작업 완료 시 삭제됨)
             cleanupDownloadedFile(downloadedCsvPath);
+            closeQuietly(csvStream); // 파싱 전에 실패한 경우 다운로드 중단
         }
     }
 
     /**
-     * 저장할 Antocker 리스트에서 사업자등록번호 기준으로 중복을 제거합니다.
-     * (이미 DB에 있는 데이터는 제외)
+     * 설정(antocker.pipeline.enrich-mode)에 따라 파이프라인의 처리 단계에서 사용할 함수를 반환합니다.
+     * 처리된 Antocker에는 다음 증분 적재에서 비교할 행 내용 해시와 지역을 기록합니다.
      */
-    private List<Antocker> filterUniqueAntockers(List<Antocker> antockers) {
+    private Function<CsvRow, CompletableFuture<Antocker>> enricher(String condition) {
+        Function<CsvRow, CompletableFuture<Antocker>> processor;
+        if (pipelineProperties.getEnrichMode() == ImportPipelineProperties.EnrichMode.REACTIVE) {
+            // 구독 즉시 논블로킹 요청이 시작되고, 응답은 이벤트 루프 스레드에서 완료됨
+            processor = row -> antockerDataProcessor.processAntockerDataReactive(row).toFuture();
+        } else {
+            processor = antockerDataProcessor::processAntockerData;
+        }
+        return row -> processor.apply(row).thenApply(antocker -> {
+            if (antocker != null) {
+                antocker.setRowFingerprint(row.fingerprint());
+                antocker.setSourceRegion(condition);
+            }
+            return antocker;
+        });
+    }
+
+    /**
+     * antocker.pipeline.enrich-batch-size가 1보다 클 때 파이프라인의 처리 단계에서 사용할 함수를 반환합니다.
+     */
+    private AntockerImportPipeline.BatchEnricher batchEnricher(String condition) {
+        AntockerImportPipeline.BatchEnricher processor;
+        if (pipelineProperties.getEnrichMode() == ImportPipelineProperties.EnrichMode.REACTIVE) {
+            processor = rows -> antockerDataProcessor.processAntockerDataBatchReactive(rows).toFuture();
+        } else {
+            processor = antockerDataProcessor::processAntockerDataBatch;
+        }
+        return rows -> processor.enrich(rows).thenApply(antockers -> {
+            for (int i = 0; i < antockers.size(); i++) {
+                Antocker antocker = antockers.get(i);
+                if (antocker != null) {
+                    antocker.setRowFingerprint(rows.get(i).fingerprint());
+                    antocker.setSourceRegion(condition);
+                }
+            }
+            return antockers;
+        });
+    }
+
+    // 변경이 없거나 다른 지역으로 이미 저장된 행은 다시 처리하지 않음
+    private static boolean isUpToDate(RegionDelta.Change change) {
+        return change == RegionDelta.Change.UNCHANGED || change == RegionDelta.Change.SAVED_ELSEWHERE;
+    }
+
+    /**
+     * 파이프라인의 저장 단계에서 호출됩니다. 배치 하나를 하나의 트랜잭션으로 커밋합니다.
+     * 파이프라인 시작 이후 다른 작업이 저장한 데이터가 있을 수 있으므로, 저장 직전에 DB에 존재하는 데이터를 한 번 더 제외합니다.
+     *
+     * @return 이 배치에서 저장된 데이터 개수
+     */
+    private int saveNewAntockers(List<Antocker> batch, RegionDelta delta, Long jobId, long checkpoint) {
+        Integer saved = transactionOperations.execute(status -> {
+            // DB에 이미 존재하는 데이터와 중복 제거 (증분 적재에서 변경된 행은 갱신 대상이므로 유지)
+            List<Antocker> uniqueAntockersToSave = filterUniqueAntockers(batch, delta);
+
+            // 4. 데이터베이스에 저장 (JDBC 배치 upsert)
+            int savedInBatch = uniqueAntockersToSave.isEmpty() ? 0 : antockerStorageService.saveAll(uniqueAntockersToSave);
+
+            // 같은 트랜잭션에서 checkpoint 기록 (배치와 checkpoint가 함께 커밋되거나 함께 롤백됨)
+            importJobService.checkpoint(jobId, checkpoint, savedInBatch);
+            return savedInBatch;
+        });
+        return saved != null ? saved : 0;
+    }
+
+    // 실패 시 작업을 FAILED로 기록하고 이미 커밋된 배치 정보 로그 (커밋된 데이터와 checkpoint는 유지됨)
+    private void recordFailure(String condition, ImportJob job, AntockerImportPipeline pipeline, Exception cause) {
+        long parsedRows = 0;
+        if (pipeline != null) {
+            ImportPipelineMetrics.Snapshot snapshot = pipeline.snapshot();
+            parsedRows = snapshot.getParsedRows();
+            log.warn("Processing for condition {} stopped; {} rows were committed before the failure: {}",
+                    condition, snapshot.getSavedRows(), snapshot);
+        }
+        if (job != null) {
+            try {
+                importJobService.fail(job.getId(), parsedRows, cause);
+            } catch (RuntimeException e) {
+                log.error("Failed to record failure of import job {}: {}", job.getId(), e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 저장할 Antocker 리스트에서 이미 DB에 있는 사업자등록번호를 제외합니다.
+     * (증분 적재 시 이 지역에 저장되어 있던 행은 변경된 행이므로 제외하지 않음)
+     */
+    private List<Antocker> filterUniqueAntockers(List<Antocker> antockers, RegionDelta delta) {
         if (antockers.isEmpty()) {
             return List.of();
         }
-        // DB 조회 최소화를 위해 Set 사용
         List<String> businessNumbers = antockers.stream()
                 .map(Antocker::getBusinessRegistrationNumber)
+                .filter(Objects::nonNull)
                 .distinct()
                 .collect(Collectors.toList());
 
-        // findAllById 대신 findByBusinessRegistrationNumberIn 사용 고려 (더 효율적일 수 있음)
-        // Set<String> existingBusinessNumbers = antockerRepository.findByBusinessRegistrationNumberIn(businessNumbers)
-        //         .stream()
-        //         .map(Antocker::getBusinessRegistrationNumber)
-        //         .collect(Collectors.toSet());
-        List<String> existingBusinessNumbers = getExistingBusinessNumbers(businessNumbers);
+        BusinessNumberIndex existingBusinessNumbers = getExistingBusinessNumbers(businessNumbers);
 
         return antockers.stream()
-                // .filter(a -> !existingBusinessNumbers.contains(a.getBusinessRegistrationNumber()))
-                .filter(a -> !existingBusinessNumbers.contains(a.getBusinessRegistrationNumber())) // 수정: Set을 사용하므로 contains는 효율적
+                .filter(a -> !existingBusinessNumbers.contains(a.getBusinessRegistrationNumber()) // O(1) 조회
+                        || (delta != null && delta.isInRegion(a.getBusinessRegistrationNumber())))
                 .collect(Collectors.toList());
     }
 
     /**
-     * 사업자등록번호 리스트를 받아 DB에 이미 존재하는 사업자등록번호 Set을 반환합니다.
-     * (getExistingIds + 추가 조회 대신 한 번의 조회로 최적화)
+     * DB에 저장된 모든 사업자등록번호 인덱스를 반환합니다.
+     * 전체 사업자등록번호 목록(String)을 한 번에 메모리에 올리지 않도록 id 순으로 10000개씩 조회하며 인덱스에 추가합니다.
      */
-    private List<String> getExistingBusinessNumbers(List<String> businessNumbers) {
-        List<String> existingNumbers = new ArrayList<>();
+    private BusinessNumberIndex loadSavedBusinessNumbers() {
+        BusinessNumberIndex savedNumbers = new BusinessNumberIndex();
+        int pageSize = 10_000;
+        long afterId = 0;
+        List<AntockerRepository.BusinessNumberEntry> page;
+        do {
+            page = antockerRepository.findBusinessRegistrationNumbersAfter(afterId, PageRequest.of(0, pageSize));
+            for (AntockerRepository.BusinessNumberEntry entry : page) {
+                savedNumbers.add(entry.getBusinessRegistrationNumber());
+            }
+            if (!page.isEmpty()) {
+                afterId = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == pageSize);
+        return savedNumbers;
+    }
+
+    /**
+     * 사업자등록번호 리스트를 받아 DB에 이미 존재하는 사업자등록번호 인덱스를 반환합니다.
+     * IN 절 크기를 제한하기 위해 1000개씩 나누어 사업자등록번호 컬럼만 조회합니다.
+     */
+    private BusinessNumberIndex getExistingBusinessNumbers(List<String> businessNumbers) {
+        BusinessNumberIndex existingNumbers = new BusinessNumberIndex();
         int batchSize = 1000;
         for (int i = 0; i < businessNumbers.size(); i += batchSize) {
             List<String> batch = businessNumbers.subList(i, Math.min(i + batchSize, businessNumbers.size()));
-            // findByBusinessRegistrationNumberIn과 같은 메소드가 Repository에 정의되어 있다고 가정
-            // 만약 없다면 Repository에 추가 필요: List<Antocker> findByBusinessRegistrationNumberIn(List<String> numbers);
-            existingNumbers.addAll(antockerRepository.findByBusinessRegistrationNumberIn(batch)
-                                        .stream()
-                                        .map(Antocker::getBusinessRegistrationNumber)
-                                        .toList());
+            antockerRepository.findExistingBusinessRegistrationNumbers(batch).forEach(existingNumbers::add);
         }
         return existingNumbers;
     }
 
+    /**
+     * CSV에서 사라진 행을 removed로 표시합니다. (삭제하지 않음)
+     *
+     * @return 표시된 행 수
+     */
+    private int markRemoved(String condition, List<String> removedBusinessNumbers) {
+        int removed = 0;
+        int batchSize = 1000;
+        for (int i = 0; i < removedBusinessNumbers.size(); i += batchSize) {
+            List<String> batch = removedBusinessNumbers.subList(i, Math.min(i + batchSize, removedBusinessNumbers.size()));
+            Integer updated = transactionOperations.execute(status -> antockerRepository.markRemoved(condition, batch));
+            removed += updated != null ? updated : 0;
+        }
+        if (removed > 0) {
+            log.info("Marked {} Antocker entities as removed for condition: {}", removed, condition);
+        }
+        return removed;
+    }
+
+    /**
+     * 지역의 마지막 적재 결과(manifest)를 저장합니다.
+     */
+    private void updateManifest(String condition, ImportPipelineMetrics.Snapshot snapshot, RegionDelta delta,
+                                int removedCount) {
+        // 증분 적재가 아니면 저장된 행을 모두 새 행으로 기록
+        long newRows = delta != null ? delta.getNewRows() : snapshot.getSavedRows();
+        long changedRows = delta != null ? delta.getChangedRows() : 0;
+        long unchangedRows = delta != null ? delta.getUnchangedRows() : 0;
+
+        transactionOperations.executeWithoutResult(status -> {
+            RegionImportManifest manifest = regionImportManifestRepository.findByRegion(condition)
+                    .orElseGet(() -> RegionImportManifest.builder().region(condition).build());
+            manifest.setLastImportedAt(LocalDateTime.now());
+            manifest.setTotalRows(snapshot.getParsedRows());
+            manifest.setNewRows(newRows);
+            manifest.setChangedRows(changedRows);
+            manifest.setUnchangedRows(unchangedRows);
+            manifest.setRemovedRows(removedCount);
+            regionImportManifestRepository.save(manifest);
+        });
+        log.info("Import manifest for condition {}: total={}, new={}, changed={}, unchanged={}, removed={}",
+                condition, snapshot.getParsedRows(), newRows, changedRows, unchangedRows, removedCount);
+    }
+
+    // 다운로드 스트림을 닫음 (닫는 중 오류는 로그만 남김)
+    private void closeQuietly(InputStream stream) {
+        if (stream != null) {
+            try {
+                stream.close();
+            } catch (IOException e) {
+                log.warn("Failed to close CSV download stream: {}", e.getMessage());
+            }
+        }
+    }
+
     /**
      * 다운로드된 임시 파일을 삭제합니다.
      */
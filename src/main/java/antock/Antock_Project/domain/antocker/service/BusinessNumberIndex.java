@@ -0,0 +1,135 @@
+package antock.Antock_Project.domain.antocker.service;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 사업자등록번호 존재 여부 인덱스.
+ * 사업자등록번호는 10자리 숫자이므로 long으로 변환하여 open addressing 해시 테이블(long[])에 저장합니다.
+ * 항목마다 String/Long 객체를 만들지 않아, 수십만 건을 담아도 메모리 사용량이 작고 조회가 O(1)입니다.
+ * 10자리 숫자가 아닌 값은 드물기 때문에 별도의 HashSet에 저장합니다.
+ * 스레드 안전하지 않으므로, 한 스레드에서 채운 뒤 조회만 공유하거나 한 스레드에서만 사용해야 합니다.
+ */
+public class BusinessNumberIndex {
+
+    private static final int BUSINESS_NUMBER_LENGTH = 10;
+    private static final long EMPTY = -1L; // 10자리 숫자는 음수가 될 수 없으므로 빈 슬롯 표시로 사용
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private long[] slots;
+    private int numericSize;
+    private final Set<String> others = new HashSet<>();
+
+    public BusinessNumberIndex() {
+        this(16);
+    }
+
+    public BusinessNumberIndex(Collection<String> businessNumbers) {
+        this(businessNumbers.size());
+        businessNumbers.forEach(this::add);
+    }
+
+    private BusinessNumberIndex(int expectedSize) {
+        // 적재율 50% 이하 유지
+        int capacity = Integer.highestOneBit(Math.max(16, expectedSize * 2 - 1)) << 1;
+        this.slots = newSlots(capacity);
+    }
+
+    /**
+     * @return 새로 추가되었으면 true, 이미 있었으면 false
+     */
+    public boolean add(String businessNumber) {
+        if (businessNumber == null) {
+            return false;
+        }
+        long encoded = encode(businessNumber);
+        if (encoded == EMPTY) {
+            return others.add(businessNumber);
+        }
+        if ((numericSize + 1) * 2 > slots.length) {
+            resize();
+        }
+        if (insert(slots, encoded)) {
+            numericSize++;
+            return true;
+        }
+        return false;
+    }
+
+    public boolean contains(String businessNumber) {
+        if (businessNumber == null) {
+            return false;
+        }
+        long encoded = encode(businessNumber);
+        if (encoded == EMPTY) {
+            return others.contains(businessNumber);
+        }
+        int mask = slots.length - 1;
+        for (int i = index(encoded, mask); ; i = (i + 1) & mask) {
+            long slot = slots[i];
+            if (slot == encoded) {
+                return true;
+            }
+            if (slot == EMPTY) {
+                return false;
+            }
+        }
+    }
+
+    public int size() {
+        return numericSize + others.size();
+    }
+
+    // 10자리 숫자면 long 값, 아니면 EMPTY
+    private static long encode(String businessNumber) {
+        if (businessNumber.length() != BUSINESS_NUMBER_LENGTH) {
+            return EMPTY;
+        }
+        long value = 0;
+        for (int i = 0; i < BUSINESS_NUMBER_LENGTH; i++) {
+            char c = businessNumber.charAt(i);
+            if (c < '0' || c > '9') {
+                return EMPTY;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static boolean insert(long[] table, long encoded) {
+        int mask = table.length - 1;
+        for (int i = index(encoded, mask); ; i = (i + 1) & mask) {
+            long slot = table[i];
+            if (slot == encoded) {
+                return false;
+            }
+            if (slot == EMPTY) {
+                table[i] = encoded;
+                return true;
+            }
+        }
+    }
+
+    private void resize() {
+        long[] resized = newSlots(slots.length * 2);
+        for (long slot : slots) {
+            if (slot != EMPTY) {
+                insert(resized, slot);
+            }
+        }
+        slots = resized;
+    }
+
+    private static int index(long encoded, int mask) {
+        long hash = encoded * HASH_MULTIPLIER;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static long[] newSlots(int capacity) {
+        long[] table = new long[capacity];
+        Arrays.fill(table, EMPTY);
+        return table;
+    }
+}
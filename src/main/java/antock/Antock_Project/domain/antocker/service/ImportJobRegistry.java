@@ -0,0 +1,133 @@
+package antock.Antock_Project.domain.antocker.service;
+
+import antock.Antock_Project.common.exception.BusinessException;
+import antock.Antock_Project.common.exception.ErrorCode;
+import antock.Antock_Project.external.Antocker.AntockerApiClient;
+import antock.Antock_Project.external.Antocker.CachingAntockerApiClient;
+import antock.Antock_Project.external.address.AddressApiClient;
+import antock.Antock_Project.external.address.CachingAddressApiClient;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * 실행 중이거나 최근에 끝난 적재 작업의 진행 상황 저장소 (메모리).
+ * 끝난 작업은 antocker.job.retention 동안 조회할 수 있으며, 새 작업을 등록할 때 정리합니다.
+ * SSE 구독자에게는 스케줄러 스레드 하나가 antocker.job.event-interval마다 진행 상황을 보냅니다.
+ */
+@Slf4j
+@Component
+public class ImportJobRegistry {
+
+    private final Map<String, ImportJobTracker> trackers = new ConcurrentHashMap<>();
+    private final LongSupplier cacheHits;
+    private final Duration retention;
+    private final Duration eventInterval;
+    private final Duration eventTimeout;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "import-job-events");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ImportJobRegistry(AntockerApiClient antockerApiClient, AddressApiClient addressApiClient,
+                             @Value("${antocker.job.retention:1h}") Duration retention,
+                             @Value("${antocker.job.event-interval:1s}") Duration eventInterval,
+                             @Value("${antocker.job.event-timeout:30m}") Duration eventTimeout) {
+        this.cacheHits = cacheHits(antockerApiClient, addressApiClient);
+        this.retention = retention;
+        this.eventInterval = eventInterval;
+        this.eventTimeout = eventTimeout;
+    }
+
+    /**
+     * 새 작업을 등록합니다.
+     */
+    public ImportJobTracker register(String region) {
+        evictFinished();
+        ImportJobTracker tracker = new ImportJobTracker(UUID.randomUUID().toString(), region, cacheHits);
+        trackers.put(tracker.getId(), tracker);
+        return tracker;
+    }
+
+    public Optional<ImportJobTracker> find(String id) {
+        return Optional.ofNullable(trackers.get(id));
+    }
+
+    public ImportJobTracker get(String id) {
+        return find(id).orElseThrow(() ->
+                new BusinessException(ErrorCode.ENTITY_NOT_FOUND, "적재 작업을 찾을 수 없습니다: " + id));
+    }
+
+    /**
+     * 작업 진행 상황을 SSE로 구독합니다.
+     * "progress" 이벤트를 주기적으로 보내고, 작업이 끝나면 마지막 진행 상황을 "done" 이벤트로 보낸 뒤 연결을 닫습니다.
+     */
+    public SseEmitter subscribe(String id) {
+        ImportJobTracker tracker = get(id);
+        SseEmitter emitter = new SseEmitter(eventTimeout.toMillis());
+        AtomicReference<ScheduledFuture<?>> task = new AtomicReference<>();
+        Runnable cancel = () -> {
+            ScheduledFuture<?> scheduled = task.get();
+            if (scheduled != null) {
+                scheduled.cancel(false);
+            }
+        };
+        emitter.onCompletion(cancel);
+        emitter.onTimeout(cancel);
+        emitter.onError(e -> cancel.run());
+
+        long intervalMillis = eventInterval.toMillis();
+        task.set(scheduler.scheduleAtFixedRate(() -> {
+            try {
+                boolean finished = tracker.isFinished(); // 진행 상황보다 먼저 읽어야 마지막 카운터가 포함됨
+                emitter.send(SseEmitter.event().name(finished ? "done" : "progress").data(tracker.progress()));
+                if (finished) {
+                    emitter.complete();
+                    cancel.run();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트 연결 종료
+                log.debug("Stopping progress events for job {}: {}", id, e.getMessage());
+                cancel.run();
+            }
+        }, 0, intervalMillis, TimeUnit.MILLISECONDS));
+        return emitter;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private void evictFinished() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        trackers.values().removeIf(tracker ->
+                tracker.isFinished() && tracker.getFinishedAt() != null && tracker.getFinishedAt().isBefore(cutoff));
+    }
+
+    // 캐시 계층이 켜져 있는 클라이언트의 적중 수 합계
+    private static LongSupplier cacheHits(AntockerApiClient antockerApiClient, AddressApiClient addressApiClient) {
+        LongSupplier antockerHits = antockerApiClient instanceof CachingAntockerApiClient caching
+                ? () -> caching.getCache().getHitCount() : () -> 0L;
+        LongSupplier addressHits = addressApiClient instanceof CachingAddressApiClient caching
+                ? () -> caching.getCache().getHitCount() : () -> 0L;
+        return () -> antockerHits.getAsLong() + addressHits.getAsLong();
+    }
+}
@@ -0,0 +1,252 @@
+package antock.Antock_Project.domain.antocker.service;
+
+import antock.Antock_Project.common.exception.BusinessException;
+import antock.Antock_Project.common.exception.ErrorCode;
+import antock.Antock_Project.domain.antocker.entity.ImportJob;
+import antock.Antock_Project.domain.antocker.entity.ImportJobStatus;
+import antock.Antock_Project.domain.antocker.repository.ImportJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 지역 적재 작업(ImportJob)의 생성, checkpoint 기록, 재개를 관리합니다.
+ * 작업을 시작하면 다운로드한 CSV를 작업 전용 디렉토리로 옮겨 보관하고, 작업이 완료될 때만 삭제합니다.
+ * 실패하거나 애플리케이션이 중간에 종료된 작업은 같은 지역을 다시 요청할 때 파일을 다시 다운로드하지 않고 checkpoint부터 재개합니다.
+ * 단, 재개 횟수나 작업 시작 후 기간이 한도를 넘었거나 같은 지역의 더 최신 작업이 완료된 경우에는 재개를 포기(ABANDONED)하고
+ * 보관한 파일을 삭제하여, 계속 실패하는 파일이나 오래된 파일 대신 새로 다운로드하도록 합니다.
+ */
+@Slf4j
+@Service
+public class ImportJobService {
+
+    private static final List<ImportJobStatus> RESUMABLE = List.of(ImportJobStatus.FAILED, ImportJobStatus.INTERRUPTED);
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 1000;
+
+    private final ImportJobRepository importJobRepository;
+    private final Path jobDirectory;
+    private final int maxResumeAttempts;
+    private final Duration maxResumeAge;
+
+    public ImportJobService(ImportJobRepository importJobRepository,
+                            @Value("${antocker.job.directory:jobs}") String jobDirectory,
+                            @Value("${antocker.job.max-resume-attempts:3}") int maxResumeAttempts,
+                            @Value("${antocker.job.max-resume-age:1d}") Duration maxResumeAge) {
+        this.importJobRepository = importJobRepository;
+        this.jobDirectory = Paths.get(jobDirectory).toAbsolutePath();
+        this.maxResumeAttempts = maxResumeAttempts;
+        this.maxResumeAge = maxResumeAge;
+    }
+
+    /**
+     * 이전 실행에서 RUNNING 상태로 남은 작업은 애플리케이션이 중간에 종료된 것이므로 INTERRUPTED로 변경합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void markInterruptedJobs() {
+        int interrupted = importJobRepository.updateStatus(ImportJobStatus.RUNNING, ImportJobStatus.INTERRUPTED,
+                LocalDateTime.now());
+        if (interrupted > 0) {
+            log.warn("Marked {} unfinished import jobs as INTERRUPTED; they will resume on the next request", interrupted);
+        }
+    }
+
+    /**
+     * 지역의 재개 가능한 작업을 찾아 RUNNING으로 변경합니다.
+     * 다음 경우에는 재개하지 않고 작업을 ABANDONED로 변경합니다. (보관한 파일 삭제, 호출 측은 새로 다운로드)
+     * <ul>
+     *     <li>같은 지역의 더 최신 작업이 완료됨 (보관한 파일이 더 오래된 내용)</li>
+     *     <li>재개 횟수가 maxResumeAttempts에 도달함 (재개해도 계속 같은 곳에서 실패하는 경우)</li>
+     *     <li>작업 시작 후 maxResumeAge가 지남</li>
+     *     <li>보관한 파일이 없거나 내용이 바뀜</li>
+     * </ul>
+     *
+     * @return 재개할 작업 (없으면 empty)
+     */
+    @Transactional
+    public Optional<ImportJob> resume(String region) {
+        Optional<ImportJob> resumable = importJobRepository.findFirstByRegionAndStatusInOrderByIdDesc(region, RESUMABLE);
+        if (resumable.isEmpty()) {
+            return Optional.empty();
+        }
+        ImportJob job = resumable.get();
+        String abandonReason = abandonReason(job);
+        if (abandonReason != null) {
+            abandon(job, abandonReason);
+            return Optional.empty();
+        }
+        log.info("Resuming import job {} for region {} from row {} (attempt {}/{})", job.getId(), region,
+                job.getLastCommittedRow(), job.getResumeAttempts() + 1, maxResumeAttempts);
+        job.setStatus(ImportJobStatus.RUNNING);
+        job.setResumeAttempts(job.getResumeAttempts() + 1);
+        job.setErrorMessage(null);
+        job.setUpdatedAt(LocalDateTime.now());
+        return Optional.of(importJobRepository.save(job));
+    }
+
+    // 재개하지 않을 이유 (재개 가능하면 null)
+    private String abandonReason(ImportJob job) {
+        if (importJobRepository.existsByRegionAndStatusAndIdGreaterThan(job.getRegion(), ImportJobStatus.COMPLETED, job.getId())) {
+            return "a newer job for the region has completed";
+        }
+        if (job.getResumeAttempts() >= maxResumeAttempts) {
+            return "resumed " + job.getResumeAttempts() + " times without completing";
+        }
+        if (job.getCreatedAt().plus(maxResumeAge).isBefore(LocalDateTime.now())) {
+            return "started more than " + maxResumeAge + " ago";
+        }
+        Path sourceFile = job.getSourceFile() != null ? Paths.get(job.getSourceFile()) : null;
+        if (sourceFile == null || !Files.exists(sourceFile) || !sha256(sourceFile).equals(job.getSourceFileHash())) {
+            return "source file missing or modified";
+        }
+        return null;
+    }
+
+    private void abandon(ImportJob job, String reason) {
+        log.warn("Import job {} for region {} will not be resumed ({}); the region will be downloaded again",
+                job.getId(), job.getRegion(), reason);
+        job.setStatus(ImportJobStatus.ABANDONED);
+        deleteSourceFile(job);
+        job.setSourceFile(null);
+        job.setUpdatedAt(LocalDateTime.now());
+        importJobRepository.save(job);
+    }
+
+    /**
+     * 새 작업을 시작합니다. 다운로드한 파일은 작업 전용 디렉토리로 옮겨 보관합니다.
+     *
+     * @param region         지역 조건
+     * @param downloadedFile 다운로드한 CSV 파일
+     * @return 시작된 작업 (sourceFile은 옮겨진 경로)
+     */
+    @Transactional
+    public ImportJob start(String region, Path downloadedFile) {
+        ImportJob job = createRunningJob(region);
+
+        Path sourceFile = jobDirectory.resolve("job-" + job.getId() + ".csv");
+        try {
+            Files.createDirectories(jobDirectory);
+            Files.move(downloadedFile, sourceFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.error("Failed to move downloaded file {} to {}: {}", downloadedFile, sourceFile, e.getMessage(), e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "작업 파일을 보관할 수 없습니다: " + e.getMessage());
+        }
+        job.setSourceFile(sourceFile.toString());
+        job.setSourceFileHash(sha256(sourceFile));
+        log.info("Started import job {} for region {}: {}", job.getId(), region, sourceFile);
+        return importJobRepository.save(job);
+    }
+
+    /**
+     * 파일 없이 다운로드 스트림을 바로 파싱하는 새 작업을 시작합니다.
+     * 보관한 파일이 없으므로 실패하면 재개하지 않고, 다음 요청에서 처음부터 다시 다운로드합니다.
+     * (이미 저장된 행은 증분 적재로 건너뜀)
+     *
+     * @param region 지역 조건
+     * @return 시작된 작업 (sourceFile 없음)
+     */
+    @Transactional
+    public ImportJob startStreaming(String region) {
+        ImportJob job = createRunningJob(region);
+        log.info("Started streaming import job {} for region {}", job.getId(), region);
+        return job;
+    }
+
+    // 새로 다운로드하여 시작하므로, 남아 있는 이 지역의 재개 가능한 작업(더 오래된 파일)은 재개하지 않도록 정리
+    private ImportJob createRunningJob(String region) {
+        for (ImportJob stale : importJobRepository.findByRegionAndStatusIn(region, RESUMABLE)) {
+            abandon(stale, "superseded by a new download");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return importJobRepository.save(ImportJob.builder()
+                .region(region)
+                .status(ImportJobStatus.RUNNING)
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+    }
+
+    /**
+     * 배치 저장과 같은 트랜잭션에서 호출하여 checkpoint를 기록합니다.
+     */
+    public void checkpoint(Long jobId, long checkpoint, int saved) {
+        importJobRepository.updateCheckpoint(jobId, checkpoint, saved, LocalDateTime.now());
+    }
+
+    /**
+     * 작업을 완료 처리하고 보관한 파일을 삭제합니다.
+     */
+    @Transactional
+    public void complete(Long jobId, long parsedRows) {
+        importJobRepository.findById(jobId).ifPresent(job -> {
+            job.setStatus(ImportJobStatus.COMPLETED);
+            job.setParsedRows(parsedRows);
+            job.setLastCommittedRow(parsedRows);
+            job.setUpdatedAt(LocalDateTime.now());
+            deleteSourceFile(job);
+            job.setSourceFile(null);
+            importJobRepository.save(job);
+        });
+    }
+
+    /**
+     * 작업을 실패 처리합니다. 보관한 파일과 checkpoint는 재개를 위해 유지합니다.
+     */
+    @Transactional
+    public void fail(Long jobId, long parsedRows, Throwable cause) {
+        importJobRepository.findById(jobId).ifPresent(job -> {
+            job.setStatus(ImportJobStatus.FAILED);
+            job.setParsedRows(parsedRows);
+            String message = String.valueOf(cause.getMessage());
+            job.setErrorMessage(message.length() > MAX_ERROR_MESSAGE_LENGTH
+                    ? message.substring(0, MAX_ERROR_MESSAGE_LENGTH) : message);
+            job.setUpdatedAt(LocalDateTime.now());
+            importJobRepository.save(job);
+            log.warn("Import job {} for region {} failed at row {} (resumed {} times); it will resume on the next request"
+                            + " unless it has reached the resume limit", job.getId(), job.getRegion(),
+                    job.getLastCommittedRow(), job.getResumeAttempts());
+        });
+    }
+
+    private void deleteSourceFile(ImportJob job) {
+        if (job.getSourceFile() == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(Paths.get(job.getSourceFile()));
+        } catch (IOException e) {
+            log.error("Failed to clean up job file: {}", job.getSourceFile(), e);
+        }
+    }
+
+    private static String sha256(Path file) {
+        try (InputStream in = Files.newInputStream(file)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[64 * 1024];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "파일 해시 계산 실패: " + e.getMessage());
+        }
+    }
+}
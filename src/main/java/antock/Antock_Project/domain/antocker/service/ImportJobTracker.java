@@ -0,0 +1,162 @@
+package antock.Antock_Project.domain.antocker.service;
+
+import antock.Antock_Project.domain.antocker.dto.ImportJobProgressResponse;
+import antock.Antock_Project.domain.antocker.entity.ImportJobStatus;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * /api/antockers/process로 시작한 적재 작업 하나의 진행 상황.
+ * 파이프라인이 연결되면 파이프라인의 카운터(LongAdder)를 그대로 읽으므로, 조회 시 락을 잡지 않습니다.
+ * 현재 처리량은 직전 조회 시점과의 차이로 계산합니다. (최소 {@link #RATE_WINDOW_NANOS} 간격)
+ */
+public class ImportJobTracker {
+
+    private static final long RATE_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final String id;
+    private final String region;
+    private final LongSupplier cacheHits;
+    private final long cacheHitsAtStart;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final long startNanos = System.nanoTime();
+    private final AtomicReference<RateSample> lastSample;
+
+    private volatile ImportJobStatus status = ImportJobStatus.RUNNING;
+    private volatile AntockerImportPipeline pipeline;
+    private volatile Long importJobId;
+    private volatile long expectedRows; // 0이면 알 수 없음
+    private volatile Integer savedCount;
+    private volatile String errorMessage;
+    private volatile LocalDateTime finishedAt;
+
+    /**
+     * @param cacheHits 외부 API 캐시 적중 수 (작업 시작 이후 증가분을 보고하며, 동시에 실행 중인 작업의 적중도 포함됨)
+     */
+    ImportJobTracker(String id, String region, LongSupplier cacheHits) {
+        this.id = id;
+        this.region = region;
+        this.cacheHits = cacheHits;
+        this.cacheHitsAtStart = cacheHits.getAsLong();
+        this.lastSample = new AtomicReference<>(new RateSample(startNanos, 0, 0.0));
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public ImportJobStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * 파이프라인 실행 직전에 호출하여 진행 상황을 파이프라인 카운터와 연결합니다.
+     *
+     * @param expectedRows 예상 전체 행 수 (지난 적재의 행 수, 모르면 0)
+     */
+    public void attach(AntockerImportPipeline pipeline, Long importJobId, long expectedRows) {
+        this.importJobId = importJobId;
+        this.expectedRows = expectedRows;
+        this.pipeline = pipeline;
+    }
+
+    /**
+     * 작업 결과를 기록합니다. (CompletableFuture 완료 콜백에서 호출)
+     */
+    public void finish(Integer saved, Throwable failure) {
+        if (failure != null) {
+            Throwable cause = failure;
+            while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                    && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            this.errorMessage = cause.getMessage();
+            this.status = ImportJobStatus.FAILED;
+        } else {
+            this.savedCount = saved;
+            this.status = ImportJobStatus.COMPLETED;
+        }
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public boolean isFinished() {
+        return status != ImportJobStatus.RUNNING;
+    }
+
+    LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    /**
+     * 현재 진행 상황을 반환합니다.
+     */
+    public ImportJobProgressResponse progress() {
+        AntockerImportPipeline current = pipeline;
+        ImportPipelineMetrics.Snapshot snapshot = current != null ? current.snapshot() : null;
+        long processed = snapshot != null ? snapshot.getProcessedRows() : 0;
+        double rowsPerSecond = isFinished() ? 0.0 : currentRate(processed);
+
+        return ImportJobProgressResponse.builder()
+                .id(id)
+                .region(region)
+                .status(status)
+                .importJobId(importJobId)
+                .parsedRows(snapshot != null ? snapshot.getParsedRows() : 0)
+                .enrichedRows(snapshot != null ? snapshot.getEnrichedRows() : 0)
+                .pendingRows(snapshot != null ? snapshot.getPendingRows() : 0)
+                .cacheHits(cacheHits.getAsLong() - cacheHitsAtStart)
+                .savedRows(snapshot != null ? snapshot.getSavedRows() : 0)
+                .failedRows(snapshot != null ? snapshot.getFailedRows() : 0)
+                .duplicateRows(snapshot != null ? snapshot.getDuplicateRows() : 0)
+                .existingRows(snapshot != null ? snapshot.getExistingRows() : 0)
+                .checkpointRow(snapshot != null ? snapshot.getCheckpointRow() : 0)
+                .rowsPerSecond(rowsPerSecond)
+                .etaSeconds(snapshot != null ? eta(snapshot, rowsPerSecond) : null)
+                .savedCount(savedCount)
+                .errorMessage(errorMessage)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos))
+                .build();
+    }
+
+    // 직전 샘플 이후의 처리량. 샘플 간격이 짧으면 직전 값을 그대로 사용 (CAS 실패 시에도 직전 값 사용)
+    private double currentRate(long processed) {
+        long now = System.nanoTime();
+        RateSample previous = lastSample.get();
+        long elapsed = now - previous.nanos();
+        if (elapsed < RATE_WINDOW_NANOS) {
+            return previous.rate();
+        }
+        double rate = (processed - previous.processed()) * 1_000_000_000.0 / elapsed;
+        lastSample.compareAndSet(previous, new RateSample(now, processed, rate));
+        return rate;
+    }
+
+    // 남은 행 / 현재 처리량. 전체 행 수를 모르거나 처리량이 0이면 null
+    private Long eta(ImportPipelineMetrics.Snapshot snapshot, double rowsPerSecond) {
+        if (isFinished()) {
+            return 0L;
+        }
+        long total = snapshot.isParsingCompleted()
+                ? snapshot.getParsedRows()
+                : Math.max(expectedRows, snapshot.getParsedRows());
+        if (total == 0 || rowsPerSecond <= 0) {
+            return null;
+        }
+        long remaining = Math.max(0, total - snapshot.getProcessedRows());
+        return (long) Math.ceil(remaining / rowsPerSecond);
+    }
+
+    private record RateSample(long nanos, long processed, double rate) {
+    }
+}
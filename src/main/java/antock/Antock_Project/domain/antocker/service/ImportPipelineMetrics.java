@@ -0,0 +1,80 @@
+package antock.Antock_Project.domain.antocker.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 적재 파이프라인의 단계별 처리 건수 카운터.
+ * 여러 스레드에서 동시에 증가시키므로 LongAdder를 사용하고, 조회 시점의 값은 {@link Snapshot}으로 반환합니다.
+ */
+public class ImportPipelineMetrics {
+
+    private final long startNanos = System.nanoTime();
+
+    final LongAdder parsedRows = new LongAdder();    // 파싱 완료
+    final LongAdder enrichedRows = new LongAdder();  // 외부 API 처리 완료
+    final LongAdder pendingRows = new LongAdder();   // 외부 API 장애로 보강하지 못하고 처리 완료 (enrichedRows에 포함)
+    final LongAdder failedRows = new LongAdder();    // 처리 실패
+    final LongAdder duplicateRows = new LongAdder(); // 파일 내 중복으로 제외
+    final LongAdder existingRows = new LongAdder();  // 이미 저장되어 있어 제외 (증분 적재 시 변경 없는 행 포함)
+    final LongAdder savedRows = new LongAdder();     // DB 저장 완료
+    final LongAdder inFlightRows = new LongAdder();  // 현재 외부 API 처리 중
+    volatile boolean parsingCompleted;               // 파일 끝까지 파싱 완료 (parsedRows가 전체 행 수)
+
+    /**
+     * 현재 카운터 값과 큐 깊이로 스냅샷을 만듭니다.
+     */
+    Snapshot snapshot(int rowQueueDepth, int uniqueRowQueueDepth, int writeQueueDepth, long checkpointRow) {
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        return new Snapshot(
+                parsedRows.sum(), enrichedRows.sum(), pendingRows.sum(), failedRows.sum(), duplicateRows.sum(),
+                existingRows.sum(), savedRows.sum(), inFlightRows.sum(), parsingCompleted,
+                rowQueueDepth, uniqueRowQueueDepth, writeQueueDepth, checkpointRow, elapsedMillis);
+    }
+
+    @Getter
+    @ToString
+    @AllArgsConstructor
+    public static class Snapshot {
+        private final long parsedRows;
+        private final long enrichedRows;
+        private final long pendingRows;
+        private final long failedRows;
+        private final long duplicateRows;
+        private final long existingRows;
+        private final long savedRows;
+        private final long inFlightRows;
+        private final boolean parsingCompleted;
+        private final int rowQueueDepth;       // 파싱 → 중복 제거 대기 행 수
+        private final int uniqueRowQueueDepth; // 중복 제거 → 처리 대기 행 수
+        private final int writeQueueDepth;     // 처리 → 저장 대기 행 수
+        private final long checkpointRow;      // 이 순번 미만의 행은 모두 저장되었거나 건너뛰었음
+        private final long elapsedMillis;
+
+        // 단계별 처리량 (rows/sec, 시작 시점부터의 평균)
+        public double getParseRate() {
+            return rate(parsedRows);
+        }
+
+        public double getEnrichRate() {
+            return rate(enrichedRows);
+        }
+
+        public double getSaveRate() {
+            return rate(savedRows);
+        }
+
+        // 외부 API 처리까지 끝났거나 처리 없이 제외된 행 수
+        public long getProcessedRows() {
+            return enrichedRows + failedRows + duplicateRows + existingRows;
+        }
+
+        private double rate(long count) {
+            return elapsedMillis > 0 ? count * 1000.0 / elapsedMillis : 0.0;
+        }
+    }
+}
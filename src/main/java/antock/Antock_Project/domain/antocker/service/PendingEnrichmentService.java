@@ -0,0 +1,151 @@
+package antock.Antock_Project.domain.antocker.service;
+
+import antock.Antock_Project.common.config.ImportPipelineProperties;
+import antock.Antock_Project.common.util.CircuitBreaker;
+import antock.Antock_Project.domain.antocker.entity.Antocker;
+import antock.Antock_Project.domain.antocker.repository.AntockerRepository;
+import antock.Antock_Project.external.Antocker.FtcAntockerApiClient;
+import antock.Antock_Project.external.address.JusoAddressApiClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 외부 API 장애로 보강하지 못하고 저장된 행(enrichmentPending)을 다시 보강합니다.
+ * 외부 API의 circuit breaker가 닫히면(복구되면) 다음 확인 시점에 바로 실행하고,
+ * 그 외에는 antocker.enrichment.retry-interval마다 실행합니다. circuit breaker가 하나라도 열려 있으면 실행하지 않습니다.
+ * 보강 결과는 보강 관련 컬럼만 갱신하며, 보강하는 동안 적재로 바뀐 행은 갱신하지 않습니다. (다음 실행에서 다시 보강)
+ */
+@Slf4j
+@Service
+public class PendingEnrichmentService {
+
+    private final AntockerRepository antockerRepository;
+    private final AntockerDataProcessor antockerDataProcessor;
+    private final TransactionOperations transactionOperations; // 배치별 트랜잭션 실행
+    private final List<CircuitBreaker> circuitBreakers;
+    private final int batchSize;
+    private final int concurrency;
+    private final long retryIntervalNanos;
+
+    private final AtomicBoolean requested = new AtomicBoolean(true); // 시작 후 한 번 실행 (이전 실행에서 남은 행)
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile long lastRunNanos = System.nanoTime();
+
+    @Autowired
+    public PendingEnrichmentService(AntockerRepository antockerRepository,
+                                    AntockerDataProcessor antockerDataProcessor,
+                                    TransactionOperations transactionOperations,
+                                    FtcAntockerApiClient ftcAntockerApiClient,
+                                    JusoAddressApiClient jusoAddressApiClient,
+                                    ImportPipelineProperties pipelineProperties,
+                                    @Value("${antocker.enrichment.batch-size:200}") int batchSize,
+                                    @Value("${antocker.enrichment.retry-interval:10m}") Duration retryInterval) {
+        this(antockerRepository, antockerDataProcessor, transactionOperations,
+                List.of(ftcAntockerApiClient.getCircuitBreaker(), jusoAddressApiClient.getCircuitBreaker()),
+                batchSize, pipelineProperties.getEnrichConcurrency(), retryInterval);
+    }
+
+    PendingEnrichmentService(AntockerRepository antockerRepository, AntockerDataProcessor antockerDataProcessor,
+                             TransactionOperations transactionOperations, List<CircuitBreaker> circuitBreakers,
+                             int batchSize, int concurrency, Duration retryInterval) {
+        this.antockerRepository = antockerRepository;
+        this.antockerDataProcessor = antockerDataProcessor;
+        this.transactionOperations = transactionOperations;
+        this.circuitBreakers = circuitBreakers;
+        this.batchSize = batchSize;
+        this.concurrency = concurrency;
+        this.retryIntervalNanos = retryInterval.toNanos();
+        for (CircuitBreaker circuitBreaker : circuitBreakers) {
+            circuitBreaker.addListener(state -> {
+                if (state == CircuitBreaker.State.CLOSED) {
+                    log.info("Circuit breaker [{}] closed; scheduling re-enrichment of pending rows", circuitBreaker.getName());
+                    requested.set(true);
+                }
+            });
+        }
+    }
+
+    /**
+     * circuit breaker가 닫혔거나 재시도 간격이 지났으면 보강 대기 행을 다시 보강합니다.
+     */
+    @Scheduled(fixedDelayString = "${antocker.enrichment.check-interval:30s}",
+            initialDelayString = "${antocker.enrichment.check-interval:30s}")
+    public void reenrichIfDue() {
+        boolean due = requested.get() || System.nanoTime() - lastRunNanos >= retryIntervalNanos;
+        if (!due || !allCircuitsClosed()) {
+            return; // 열려 있는 circuit breaker가 닫히면 다시 요청됨
+        }
+        requested.set(false);
+        reenrichPending();
+    }
+
+    /**
+     * 보강 대기 행을 id 순으로 batch-size개씩 다시 보강하여 저장합니다.
+     * 다시 실패한 행과 보강하는 동안 적재로 바뀐 행은 그대로 두며, 도중에 circuit breaker가 열리면 중단합니다.
+     *
+     * @return 보강을 마친 행 수
+     */
+    public int reenrichPending() {
+        if (!running.compareAndSet(false, true)) {
+            return 0; // 이미 실행 중
+        }
+        try {
+            lastRunNanos = System.nanoTime();
+            int completed = 0;
+            int failedAgain = 0;
+            int skipped = 0;
+            long afterId = 0;
+            while (allCircuitsClosed()) {
+                List<Antocker> pending = antockerRepository.findByEnrichmentPendingTrueAndIdGreaterThanOrderByIdAsc(
+                        afterId, PageRequest.of(0, batchSize));
+                if (pending.isEmpty()) {
+                    break;
+                }
+                afterId = pending.get(pending.size() - 1).getId();
+
+                // (읽은 행, 보강 결과)
+                List<Map.Entry<Antocker, Antocker>> enriched = Flux.fromIterable(pending)
+                        .flatMap(antocker -> antockerDataProcessor.enrichReactive(antocker.getBusinessRegistrationNumber(),
+                                        antocker.getCompanyName(), antocker.getAddress())
+                                .filter(result -> !result.isEnrichmentPending())
+                                .map(result -> Map.entry(antocker, result)), concurrency)
+                        .collectList()
+                        .block();
+                int enrichedCount = enriched != null ? enriched.size() : 0;
+                if (enrichedCount > 0) {
+                    // 엔티티 전체를 저장(merge)하지 않고 보강 컬럼만 갱신 (그 사이 적재된 내용을 덮어쓰지 않음)
+                    Integer updated = transactionOperations.execute(status -> enriched.stream()
+                            .mapToInt(e -> antockerRepository.completeEnrichment(e.getKey().getId(), e.getKey().getAddress(),
+                                    e.getValue().getCorporateRegistrationNumber(), e.getValue().getAdministrativeCode()))
+                            .sum());
+                    int updatedCount = updated != null ? updated : 0;
+                    completed += updatedCount;
+                    skipped += enrichedCount - updatedCount;
+                }
+                failedAgain += pending.size() - enrichedCount;
+            }
+            if (completed > 0 || failedAgain > 0 || skipped > 0) {
+                log.info("Re-enriched {} pending rows ({} failed again, {} changed while enriching)",
+                        completed, failedAgain, skipped);
+            }
+            return completed;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private boolean allCircuitsClosed() {
+        return circuitBreakers.stream().noneMatch(circuitBreaker -> circuitBreaker.getState() == CircuitBreaker.State.OPEN);
+    }
+}
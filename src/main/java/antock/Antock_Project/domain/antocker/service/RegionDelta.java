@@ -0,0 +1,108 @@
+package antock.Antock_Project.domain.antocker.service;
+
+import antock.Antock_Project.domain.antocker.repository.AntockerRepository;
+import antock.Antock_Project.external.csv.CsvRow;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 지역 하나의 증분 적재 비교 상태.
+ * 지난 적재 때 저장된 행 내용 해시(사업자등록번호 → rowFingerprint)와 CSV 행을 비교하여,
+ * 새 행과 내용이 바뀐 행만 외부 API 처리 대상으로 분류합니다.
+ * <ul>
+ *     <li>NEW: 처음 보는 사업자등록번호</li>
+ *     <li>CHANGED: 이 지역에 저장되어 있으나 내용 해시가 다르거나 removed 상태인 행</li>
+ *     <li>UNCHANGED: 이 지역에 같은 내용으로 저장되어 있는 행</li>
+ *     <li>SAVED_ELSEWHERE: 다른 지역으로 저장되었거나 해시가 없던 시절 저장된 행 (기존처럼 건너뜀)</li>
+ * </ul>
+ * {@link #classify(CsvRow)}는 파이프라인의 중복 제거 단계(한 스레드)에서만 호출하고,
+ * {@link #removedBusinessNumbers()}는 파이프라인 종료 후 호출해야 합니다.
+ */
+public class RegionDelta {
+
+    public enum Change {
+        NEW, CHANGED, UNCHANGED, SAVED_ELSEWHERE
+    }
+
+    private final BusinessNumberIndex savedBusinessNumbers;
+    private final Map<String, Long> regionFingerprints; // removed 상태인 행은 null (항상 CHANGED)
+    private final BusinessNumberIndex seenBusinessNumbers = new BusinessNumberIndex();
+
+    private final LongAdder newRows = new LongAdder();
+    private final LongAdder changedRows = new LongAdder();
+    private final LongAdder unchangedRows = new LongAdder();
+
+    /**
+     * @param savedBusinessNumbers 전체 지역의 저장된 사업자등록번호
+     * @param regionRows           이 지역에 저장된 행의 내용 해시
+     */
+    public RegionDelta(BusinessNumberIndex savedBusinessNumbers, List<AntockerRepository.RowFingerprint> regionRows) {
+        this.savedBusinessNumbers = savedBusinessNumbers;
+        this.regionFingerprints = new HashMap<>(regionRows.size() * 2);
+        for (AntockerRepository.RowFingerprint row : regionRows) {
+            regionFingerprints.put(row.getBusinessRegistrationNumber(), row.isRemoved() ? null : row.getRowFingerprint());
+        }
+    }
+
+    /**
+     * 파일 내 중복이 제거된 CSV 행을 분류합니다.
+     */
+    public Change classify(CsvRow row) {
+        String businessNumber = row.getBusinessRegistrationNumber();
+        seenBusinessNumbers.add(businessNumber);
+
+        Change change;
+        if (regionFingerprints.containsKey(businessNumber)) {
+            Long previous = regionFingerprints.get(businessNumber);
+            change = previous != null && previous == row.fingerprint() ? Change.UNCHANGED : Change.CHANGED;
+        } else if (savedBusinessNumbers.contains(businessNumber)) {
+            change = Change.SAVED_ELSEWHERE;
+        } else {
+            change = Change.NEW;
+        }
+
+        switch (change) {
+            case NEW -> newRows.increment();
+            case CHANGED -> changedRows.increment();
+            case UNCHANGED -> unchangedRows.increment();
+            default -> { }
+        }
+        return change;
+    }
+
+    /**
+     * 이 지역에 이미 저장된 사업자등록번호인지 여부 (CHANGED 행은 저장 시 기존 행을 갱신해야 함)
+     */
+    public boolean isInRegion(String businessNumber) {
+        return regionFingerprints.containsKey(businessNumber);
+    }
+
+    /**
+     * 이 지역에 저장되어 있지만 이번 CSV에는 없는 사업자등록번호 (이미 removed인 행 제외)
+     */
+    public List<String> removedBusinessNumbers() {
+        List<String> removed = new ArrayList<>();
+        regionFingerprints.forEach((businessNumber, fingerprint) -> {
+            if (fingerprint != null && !seenBusinessNumbers.contains(businessNumber)) {
+                removed.add(businessNumber);
+            }
+        });
+        return removed;
+    }
+
+    public long getNewRows() {
+        return newRows.sum();
+    }
+
+    public long getChangedRows() {
+        return changedRows.sum();
+    }
+
+    public long getUnchangedRows() {
+        return unchangedRows.sum();
+    }
+}
@@ -0,0 +1,105 @@
+package antock.Antock_Project.domain.antocker.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 지역 적재 작업 요청을 받아 실행합니다.
+ * 같은 지역의 작업이 이미 대기 중이거나 실행 중이면 새로 시작하지 않고 기존 작업을 반환합니다.
+ * 실제 동시 실행 수는 regionImportExecutor(antocker.scheduler.max-concurrent-regions)가 제한하며,
+ * 다운로드/외부 API는 각각의 ConcurrencyLimiter가 모든 작업에 걸쳐 제한합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RegionImportScheduler {
+
+    // "all" 요청 시 적재할 시/도 (공정거래위원회 다운로드 페이지의 시/도 선택 항목)
+    public static final List<String> ALL_REGIONS = List.of(
+            "서울특별시", "부산광역시", "대구광역시", "인천광역시", "광주광역시", "대전광역시", "울산광역시",
+            "세종특별자치시", "경기도", "강원특별자치도", "충청북도", "충청남도", "전북특별자치도", "전라남도",
+            "경상북도", "경상남도", "제주특별자치도");
+    public static final String ALL = "all";
+
+    private final AntockerService antockerService;
+    private final ImportJobRegistry importJobRegistry;
+
+    private final Map<String, ImportJobTracker> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 지역 하나의 적재 작업을 시작합니다.
+     *
+     * @param region 처리할 지역 (예: "서울특별시")
+     * @return 새로 시작했거나 이미 진행 중인 같은 지역의 작업
+     */
+    public ImportJobTracker submit(String region) {
+        String key = region.trim();
+        ImportJobTracker[] created = new ImportJobTracker[1];
+        ImportJobTracker tracker = inFlight.computeIfAbsent(key, k -> created[0] = importJobRegistry.register(k));
+        if (created[0] == null) {
+            log.info("Region {} is already being processed by job {}; not starting another", key, tracker.getId());
+            return tracker;
+        }
+
+        CompletableFuture<Integer> futureResult;
+        try {
+            futureResult = antockerService.processAndSaveAntockerData(key, tracker);
+        } catch (RuntimeException e) {
+            // Executor가 작업을 받지 못한 경우 등
+            finish(key, tracker, null, e);
+            throw e;
+        }
+        futureResult.whenComplete((result, ex) -> finish(key, tracker, result, ex));
+        return tracker;
+    }
+
+    /**
+     * 여러 지역의 적재 작업을 시작합니다. "all"이 포함되면 모든 시/도를 처리합니다.
+     *
+     * @param regions 처리할 지역 목록 (중복은 한 번만 처리)
+     * @return 지역별 작업 (요청 순서)
+     */
+    public List<ImportJobTracker> submitAll(Collection<String> regions) {
+        List<ImportJobTracker> trackers = new ArrayList<>();
+        for (String region : resolveRegions(regions)) {
+            trackers.add(submit(region));
+        }
+        return trackers;
+    }
+
+    static Set<String> resolveRegions(Collection<String> regions) {
+        Set<String> resolved = new LinkedHashSet<>();
+        for (String region : regions) {
+            if (region == null || region.isBlank()) {
+                continue;
+            }
+            if (ALL.equalsIgnoreCase(region.trim())) {
+                resolved.addAll(ALL_REGIONS);
+            } else {
+                resolved.add(region.trim());
+            }
+        }
+        return resolved;
+    }
+
+    private void finish(String region, ImportJobTracker tracker, Integer result, Throwable ex) {
+        tracker.finish(result, ex);
+        inFlight.remove(region, tracker);
+        if (ex != null) {
+            // 비동기 작업 중 예외 발생 시 로그 기록 (별도의 에러 알림 메커니즘 고려)
+            log.error("Asynchronous processing failed for region: {} - Error: {}", region, ex.getMessage(), ex);
+        } else {
+            log.info("Asynchronous processing completed successfully for region: {}. Saved {} items.", region, result);
+        }
+    }
+}
@@ -1,7 +1,14 @@
 package antock.Antock_Project.external.Antocker;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Optional;
 import antock.Antock_Project.external.Antocker.dto.AntockerDetailResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * 외부 통신판매사업자 정보 API 클라이언트 인터페이스
@@ -15,4 +22,51 @@ public interface AntockerApiClient {
      * @return 조회된 사업자 상세 정보 (Optional)
      */
     Optional<AntockerDetailResponse> fetchAntockerDetails(String businessRegistrationNumber);
+
+    /**
+     * 사업자등록번호를 이용하여 통신판매사업자 상세 정보를 논블로킹으로 조회합니다.
+     * 구독 시점에 요청이 시작되며, 호출 스레드를 점유하지 않습니다.
+     * 기본 구현은 블로킹 메소드를 boundedElastic 스케줄러에서 실행하므로, 구현체는 가능하면 재정의해야 합니다.
+     *
+     * @param businessRegistrationNumber 조회할 사업자등록번호
+     * @return 조회된 사업자 상세 정보 (결과가 없으면 empty Mono)
+     */
+    default Mono<AntockerDetailResponse> fetchAntockerDetailsReactive(String businessRegistrationNumber) {
+        return Mono.fromCallable(() -> fetchAntockerDetails(businessRegistrationNumber))
+                .flatMap(Mono::justOrEmpty)
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * 여러 사업자등록번호의 통신판매사업자 상세 정보를 한 번에 조회합니다. (블로킹)
+     *
+     * @param businessRegistrationNumbers 조회할 사업자등록번호 (중복과 null은 무시)
+     * @return 사업자등록번호별 조회 결과. {@link #fetchAntockerDetailsBatchReactive} 참고
+     */
+    default Map<String, AntockerDetailResponse> fetchAntockerDetailsBatch(Collection<String> businessRegistrationNumbers) {
+        return fetchAntockerDetailsBatchReactive(businessRegistrationNumbers).block();
+    }
+
+    /**
+     * 여러 사업자등록번호의 통신판매사업자 상세 정보를 한 번에 논블로킹으로 조회합니다.
+     * 상세 조회 API는 사업자등록번호를 하나씩만 받으므로, 기본 구현은 건별 요청을 동시에 보내고 결과를 모읍니다.
+     * (요청은 공유 연결 풀의 연결을 재사용하며, 동시 호출 수/초당 요청 수는 각 구현체의 호출 제한을 따름)
+     * <p>
+     * 조회에 성공한 번호는 모두 결과에 포함되며, 결과가 없는 번호는 item이 없는 빈 응답으로 포함됩니다.
+     * 조회에 실패한(API 오류) 번호는 결과에 포함되지 않으므로, 호출 측은 결과에 없는 번호를 실패로 처리하면 됩니다.
+     *
+     * @param businessRegistrationNumbers 조회할 사업자등록번호 (중복과 null은 무시)
+     * @return 사업자등록번호별 조회 결과
+     */
+    default Mono<Map<String, AntockerDetailResponse>> fetchAntockerDetailsBatchReactive(
+            Collection<String> businessRegistrationNumbers) {
+        LinkedHashSet<String> numbers = new LinkedHashSet<>(businessRegistrationNumbers);
+        numbers.remove(null);
+        return Flux.fromIterable(numbers)
+                .flatMapSequential(number -> fetchAntockerDetailsReactive(number)
+                        .defaultIfEmpty(new AntockerDetailResponse())
+                        .map(response -> Map.entry(number, response))
+                        .onErrorResume(e -> Mono.empty()), Math.max(1, numbers.size()))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue, LinkedHashMap::new);
+    }
 }
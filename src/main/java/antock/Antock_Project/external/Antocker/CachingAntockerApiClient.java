@@ -0,0 +1,115 @@
+package antock.Antock_Project.external.Antocker;
+
+import antock.Antock_Project.common.cache.PersistentLookupCache;
+import antock.Antock_Project.external.Antocker.dto.AntockerDetailResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 사업자등록번호별 통신판매사업자 상세 조회 결과를 캐시하는 AntockerApiClient.
+ * 법인등록번호는 거의 바뀌지 않으므로, 같은 지역을 다시 처리할 때 대부분의 API 호출을 생략할 수 있습니다.
+ * 조회 결과가 없는 경우도 캐시(negative caching)하며, API 오류는 캐시하지 않습니다.
+ */
+@Slf4j
+public class CachingAntockerApiClient implements AntockerApiClient {
+
+    private final AntockerApiClient delegate;
+    private final PersistentLookupCache<AntockerDetailResponse> cache;
+
+    public CachingAntockerApiClient(AntockerApiClient delegate, PersistentLookupCache<AntockerDetailResponse> cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Optional<AntockerDetailResponse> fetchAntockerDetails(String businessRegistrationNumber) {
+        if (businessRegistrationNumber == null || businessRegistrationNumber.isBlank()) {
+            return delegate.fetchAntockerDetails(businessRegistrationNumber);
+        }
+        PersistentLookupCache.Entry<AntockerDetailResponse> cached = cache.get(businessRegistrationNumber);
+        if (cached != null) {
+            log.debug("FTC detail cache hit: {}", businessRegistrationNumber);
+            return Optional.ofNullable(cached.getValue());
+        }
+        Optional<AntockerDetailResponse> result = delegate.fetchAntockerDetails(businessRegistrationNumber);
+        store(businessRegistrationNumber, result.orElse(null));
+        return result;
+    }
+
+    @Override
+    public Mono<AntockerDetailResponse> fetchAntockerDetailsReactive(String businessRegistrationNumber) {
+        if (businessRegistrationNumber == null || businessRegistrationNumber.isBlank()) {
+            return delegate.fetchAntockerDetailsReactive(businessRegistrationNumber);
+        }
+        return Mono.defer(() -> {
+            PersistentLookupCache.Entry<AntockerDetailResponse> cached = cache.get(businessRegistrationNumber);
+            if (cached != null) {
+                log.debug("FTC detail cache hit: {}", businessRegistrationNumber);
+                return Mono.justOrEmpty(cached.getValue());
+            }
+            return delegate.fetchAntockerDetailsReactive(businessRegistrationNumber)
+                    .doOnNext(response -> store(businessRegistrationNumber, response))
+                    .switchIfEmpty(Mono.fromRunnable(() -> store(businessRegistrationNumber, null)));
+        });
+    }
+
+    @Override
+    public Mono<Map<String, AntockerDetailResponse>> fetchAntockerDetailsBatchReactive(
+            Collection<String> businessRegistrationNumbers) {
+        return Mono.defer(() -> {
+            // 캐시에 있는 번호는 바로 결과에 넣고, 나머지만 한 번에 조회
+            Map<String, AntockerDetailResponse> results = new LinkedHashMap<>();
+            Set<String> misses = new LinkedHashSet<>();
+            for (String number : businessRegistrationNumbers) {
+                if (number == null || results.containsKey(number) || misses.contains(number)) {
+                    continue;
+                }
+                PersistentLookupCache.Entry<AntockerDetailResponse> cached = number.isBlank() ? null : cache.get(number);
+                if (cached != null) {
+                    results.put(number, cached.getValue() != null ? cached.getValue() : new AntockerDetailResponse());
+                } else {
+                    misses.add(number);
+                }
+            }
+            if (misses.isEmpty()) {
+                return Mono.just(results);
+            }
+            log.debug("FTC detail cache: {} hits, {} misses in batch", results.size(), misses.size());
+            return delegate.fetchAntockerDetailsBatchReactive(misses).map(fetched -> {
+                fetched.forEach((number, response) -> {
+                    if (!number.isBlank()) {
+                        store(number, response);
+                    }
+                    results.put(number, response);
+                });
+                return results;
+            });
+        });
+    }
+
+    public PersistentLookupCache<AntockerDetailResponse> getCache() {
+        return cache;
+    }
+
+    @PreDestroy
+    public void close() {
+        cache.close();
+    }
+
+    // item이 있는 응답만 결과로 캐시하고, 나머지는 "결과 없음"으로 캐시
+    private void store(String businessRegistrationNumber, AntockerDetailResponse response) {
+        if (response != null && response.hasItems()) {
+            cache.put(businessRegistrationNumber, response);
+        } else {
+            cache.putNegative(businessRegistrationNumber);
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package antock.Antock_Project.external.Antocker;
 
+import antock.Antock_Project.common.config.ApiLimitProperties;
 import antock.Antock_Project.common.exception.BusinessException;
 import antock.Antock_Project.common.exception.ErrorCode;
+import antock.Antock_Project.common.util.ApiCallLimiter;
+import antock.Antock_Project.common.util.CircuitBreaker;
 import antock.Antock_Project.external.Antocker.dto.AntockerDetailResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
@@ -19,7 +23,11 @@ import java.util.Optional;
 @Component
 public class FtcAntockerApiClient implements AntockerApiClient {
 
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration ATTEMPT_TIMEOUT = Duration.ofSeconds(5); // 시도 하나의 최대 시간 (초과 시 과부하로 보고 재시도)
+
     private final WebClient webClient;
+    private final ApiCallLimiter apiCallLimiter; // 초당 요청 수 제한 + 동시 호출 수 자동 조절 + circuit breaker/bulkhead (api.antocker.*)
 
     // application.yml 파일의 키와 일치하도록 수정
     @Value("${api.antocker.endpoint}") // 키 이름 변경 (url -> endpoint)
@@ -28,9 +36,12 @@ public class FtcAntockerApiClient implements AntockerApiClient {
     @Value("${api.antocker.key}") // 키 이름 변경 (api.ftc.antocker.key -> api.antocker.key)
     private String apiKey;
 
-    public FtcAntockerApiClient(WebClient.Builder webClientBuilder) {
+    public FtcAntockerApiClient(WebClient.Builder webClientBuilder,
+                                @Qualifier("antockerApiLimits") ApiLimitProperties limits) {
+        this.apiCallLimiter = new ApiCallLimiter("FTC API", limits);
         // 기본 WebClient 설정 (타임아웃 등)
-        this.webClient = webClientBuilder
+        // 공유 Builder(연결 풀 공유)를 복사하여 이 API 전용 설정 추가
+        this.webClient = webClientBuilder.clone()
                 // .baseUrl(apiUrl) // Base URL 설정 시
                 .defaultHeader("Authorization", "Bearer " + apiKey) // API 키 헤더 (인증 방식에 맞게 수정)
                 .build();
@@ -38,32 +49,44 @@ public class FtcAntockerApiClient implements AntockerApiClient {
 
     @Override
     public Optional<AntockerDetailResponse> fetchAntockerDetails(String businessRegistrationNumber) {
+        // 블로킹 호출이 필요한 곳을 위한 메소드. 논블로킹 호출은 fetchAntockerDetailsReactive 사용
+        // 호출 제한 대기는 fetchAntockerDetailsReactive 안에서 이루어지므로 그대로 block
+        return fetchAntockerDetailsReactive(businessRegistrationNumber).blockOptional();
+    }
+
+    @Override
+    public Mono<AntockerDetailResponse> fetchAntockerDetailsReactive(String businessRegistrationNumber) {
         log.info("Fetching Antocker details for businessRegistrationNumber: {}", businessRegistrationNumber);
 
-        return webClient.get()
+        // 시도마다 호출 제한(초당 요청 수, 동시 호출 수)을 적용하므로 재시도가 부하를 키우지 않음
+        // 재시도를 포함한 호출 전체에는 circuit breaker/bulkhead 적용 (장애 중에는 요청하지 않고 바로 API_UNAVAILABLE)
+        return apiCallLimiter.guard(() -> apiCallLimiter.call(() -> webClient.get()
                 .uri(apiUrl + "?bizRegNum={bizRegNum}", businessRegistrationNumber) // 실제 엔드포인트 및 파라미터로 변경
                 .retrieve()
-                // 4xx, 5xx 에러 처리 (수정된 부분)
+                // 4xx, 5xx 에러 처리 (429/5xx는 과부하로 구분하여 재시도 및 동시 호출 수 감소)
                 .onStatus(HttpStatusCode::isError, clientResponse ->
                     clientResponse.bodyToMono(String.class)
                             .defaultIfEmpty("[No Error Body]") // 에러 본문이 없을 경우 기본값 사용
                             .flatMap(errorBody -> {
                                 log.error("API call failed with status: {}, body: {}", clientResponse.statusCode(), errorBody);
-                                BusinessException ex = new BusinessException(ErrorCode.API_REQUEST_FAILED,
+                                BusinessException ex = new BusinessException(ApiCallLimiter.errorCode(clientResponse.statusCode()),
                                         "API 요청 실패 (상태 코드: " + clientResponse.statusCode() + ", Body: " + errorBody + ")");
                                 return Mono.error(ex);
                             })
                 )
                 .bodyToMono(AntockerDetailResponse.class) // 응답 본문을 DTO로 변환
-                // 재시도 로직 (예: 네트워크 오류 시 3번 재시도)
+                .timeout(ATTEMPT_TIMEOUT))
+                // 재시도 로직 (네트워크 오류 및 과부하 시 3번 재시도, 그 외 4xx는 재시도해도 같은 결과이므로 재시도하지 않음)
                 .retryWhen(Retry.backoff(3, Duration.ofSeconds(1))
-                        .filter(throwable -> throwable instanceof IOException || throwable instanceof BusinessException))
-                // Optional 로 감싸서 반환 (값이 없을 수도 있음, 예: 404 Not Found)
-                .blockOptional(Duration.ofSeconds(10)); // 최대 10초 대기 (블로킹 방식, 비동기 유지 시 .subscribe() 사용)
-                // .onErrorResume(e -> { // 에러 발생 시 빈 Optional 반환 (또는 예외 전파)
-                //     log.error("Error fetching Antocker details: {}", e.getMessage());
-                //     return Mono.empty();
-                // })
-                // .blockOptional(Duration.ofSeconds(10)); // .onErrorResume 사용 시
+                        .filter(throwable -> throwable instanceof IOException || ApiCallLimiter.isOverload(throwable)))
+                // 재시도를 포함한 전체 요청 최대 10초 (값이 없으면 empty Mono, 예: 404 Not Found)
+                .timeout(REQUEST_TIMEOUT));
+    }
+
+    /**
+     * 이 API의 circuit breaker (보강 대기 행 재처리 시 상태 확인용)
+     */
+    public CircuitBreaker getCircuitBreaker() {
+        return apiCallLimiter.getCircuitBreaker();
     }
 }
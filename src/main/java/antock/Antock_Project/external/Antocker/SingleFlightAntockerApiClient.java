@@ -0,0 +1,43 @@
+package antock.Antock_Project.external.Antocker;
+
+import antock.Antock_Project.common.util.SingleFlight;
+import antock.Antock_Project.external.Antocker.dto.AntockerDetailResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * 같은 사업자등록번호에 대한 동시 조회를 하나의 API 호출로 합치는 AntockerApiClient.
+ * 캐시가 비어 있는 첫 처리에서 같은 사업자등록번호가 여러 행에 있으면, 진행 중인 호출의 결과를 함께 사용합니다.
+ */
+public class SingleFlightAntockerApiClient implements AntockerApiClient {
+
+    private final AntockerApiClient delegate;
+    private final SingleFlight<String, AntockerDetailResponse> singleFlight = new SingleFlight<>("FTC API");
+
+    public SingleFlightAntockerApiClient(AntockerApiClient delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Optional<AntockerDetailResponse> fetchAntockerDetails(String businessRegistrationNumber) {
+        if (businessRegistrationNumber == null) {
+            return delegate.fetchAntockerDetails(null);
+        }
+        return singleFlight.execute(businessRegistrationNumber,
+                () -> delegate.fetchAntockerDetails(businessRegistrationNumber));
+    }
+
+    @Override
+    public Mono<AntockerDetailResponse> fetchAntockerDetailsReactive(String businessRegistrationNumber) {
+        if (businessRegistrationNumber == null) {
+            return delegate.fetchAntockerDetailsReactive(null);
+        }
+        return singleFlight.executeReactive(businessRegistrationNumber,
+                () -> delegate.fetchAntockerDetailsReactive(businessRegistrationNumber));
+    }
+
+    public SingleFlight<String, AntockerDetailResponse> getSingleFlight() {
+        return singleFlight;
+    }
+}
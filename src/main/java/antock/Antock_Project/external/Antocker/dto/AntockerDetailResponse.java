@@ -1,5 +1,6 @@
 package antock.Antock_Project.external.Antocker.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
 
@@ -8,6 +9,16 @@ public class AntockerDetailResponse {
 
     private Response response;
 
+    /**
+     * 조회 결과(item)가 하나 이상 있는지 여부
+     */
+    @JsonIgnore
+    public boolean hasItems() {
+        return response != null && response.getBody() != null && response.getBody().getItems() != null
+                && response.getBody().getItems().getItem() != null
+                && response.getBody().getItems().getItem().length > 0;
+    }
+
     @Data
     public static class Response {
         private Body body;
@@ -2,6 +2,8 @@ package antock.Antock_Project.external.address;
 
 import java.util.Optional;
 import antock.Antock_Project.external.address.dto.AddressResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * 외부 주소 정보 API 클라이언트 인터페이스
@@ -15,4 +17,18 @@ public interface AddressApiClient {
      * @return 조회된 주소 정보 (Optional)
      */
     Optional<AddressResponse> fetchAddressInfo(String address);
+
+    /**
+     * 주소를 이용하여 관련 정보를 논블로킹으로 조회합니다.
+     * 구독 시점에 요청이 시작되며, 호출 스레드를 점유하지 않습니다.
+     * 기본 구현은 블로킹 메소드를 boundedElastic 스케줄러에서 실행하므로, 구현체는 가능하면 재정의해야 합니다.
+     *
+     * @param address 조회할 주소 문자열
+     * @return 조회된 주소 정보 (결과가 없으면 empty Mono)
+     */
+    default Mono<AddressResponse> fetchAddressInfoReactive(String address) {
+        return Mono.fromCallable(() -> fetchAddressInfo(address))
+                .flatMap(Mono::justOrEmpty)
+                .subscribeOn(Schedulers.boundedElastic());
+    }
 }
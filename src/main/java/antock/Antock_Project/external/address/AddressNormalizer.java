@@ -0,0 +1,61 @@
+package antock.Antock_Project.external.address;
+
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+/**
+ * 주소 문자열을 정규화(canonicalize)합니다.
+ * 같은 건물의 서로 다른 표기(공백/구두점 차이, 층·호수 등 상세주소, 괄호 안 참고항목)를 하나의 키로 모아
+ * 주소 API 호출과 캐시 키에 사용합니다.
+ * <pre>
+ * "서울특별시  강남구 테헤란로 123, 4층 401호 (역삼동)" → "서울특별시 강남구 테헤란로 123"
+ * "서울특별시 강남구 테헤란로 123 지하1층 B101호"      → "서울특별시 강남구 테헤란로 123"
+ * </pre>
+ */
+public final class AddressNormalizer {
+
+    // 괄호로 감싼 참고항목 (예: "(역삼동)", "[역삼동, 테헤란빌딩]")
+    private static final Pattern BRACKETED = Pattern.compile("\\([^)]*\\)|\\[[^]]*]");
+
+    // 층/호/동(건물 동 번호)/지하 등 건물 내부 위치를 나타내는 토큰
+    private static final Pattern UNIT_TOKEN = Pattern.compile(
+            "^(지하|지상)?제?[A-Za-z]?\\d+([~\\-]\\d+)?(층|호|동|F|f|호실)$" + // 4층, 401호, 101동, 3F, 1~2층
+                    "|^(지하|지상)?[Bb]\\d+(층|호)?$" + // B1, B101호
+                    "|^(지하|지상|층|호|일부|전체|전층)$");
+
+    // 한글, 영문, 숫자, 하이픈(지번 "123-4"), 물결표(범위 "1~2층"), 공백 외의 문자
+    private static final Pattern PUNCTUATION = Pattern.compile("[^가-힣A-Za-z0-9~\\-\\s]");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private AddressNormalizer() {
+    }
+
+    /**
+     * 주소를 정규화합니다.
+     *
+     * @param address 원본 주소
+     * @return 정규화된 주소 (입력이 null이거나 비어 있으면 빈 문자열)
+     */
+    public static String normalize(String address) {
+        if (address == null || address.isBlank()) {
+            return "";
+        }
+        String normalized = BRACKETED.matcher(address).replaceAll(" ");
+
+        // 도로명주소는 "기본주소, 상세주소" 형식이므로 첫 쉼표 이후는 상세주소로 보고 제거
+        int comma = normalized.indexOf(',');
+        if (comma > 0) {
+            normalized = normalized.substring(0, comma);
+        }
+
+        normalized = PUNCTUATION.matcher(normalized).replaceAll(" ");
+
+        // 뒤쪽부터 층/호수 토큰 제거
+        String[] tokens = WHITESPACE.split(normalized.trim());
+        int end = tokens.length;
+        while (end > 1 && UNIT_TOKEN.matcher(tokens[end - 1]).matches()) {
+            end--;
+        }
+        return String.join(" ", Arrays.copyOf(tokens, end));
+    }
+}
@@ -0,0 +1,79 @@
+package antock.Antock_Project.external.address;
+
+import antock.Antock_Project.common.cache.PersistentLookupCache;
+import antock.Antock_Project.external.address.dto.AddressResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * 정규화된 주소별 주소 조회 결과(행정구역코드)를 캐시하는 AddressApiClient.
+ * 같은 건물/도로에 있는 판매자가 많으므로, 주소를 {@link AddressNormalizer}로 정규화한 뒤
+ * 같은 주소는 한 번만 API를 호출합니다. API 호출에도 정규화된 주소를 사용합니다.
+ * 조회 결과가 없는 경우도 캐시(negative caching)하며, API 오류는 캐시하지 않습니다.
+ */
+@Slf4j
+public class CachingAddressApiClient implements AddressApiClient {
+
+    private final AddressApiClient delegate;
+    private final PersistentLookupCache<AddressResponse> cache;
+
+    public CachingAddressApiClient(AddressApiClient delegate, PersistentLookupCache<AddressResponse> cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Optional<AddressResponse> fetchAddressInfo(String address) {
+        String canonical = AddressNormalizer.normalize(address);
+        if (canonical.isEmpty()) {
+            return delegate.fetchAddressInfo(address);
+        }
+        PersistentLookupCache.Entry<AddressResponse> cached = cache.get(canonical);
+        if (cached != null) {
+            log.debug("Juso address cache hit: {}", canonical);
+            return Optional.ofNullable(cached.getValue());
+        }
+        Optional<AddressResponse> result = delegate.fetchAddressInfo(canonical);
+        store(canonical, result.orElse(null));
+        return result;
+    }
+
+    @Override
+    public Mono<AddressResponse> fetchAddressInfoReactive(String address) {
+        String canonical = AddressNormalizer.normalize(address);
+        if (canonical.isEmpty()) {
+            return delegate.fetchAddressInfoReactive(address);
+        }
+        return Mono.defer(() -> {
+            PersistentLookupCache.Entry<AddressResponse> cached = cache.get(canonical);
+            if (cached != null) {
+                log.debug("Juso address cache hit: {}", canonical);
+                return Mono.justOrEmpty(cached.getValue());
+            }
+            return delegate.fetchAddressInfoReactive(canonical)
+                    .doOnNext(response -> store(canonical, response))
+                    .switchIfEmpty(Mono.fromRunnable(() -> store(canonical, null)));
+        });
+    }
+
+    public PersistentLookupCache<AddressResponse> getCache() {
+        return cache;
+    }
+
+    @PreDestroy
+    public void close() {
+        cache.close();
+    }
+
+    // 행정구역코드가 있는 응답만 결과로 캐시하고, 나머지는 "결과 없음"으로 캐시
+    private void store(String canonical, AddressResponse response) {
+        if (response != null && response.hasAdmCd()) {
+            cache.put(canonical, response);
+        } else {
+            cache.putNegative(canonical);
+        }
+    }
+}
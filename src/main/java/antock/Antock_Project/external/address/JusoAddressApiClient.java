@@ -1,8 +1,12 @@
 package antock.Antock_Project.external.address;
 
+import antock.Antock_Project.common.config.ApiLimitProperties;
 import antock.Antock_Project.common.exception.BusinessException;
 import antock.Antock_Project.common.exception.ErrorCode;
+import antock.Antock_Project.common.util.ApiCallLimiter;
+import antock.Antock_Project.common.util.CircuitBreaker;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
@@ -20,7 +24,11 @@ import antock.Antock_Project.external.address.dto.AddressResponse;
 @Component
 public class JusoAddressApiClient implements AddressApiClient {
 
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration ATTEMPT_TIMEOUT = Duration.ofSeconds(5); // 시도 하나의 최대 시간 (초과 시 과부하로 보고 재시도)
+
     private final WebClient webClient;
+    private final ApiCallLimiter apiCallLimiter; // 초당 요청 수 제한 + 동시 호출 수 자동 조절 + circuit breaker/bulkhead (api.address.*)
 
     @Value("${api.address.endpoint}") // 키 이름 변경 (url -> endpoint)
     private String apiUrl;
@@ -28,19 +36,31 @@ public class JusoAddressApiClient implements AddressApiClient {
     @Value("${api.address.key}") // 키 이름 변경 (api.juso.key -> api.address.key)
     private String apiKey;
 
-    public JusoAddressApiClient(WebClient.Builder webClientBuilder) {
-        this.webClient = webClientBuilder
+    public JusoAddressApiClient(WebClient.Builder webClientBuilder,
+                                @Qualifier("addressApiLimits") ApiLimitProperties limits) {
+        this.apiCallLimiter = new ApiCallLimiter("Juso API", limits);
+        // 공유 Builder(연결 풀 공유)를 복사하여 이 API 전용 설정 추가
+        this.webClient = webClientBuilder.clone()
                 // .baseUrl(apiUrl) // 필요시 Base URL 설정
                 .build();
     }
 
     @Override
     public Optional<AddressResponse> fetchAddressInfo(String address) {
+        // 블로킹 호출이 필요한 곳을 위한 메소드. 논블로킹 호출은 fetchAddressInfoReactive 사용
+        // 호출 제한 대기는 fetchAddressInfoReactive 안에서 이루어지므로 그대로 block
+        return fetchAddressInfoReactive(address).blockOptional();
+    }
+
+    @Override
+    public Mono<AddressResponse> fetchAddressInfoReactive(String address) {
         log.debug("Fetching address info for address: {}", address);
 
         // 주소 API는 일반적으로 결과가 여러 개일 수 있으므로, 첫 번째 결과를 사용하거나 별도 처리가 필요할 수 있음
         // 여기서는 첫 번째 결과만 가져오는 것을 가정
-        return webClient.get()
+        // 시도마다 호출 제한(초당 요청 수, 동시 호출 수)을 적용하므로 재시도가 부하를 키우지 않음
+        // 재시도를 포함한 호출 전체에는 circuit breaker/bulkhead 적용 (장애 중에는 요청하지 않고 바로 API_UNAVAILABLE)
+        return apiCallLimiter.guard(() -> apiCallLimiter.call(() -> webClient.get()
                 .uri(uriBuilder -> uriBuilder
                         .path(apiUrl) // URL Path가 있다면 여기에 설정, 없다면 baseUrl 사용
                         .queryParam("confmKey", apiKey)
@@ -57,50 +77,33 @@ public class JusoAddressApiClient implements AddressApiClient {
                             log.error("Juso API call failed with status: {}, body: {}", clientResponse.statusCode(),
                                     errorBody);
                             // 주소 API의 에러 응답 형식에 따라 상세 에러 메시지 파싱 가능
-                            BusinessException ex = new BusinessException(ErrorCode.API_REQUEST_FAILED,
+                            BusinessException ex = new BusinessException(ApiCallLimiter.errorCode(clientResponse.statusCode()),
                                     "주소 API 요청 실패 (상태 코드: " + clientResponse.statusCode() + ", Body: " + errorBody
                                             + ")");
                             return Mono.error(ex);
                         }))
-                // 주소 API 응답은 실제 데이터가 'results.juso[0]' 와 같이 중첩 구조일 수 있음
-                // 따라서 바로 AddressResponse.class로 변환하기 전에 중간 처리가 필요할 수 있음
-                // 여기서는 직접 매핑을 시도하고, 실제 구조에 맞게 수정 필요
-                .bodyToMono(AddressApiResponseWrapper.class) // 실제 응답 구조에 맞는 Wrapper 클래스 필요
-                .flatMap(wrapper -> { // flatMap으로 변경
-                    if (wrapper != null && wrapper.getResults() != null && wrapper.getResults().getJuso() != null
-                            && !wrapper.getResults().getJuso().isEmpty()) {
-                        // 결과가 있으면 Mono<AddressResponse> 반환
-                        return Mono.just(wrapper.getResults().getJuso().get(0));
-                    } else {
-                        log.warn("No address found or unexpected response structure for: {}", address);
-                        // 결과가 없으면 빈 Mono 반환
-                        return Mono.empty();
+                // 응답 전체(results.common, results.juso[])를 그대로 매핑 (호출 측에서 juso[0].admCd 사용)
+                .bodyToMono(AddressResponse.class)
+                .timeout(ATTEMPT_TIMEOUT))
+                .flatMap(response -> {
+                    if (response.getResults() != null && response.getResults().getJuso() != null
+                            && response.getResults().getJuso().length > 0) {
+                        return Mono.just(response);
                     }
+                    log.warn("No address found or unexpected response structure for: {}", address);
+                    // 결과가 없으면 빈 Mono 반환
+                    return Mono.empty();
                 })
-                // .cast(AddressResponse.class) // flatMap으로 타입이 명확해졌으므로 cast 불필요
+                // 네트워크 오류 및 과부하(429/5xx, 시도 타임아웃) 시 재시도
                 .retryWhen(Retry.backoff(3, Duration.ofSeconds(1))
-                        .filter(throwable -> throwable instanceof IOException))
-                .blockOptional(Duration.ofSeconds(10)); // 이제 Mono<AddressResponse>에 대해 blockOptional 호출
-    }
-
-    // 주소 API 응답의 전체 구조를 감싸는 Wrapper 클래스 (실제 응답 구조에 맞게 정의 필요)
-    @lombok.Data
-    private static class AddressApiResponseWrapper {
-        private JusoResults results;
-    }
-
-    @lombok.Data
-    private static class JusoResults {
-        private Common common;
-        private java.util.List<AddressResponse> juso;
+                        .filter(throwable -> throwable instanceof IOException || ApiCallLimiter.isOverload(throwable)))
+                .timeout(REQUEST_TIMEOUT)); // 재시도를 포함한 전체 요청 최대 10초
     }
 
-    @lombok.Data
-    private static class Common {
-        private String totalCount;
-        private String currentPage;
-        private String countPerPage;
-        private String errorCode;
-        private String errorMessage;
+    /**
+     * 이 API의 circuit breaker (보강 대기 행 재처리 시 상태 확인용)
+     */
+    public CircuitBreaker getCircuitBreaker() {
+        return apiCallLimiter.getCircuitBreaker();
     }
 }
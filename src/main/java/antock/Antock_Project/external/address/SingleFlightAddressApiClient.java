@@ -0,0 +1,41 @@
+package antock.Antock_Project.external.address;
+
+import antock.Antock_Project.common.util.SingleFlight;
+import antock.Antock_Project.external.address.dto.AddressResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * 같은 주소에 대한 동시 조회를 하나의 API 호출로 합치는 AddressApiClient.
+ * 캐시 계층 뒤에 두면 정규화된 주소를 키로 사용하게 됩니다.
+ */
+public class SingleFlightAddressApiClient implements AddressApiClient {
+
+    private final AddressApiClient delegate;
+    private final SingleFlight<String, AddressResponse> singleFlight = new SingleFlight<>("Juso API");
+
+    public SingleFlightAddressApiClient(AddressApiClient delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Optional<AddressResponse> fetchAddressInfo(String address) {
+        if (address == null) {
+            return delegate.fetchAddressInfo(null);
+        }
+        return singleFlight.execute(address, () -> delegate.fetchAddressInfo(address));
+    }
+
+    @Override
+    public Mono<AddressResponse> fetchAddressInfoReactive(String address) {
+        if (address == null) {
+            return delegate.fetchAddressInfoReactive(null);
+        }
+        return singleFlight.executeReactive(address, () -> delegate.fetchAddressInfoReactive(address));
+    }
+
+    public SingleFlight<String, AddressResponse> getSingleFlight() {
+        return singleFlight;
+    }
+}
@@ -1,5 +1,6 @@
 package antock.Antock_Project.external.address.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
 
@@ -7,6 +8,15 @@ import lombok.Data;
 public class AddressResponse {
     private Results results;
 
+    /**
+     * 첫 번째 조회 결과에 행정구역코드가 있는지 여부
+     */
+    @JsonIgnore
+    public boolean hasAdmCd() {
+        return results != null && results.getJuso() != null && results.getJuso().length > 0
+                && results.getJuso()[0] != null && results.getJuso()[0].getAdmCd() != null;
+    }
+
     @Data
     public static class Results {
         private Common common;
@@ -0,0 +1,374 @@
+package antock.Antock_Project.external.csv;
+
+import antock.Antock_Project.common.exception.BusinessException;
+import antock.Antock_Project.common.exception.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 미리 띄워 둔 브라우저(WebDriver)를 재사용하는 풀.
+ * 브라우저 실행에는 수 초가 걸리므로, 다운로드마다 새로 실행하지 않고 작업이 끝난 브라우저를 다음 작업에 넘겨줍니다.
+ * <ul>
+ *     <li>작업마다 별도의 다운로드 디렉토리를 지정하므로, 동시에 실행되는 작업의 파일이 섞이지 않습니다.</li>
+ *     <li>빌려줄 때마다 브라우저가 응답하는지 확인하고, 응답하지 않거나 작업 중 WebDriver 오류가 난 브라우저는 버립니다.</li>
+ *     <li>max-uses번 사용한 브라우저는 종료하고 새로 실행합니다. (메모리 누수 등 누적 문제 방지)</li>
+ * </ul>
+ * 브라우저 수는 pool-size로 제한되며, 모두 사용 중이면 acquire-timeout까지 대기합니다.
+ */
+@Slf4j
+@Component
+public class BrowserSessionPool {
+
+    private static final String BLANK_PAGE = "about:blank";
+
+    private final DriverFactory driverFactory;
+    @Getter
+    private final int poolSize;
+    private final int maxUses;
+    private final Duration acquireTimeout;
+    private final Path downloadRoot;
+    private final boolean warmUp;
+
+    // 아래 필드는 this로 동기화
+    private final Deque<PooledDriver> idle = new ArrayDeque<>();
+    private int created;     // 현재 살아 있는(사용 중 + 대기 중) 브라우저 수
+    private boolean closed;
+
+    @Autowired
+    public BrowserSessionPool(ObjectProvider<WebDriver> webDriverProvider,
+                              @Value("${antocker.browser.pool-size:${antocker.scheduler.max-concurrent-downloads:1}}") int poolSize,
+                              @Value("${antocker.browser.max-uses:20}") int maxUses,
+                              @Value("${antocker.browser.acquire-timeout:10m}") Duration acquireTimeout,
+                              @Value("${antocker.browser.download-directory:downloads}") String downloadDirectory,
+                              @Value("${antocker.browser.warm-up:true}") boolean warmUp) {
+        this(webDriverProvider::getObject, poolSize, maxUses, acquireTimeout,
+                Paths.get(downloadDirectory).toAbsolutePath(), warmUp);
+    }
+
+    BrowserSessionPool(DriverFactory driverFactory, int poolSize, int maxUses, Duration acquireTimeout,
+                       Path downloadRoot, boolean warmUp) {
+        if (poolSize <= 0 || maxUses <= 0) {
+            throw new IllegalArgumentException("브라우저 풀 크기와 최대 사용 횟수는 1 이상이어야 합니다: " + poolSize + ", " + maxUses);
+        }
+        this.driverFactory = driverFactory;
+        this.poolSize = poolSize;
+        this.maxUses = maxUses;
+        this.acquireTimeout = acquireTimeout;
+        this.downloadRoot = downloadRoot;
+        this.warmUp = warmUp;
+    }
+
+    /**
+     * 애플리케이션 시작 후 백그라운드에서 브라우저를 미리 실행합니다. (첫 다운로드의 대기 시간 제거)
+     * 실행에 실패해도 애플리케이션은 계속 동작하며, 다운로드 시 다시 실행을 시도합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpInBackground() {
+        if (!warmUp) {
+            return;
+        }
+        Thread thread = new Thread(this::warmUp, "browser-pool-warm-up");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void warmUp() {
+        List<PooledDriver> started = new ArrayList<>();
+        try {
+            while (true) {
+                synchronized (this) {
+                    if (closed || created >= poolSize) {
+                        break;
+                    }
+                    created++;
+                }
+                try {
+                    started.add(newDriver());
+                } catch (RuntimeException e) {
+                    discard(null); // 예약한 자리 반환 (반환하지 않으면 acquire가 자리가 없다고 보고 계속 대기)
+                    throw e;
+                }
+            }
+            log.info("Browser pool warmed up: {} browser(s) ready", started.size());
+        } catch (RuntimeException e) {
+            log.warn("Browser pool warm-up failed; browsers will be started on first download: {}", e.getMessage());
+        } finally {
+            started.forEach(this::giveBack);
+        }
+    }
+
+    /**
+     * 브라우저를 빌려 작업을 실행합니다. 작업에는 이 작업만 사용하는 다운로드 디렉토리가 지정되며,
+     * 작업이 끝나면 디렉토리를 삭제하므로 남길 파일은 {@link BrowserSession#keep(Path)}로 옮겨야 합니다.
+     *
+     * @param task 실행할 작업
+     * @return 작업 결과
+     */
+    public <T> T execute(BrowserTask<T> task) {
+        PooledDriver pooled = acquire();
+        Path jobDirectory = null;
+        boolean broken = false;
+        try {
+            jobDirectory = Files.createDirectories(downloadRoot.resolve("job-" + UUID.randomUUID()));
+            setDownloadDirectory(pooled.driver, jobDirectory);
+            pooled.uses++;
+            return task.run(new BrowserSession(pooled.driver, jobDirectory, downloadRoot));
+        } catch (NotFoundException | TimeoutException e) {
+            throw e; // 페이지 문제이므로 브라우저는 재사용
+        } catch (WebDriverException e) {
+            broken = true; // 브라우저 상태를 알 수 없으므로 재사용하지 않음
+            throw e;
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.CSV_DOWNLOAD_FAILED, "다운로드 디렉토리를 만들 수 없습니다: " + e.getMessage());
+        } finally {
+            deleteRecursively(jobDirectory);
+            release(pooled, broken);
+        }
+    }
+
+    /**
+     * 대기 중인 브라우저 수
+     */
+    public synchronized int getIdleCount() {
+        return idle.size();
+    }
+
+    /**
+     * 살아 있는(사용 중 + 대기 중) 브라우저 수
+     */
+    public synchronized int getCreatedCount() {
+        return created;
+    }
+
+    @PreDestroy
+    public void close() {
+        List<PooledDriver> drivers;
+        synchronized (this) {
+            closed = true;
+            drivers = new ArrayList<>(idle);
+            idle.clear();
+            created -= drivers.size();
+            notifyAll();
+        }
+        drivers.forEach(this::quit);
+    }
+
+    // 대기 중인 브라우저 중 응답하는 것을 꺼내거나, 여유가 있으면 새로 실행. 모두 사용 중이면 대기
+    private PooledDriver acquire() {
+        long deadline = System.nanoTime() + acquireTimeout.toNanos();
+        while (true) {
+            PooledDriver candidate = null;
+            boolean create = false;
+            synchronized (this) {
+                while (!closed && idle.isEmpty() && created >= poolSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        throw new BusinessException(ErrorCode.DOWNLOAD_TIMEOUT,
+                                "사용 가능한 브라우저가 없습니다 (pool-size=" + poolSize + ")");
+                    }
+                    try {
+                        TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new BusinessException(ErrorCode.CSV_DOWNLOAD_FAILED, "브라우저 대기 중 인터럽트 발생");
+                    }
+                }
+                if (closed) {
+                    throw new BusinessException(ErrorCode.CSV_DOWNLOAD_FAILED, "브라우저 풀이 종료되었습니다.");
+                }
+                if (!idle.isEmpty()) {
+                    candidate = idle.pollFirst(); // 최근에 반환된 브라우저부터 사용
+                } else {
+                    created++;
+                    create = true;
+                }
+            }
+            if (create) {
+                try {
+                    return newDriver();
+                } catch (RuntimeException e) {
+                    discard(null);
+                    throw e;
+                }
+            }
+            if (isHealthy(candidate)) {
+                return candidate;
+            }
+            log.warn("Discarding unresponsive browser (used {} times)", candidate.uses);
+            discard(candidate);
+        }
+    }
+
+    private void release(PooledDriver pooled, boolean broken) {
+        if (broken) {
+            log.warn("Discarding browser after WebDriver error (used {} times)", pooled.uses);
+            discard(pooled);
+        } else if (pooled.uses >= maxUses) {
+            log.info("Recycling browser after {} uses", pooled.uses);
+            discard(pooled);
+        } else {
+            try {
+                pooled.driver.get(BLANK_PAGE); // 이전 작업의 페이지 상태를 남기지 않음
+                giveBack(pooled);
+            } catch (WebDriverException e) {
+                log.warn("Discarding browser that failed to reset: {}", e.getMessage());
+                discard(pooled);
+            }
+        }
+    }
+
+    private void giveBack(PooledDriver pooled) {
+        boolean quit;
+        synchronized (this) {
+            quit = closed;
+            if (closed) {
+                created--;
+            } else {
+                idle.addFirst(pooled);
+            }
+            notifyAll();
+        }
+        if (quit) {
+            quit(pooled);
+        }
+    }
+
+    private void discard(PooledDriver pooled) {
+        synchronized (this) {
+            created--;
+            notifyAll();
+        }
+        if (pooled != null) {
+            quit(pooled);
+        }
+    }
+
+    private PooledDriver newDriver() {
+        long start = System.nanoTime();
+        WebDriver driver = driverFactory.create();
+        log.info("Started browser in {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return new PooledDriver(driver);
+    }
+
+    private static boolean isHealthy(PooledDriver pooled) {
+        try {
+            pooled.driver.getWindowHandle();
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    private void quit(PooledDriver pooled) {
+        try {
+            pooled.driver.quit();
+        } catch (WebDriverException e) {
+            log.debug("Failed to quit browser: {}", e.getMessage());
+        }
+    }
+
+    // Chrome 계열은 실행 중에도 다운로드 디렉토리를 바꿀 수 있음 (DevTools 프로토콜)
+    private static void setDownloadDirectory(WebDriver driver, Path directory) {
+        if (driver instanceof ChromiumDriver chromiumDriver) {
+            chromiumDriver.executeCdpCommand("Browser.setDownloadBehavior",
+                    Map.of("behavior", "allow", "downloadPath", directory.toString(), "eventsEnabled", true));
+        } else {
+            log.debug("Browser does not support changing the download directory: {}", driver.getClass().getSimpleName());
+        }
+    }
+
+    private static void deleteRecursively(Path directory) {
+        if (directory == null || !Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    log.warn("Failed to delete download file: {}", path);
+                }
+            });
+        } catch (IOException e) {
+            log.warn("Failed to clean up download directory {}: {}", directory, e.getMessage());
+        }
+    }
+
+    /**
+     * 브라우저를 사용하는 작업
+     */
+    @FunctionalInterface
+    public interface BrowserTask<T> {
+        T run(BrowserSession session) throws IOException;
+    }
+
+    @FunctionalInterface
+    interface DriverFactory {
+        WebDriver create();
+    }
+
+    /**
+     * 작업 하나가 사용하는 브라우저와 다운로드 디렉토리
+     */
+    public static final class BrowserSession {
+
+        @Getter
+        private final WebDriver driver;
+        @Getter
+        private final Path downloadDirectory;
+        private final Path downloadRoot;
+
+        private BrowserSession(WebDriver driver, Path downloadDirectory, Path downloadRoot) {
+            this.driver = driver;
+            this.downloadDirectory = downloadDirectory;
+            this.downloadRoot = downloadRoot;
+        }
+
+        /**
+         * 다운로드 디렉토리의 파일을 작업이 끝난 뒤에도 남도록 상위 디렉토리로 옮깁니다.
+         *
+         * @return 옮긴 파일 경로 (이름 앞에 작업 디렉토리 이름을 붙여 다른 작업의 파일과 겹치지 않음)
+         */
+        public Path keep(Path file) throws IOException {
+            Path target = downloadRoot.resolve(downloadDirectory.getFileName() + "_" + file.getFileName());
+            return Files.move(file, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static final class PooledDriver {
+        private final WebDriver driver;
+        private int uses;
+
+        private PooledDriver(WebDriver driver) {
+            this.driver = driver;
+        }
+    }
+}
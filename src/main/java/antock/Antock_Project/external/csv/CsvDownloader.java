@@ -1,5 +1,12 @@
 package antock.Antock_Project.external.csv;
 
+import antock.Antock_Project.common.exception.BusinessException;
+import antock.Antock_Project.common.exception.ErrorCode;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 /**
@@ -14,4 +21,34 @@ public interface CsvDownloader {
      * @return 다운로드된 CSV 파일의 경로
      */
     Path downloadCsvFile(String condition);
+
+    /**
+     * 지정된 조건에 맞는 CSV 내용을 InputStream으로 반환합니다.
+     * 파일 없이 받는 대로 읽을 수 있는 구현체(HTTP 다운로드)는 다운로드가 끝나기 전부터 읽을 수 있습니다.
+     * 기본 구현은 파일로 다운로드한 뒤 그 파일을 열며, 스트림을 닫으면 파일을 삭제합니다.
+     * 반환된 스트림은 반드시 닫아야 합니다.
+     *
+     * @param condition 다운로드 조건 (예: 지역 코드, 검색어 등)
+     * @return CSV 내용 (다운로드에 실패하면 null)
+     */
+    default InputStream openCsvStream(String condition) {
+        Path file = downloadCsvFile(condition);
+        if (file == null) {
+            return null;
+        }
+        try {
+            return new FilterInputStream(Files.newInputStream(file)) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        Files.deleteIfExists(file);
+                    }
+                }
+            };
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.CSV_DOWNLOAD_FAILED, "다운로드한 CSV 파일을 열 수 없습니다: " + e.getMessage());
+        }
+    }
 }
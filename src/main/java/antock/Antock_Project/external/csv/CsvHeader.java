@@ -0,0 +1,95 @@
+package antock.Antock_Project.external.csv;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CSV 파일 하나의 헤더(컬럼명 → 인덱스) 정보.
+ * 파일당 한 번만 생성되어 모든 {@link CsvRow}가 공유하므로, 행마다 헤더 문자열을 키로 갖는 Map을 만들 필요가 없습니다.
+ */
+public final class CsvHeader {
+
+    // 처리에 사용하는 컬럼명 (파일 버전에 따라 컬럼명이 다를 수 있어 별칭을 순서대로 확인)
+    public static final String BUSINESS_REGISTRATION_NUMBER = "사업자등록번호";
+    private static final String[] COMPANY_NAME_COLUMNS = {"상호", "상호명"};
+    private static final String[] ADDRESS_COLUMNS = {"사업장주소", "사업장소재지"};
+
+    private final String[] names;
+    private final Map<String, Integer> indexByName;
+
+    // 자주 쓰는 컬럼의 인덱스는 미리 계산 (-1이면 해당 컬럼 없음)
+    private final int businessRegistrationNumberIndex;
+    private final int companyNameIndex;
+    private final int addressIndex;
+
+    private CsvHeader(String[] names) {
+        this.names = names;
+        this.indexByName = new HashMap<>(names.length * 2);
+        for (int i = 0; i < names.length; i++) {
+            indexByName.putIfAbsent(names[i], i); // 중복 컬럼명은 첫 번째 컬럼 사용
+        }
+        this.businessRegistrationNumberIndex = indexOf(BUSINESS_REGISTRATION_NUMBER);
+        this.companyNameIndex = firstIndexOf(COMPANY_NAME_COLUMNS);
+        this.addressIndex = firstIndexOf(ADDRESS_COLUMNS);
+    }
+
+    /**
+     * 컬럼명 배열로 헤더를 생성합니다. (배열은 복사하지 않고 그대로 사용)
+     */
+    public static CsvHeader of(String... names) {
+        return new CsvHeader(names);
+    }
+
+    /**
+     * 이 헤더를 공유하는 데이터 행을 생성합니다. (배열은 복사하지 않고 그대로 사용)
+     */
+    public CsvRow row(String... values) {
+        return new CsvRow(this, values);
+    }
+
+    /**
+     * 컬럼명의 인덱스를 반환합니다.
+     *
+     * @return 컬럼 인덱스 (없으면 -1)
+     */
+    public int indexOf(String name) {
+        Integer index = indexByName.get(name);
+        return index != null ? index : -1;
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    public String name(int index) {
+        return names[index];
+    }
+
+    public List<String> names() {
+        return Arrays.asList(names);
+    }
+
+    int businessRegistrationNumberIndex() {
+        return businessRegistrationNumberIndex;
+    }
+
+    int companyNameIndex() {
+        return companyNameIndex;
+    }
+
+    int addressIndex() {
+        return addressIndex;
+    }
+
+    private int firstIndexOf(String[] candidates) {
+        for (String candidate : candidates) {
+            int index = indexOf(candidate);
+            if (index >= 0) {
+                return index;
+            }
+        }
+        return -1;
+    }
+}
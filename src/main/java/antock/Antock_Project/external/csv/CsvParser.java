@@ -1,8 +1,10 @@
 package antock.Antock_Project.external.csv;
 
+import java.io.InputStream;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * CSV 파일을 파싱하는 기능을 정의하는 인터페이스
@@ -17,4 +19,26 @@ public interface CsvParser {
      * @return 파싱된 데이터 리스트 (List of Maps)
      */
     List<Map<String, String>> parseCsvFile(Path filePath);
+
+    /**
+     * 지정된 경로의 CSV 파일을 한 번만 열어 헤더를 읽은 뒤, 데이터 행을 지연(lazy) 방식으로 반환합니다.
+     * 전체 파일을 메모리에 올리지 않으므로 대용량 파일도 일정한 메모리로 처리할 수 있습니다.
+     * 각 행은 파일 단위로 공유되는 헤더와 값 배열만 갖는 {@link CsvRow}로 반환됩니다.
+     * 반환된 Stream은 파일 핸들을 점유하므로 반드시 try-with-resources 등으로 닫아야 합니다.
+     *
+     * @param filePath 파싱할 CSV 파일의 경로
+     * @return 데이터 행 Stream
+     */
+    Stream<CsvRow> streamCsvFile(Path filePath);
+
+    /**
+     * InputStream의 CSV 내용을 {@link #streamCsvFile(Path)}와 같은 방식으로 파싱합니다.
+     * 바이트를 받는 대로 조금씩 문자로 변환(디코딩)하므로, 다운로드 중인 응답 본문을 파일 없이 바로 파싱할 수 있습니다.
+     * 반환된 Stream을 닫으면 InputStream도 닫힙니다.
+     *
+     * @param inputStream 파싱할 CSV 내용
+     * @param sourceName  로그에 표시할 출처 (예: 지역 조건)
+     * @return 데이터 행 Stream
+     */
+    Stream<CsvRow> streamCsv(InputStream inputStream, String sourceName);
 }
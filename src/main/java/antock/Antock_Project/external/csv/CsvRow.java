@@ -0,0 +1,137 @@
+package antock.Antock_Project.external.csv;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * CSV 데이터 한 행.
+ * 컬럼 값은 String 배열로만 보관하고, 컬럼명 → 인덱스 매핑은 파일 단위로 공유되는 {@link CsvHeader}를 사용합니다.
+ */
+public final class CsvRow {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final CsvHeader header;
+    private final String[] values;
+
+    // FastCsvParser가 만든 행: 모든 컬럼 문자를 배열 하나에 담고, 컬럼 값(String)은 처음 조회할 때 생성
+    private final char[] chars;
+    private final int[] bounds; // 컬럼마다 [시작, 끝) 위치
+
+    CsvRow(CsvHeader header, String[] values) {
+        this.header = header;
+        this.values = values;
+        this.chars = null;
+        this.bounds = null;
+    }
+
+    CsvRow(CsvHeader header, char[] chars, int[] bounds) {
+        this.header = header;
+        this.values = new String[bounds.length / 2];
+        this.chars = chars;
+        this.bounds = bounds;
+    }
+
+    public CsvHeader getHeader() {
+        return header;
+    }
+
+    /**
+     * 컬럼 인덱스로 값을 조회합니다.
+     *
+     * @return 컬럼 값 (인덱스가 범위를 벗어나면 null)
+     */
+    public String get(int index) {
+        if (index < 0 || index >= values.length) {
+            return null;
+        }
+        String value = values[index];
+        if (value == null && chars != null) {
+            // 같은 값을 여러 스레드가 동시에 만들어도 결과가 같으므로 동기화하지 않음
+            value = new String(chars, bounds[2 * index], bounds[2 * index + 1] - bounds[2 * index]);
+            values[index] = value;
+        }
+        return value;
+    }
+
+    /**
+     * 컬럼명으로 값을 조회합니다.
+     *
+     * @return 컬럼 값 (해당 컬럼이 없으면 null)
+     */
+    public String get(String column) {
+        return get(header.indexOf(column));
+    }
+
+    public String getBusinessRegistrationNumber() {
+        return get(header.businessRegistrationNumberIndex()); // 사업자등록번호
+    }
+
+    public String getCompanyName() {
+        return get(header.companyNameIndex()); // 상호
+    }
+
+    public String getAddress() {
+        return get(header.addressIndex()); // 사업장주소
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * 모든 컬럼 값으로 계산한 64비트 내용 해시 (FNV-1a).
+     * 이전 적재 이후 행이 바뀌었는지 비교하는 용도이며, 값의 경계를 구분하므로 ["ab", "c"]와 ["a", "bc"]는 다른 값이 됩니다.
+     */
+    public long fingerprint() {
+        if (chars != null) {
+            return fingerprintOfChars(); // 컬럼 값을 만들지 않고 같은 해시 계산
+        }
+        long hash = FNV_OFFSET_BASIS;
+        for (String value : values) {
+            if (value != null) {
+                for (int i = 0; i < value.length(); i++) {
+                    char c = value.charAt(i);
+                    hash = (hash ^ (c & 0xff)) * FNV_PRIME;
+                    hash = (hash ^ (c >>> 8)) * FNV_PRIME;
+                }
+            }
+            hash = (hash ^ 0x1f) * FNV_PRIME; // 컬럼 구분자 (unit separator)
+        }
+        return hash;
+    }
+
+    private long fingerprintOfChars() {
+        long hash = FNV_OFFSET_BASIS;
+        for (int column = 0; column < values.length; column++) {
+            for (int i = bounds[2 * column]; i < bounds[2 * column + 1]; i++) {
+                char c = chars[i];
+                hash = (hash ^ (c & 0xff)) * FNV_PRIME;
+                hash = (hash ^ (c >>> 8)) * FNV_PRIME;
+            }
+            hash = (hash ^ 0x1f) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * 헤더를 Key로 하는 Map으로 변환합니다. (기존 Map 기반 API 호환용)
+     */
+    public Map<String, String> toMap() {
+        Map<String, String> map = new LinkedHashMap<>(header.size() * 2);
+        for (int i = 0; i < header.size() && i < values.length; i++) {
+            map.putIfAbsent(header.name(i), get(i));
+        }
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        for (int i = 0; i < values.length; i++) {
+            get(i);
+        }
+        return "CsvRow" + Arrays.toString(values);
+    }
+}
@@ -0,0 +1,296 @@
+package antock.Antock_Project.external.csv;
+
+import com.opencsv.CSVParser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 공정거래위원회 CSV 파일용 CSV 토크나이저. {@link FastCsvParser}에서 사용합니다.
+ * <ul>
+ *     <li>채널에서 큰 버퍼 단위로 바이트를 읽고, 재사용하는 문자 버퍼로 바로 디코딩합니다. (Reader 계층 없음)</li>
+ *     <li>정규식 없이 따옴표를 고려하여 컬럼을 나누고, 레코드의 모든 컬럼 문자를 배열 하나에 모아
+ *         컬럼 값(String)은 실제로 조회할 때만 만듭니다. ({@link CsvRow})</li>
+ * </ul>
+ * 결과는 opencsv의 CSVReader(기본 설정) + 컬럼 값 trim()과 같아야 합니다.
+ * 일반적인 형식(따옴표로 감싼 컬럼, 따옴표 두 개로 표현한 따옴표, 여러 줄 컬럼)은 직접 처리하고,
+ * opencsv가 특수하게 처리하는 형식(역슬래시, 컬럼 중간의 따옴표 등)이 나온 레코드만 opencsv의 CSVParser로 다시 파싱합니다.
+ */
+final class CsvTokenizer implements Closeable {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final char ESCAPE = '\\'; // opencsv 기본 escape 문자
+    private static final int MIN_BUFFER_SIZE = 4; // 여러 바이트 문자 하나가 버퍼에 들어가야 디코딩 가능
+
+    private final ReadableByteChannel channel;
+    private final CharsetDecoder decoder;
+    private final ByteBuffer bytes;
+    private final CharBuffer chars;
+    private boolean inputEnded;
+    private boolean decodeEnded; // 마지막 바이트까지 디코딩(flush) 완료
+    private CoderResult pendingError; // 디코딩 오류 앞까지의 문자를 먼저 읽은 뒤 던질 오류
+    private boolean skipLineFeed; // 직전 줄이 '\r'로 끝났으면 이어지는 '\n'은 같은 줄바꿈
+
+    // 현재 줄 (줄바꿈 문자 제외)
+    private char[] line = new char[1024];
+    private int lineLength;
+    private long lineNumber;
+
+    // 현재 레코드: 따옴표를 처리한 컬럼 문자와 컬럼별 [시작, 끝) 위치 (trim 적용)
+    private char[] record = new char[1024];
+    private int recordLength;
+    private int[] bounds = new int[64];
+    private int fieldCount;
+    private String[] slowValues; // opencsv로 다시 파싱한 레코드의 컬럼 값
+    private final List<String> previousLines = new ArrayList<>(); // 여러 줄 레코드의 앞선 줄 (다시 파싱용)
+
+    CsvTokenizer(ReadableByteChannel channel, Charset charset, int bufferSize) {
+        this.channel = channel;
+        this.decoder = charset.newDecoder(); // 잘못된 바이트는 대체 문자로 바꾸지 않고 오류로 처리 (Files.newBufferedReader와 같음)
+        int capacity = Math.max(bufferSize, MIN_BUFFER_SIZE);
+        this.bytes = ByteBuffer.allocate(capacity);
+        this.chars = CharBuffer.allocate(capacity);
+        this.chars.flip(); // 비어 있는 읽기 상태로 시작
+    }
+
+    /**
+     * 다음 레코드를 읽습니다.
+     *
+     * @return 레코드가 있으면 true, 파일 끝이면 false
+     */
+    boolean next() throws IOException {
+        if (!readLine()) {
+            return false;
+        }
+        recordLength = 0;
+        fieldCount = 0;
+        slowValues = null;
+        previousLines.clear();
+
+        int fieldStart = 0;
+        boolean inQuotes = false;
+        boolean afterClosingQuote = false;
+        while (true) {
+            for (int i = 0; i < lineLength; i++) {
+                char c = line[i];
+                if (inQuotes) {
+                    if (c == QUOTE) {
+                        if (i + 1 < lineLength && line[i + 1] == QUOTE) {
+                            append(QUOTE); // "" → "
+                            i++;
+                        } else {
+                            inQuotes = false;
+                            afterClosingQuote = true;
+                        }
+                    } else if (c == ESCAPE) {
+                        return parseWithOpenCsv();
+                    } else {
+                        append(c);
+                    }
+                } else if (c == SEPARATOR) {
+                    endField(fieldStart);
+                    fieldStart = recordLength;
+                    afterClosingQuote = false;
+                } else if (afterClosingQuote || c == ESCAPE || (c == QUOTE && recordLength != fieldStart)) {
+                    // 닫는 따옴표 뒤의 문자, 역슬래시, 컬럼 중간(공백 뒤 포함)의 따옴표
+                    return parseWithOpenCsv();
+                } else if (c == QUOTE) {
+                    inQuotes = true;
+                } else {
+                    append(c);
+                }
+            }
+            if (!inQuotes) {
+                endField(fieldStart);
+                return true;
+            }
+            // 따옴표 안에서 줄이 끝나면 다음 줄까지 같은 컬럼 (opencsv와 같이 '\n'으로 연결)
+            append('\n');
+            previousLines.add(new String(line, 0, lineLength));
+            if (!readLine()) {
+                throw unterminatedQuote();
+            }
+        }
+    }
+
+    int fieldCount() {
+        return fieldCount;
+    }
+
+    String field(int index) {
+        if (slowValues != null) {
+            return slowValues[index];
+        }
+        return new String(record, bounds[2 * index], bounds[2 * index + 1] - bounds[2 * index]);
+    }
+
+    /**
+     * 현재 레코드를 행으로 만듭니다. 레코드 버퍼는 다음 레코드에서 재사용하므로 필요한 만큼만 복사합니다.
+     */
+    CsvRow toRow(CsvHeader header) {
+        if (slowValues != null) {
+            return header.row(slowValues);
+        }
+        return new CsvRow(header, Arrays.copyOf(record, recordLength), Arrays.copyOf(bounds, 2 * fieldCount));
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    // opencsv CSVReader.readNext()와 같은 방식으로 현재 레코드의 줄들을 다시 파싱
+    private boolean parseWithOpenCsv() throws IOException {
+        CSVParser parser = new CSVParser();
+        String[] result = null;
+        for (String previousLine : previousLines) {
+            result = combine(result, parser.parseLineMulti(previousLine));
+        }
+        result = combine(result, parser.parseLineMulti(new String(line, 0, lineLength)));
+        while (parser.isPending()) {
+            previousLines.add(new String(line, 0, lineLength));
+            if (!readLine()) {
+                throw unterminatedQuote();
+            }
+            result = combine(result, parser.parseLineMulti(new String(line, 0, lineLength)));
+        }
+        for (int i = 0; i < result.length; i++) {
+            result[i] = result[i].trim();
+        }
+        slowValues = result;
+        fieldCount = result.length;
+        return true;
+    }
+
+    private static String[] combine(String[] result, String[] read) {
+        if (read.length == 0) {
+            return result;
+        }
+        if (result == null) {
+            return read;
+        }
+        String[] combined = Arrays.copyOf(result, result.length + read.length);
+        System.arraycopy(read, 0, combined, result.length, read.length);
+        return combined;
+    }
+
+    private IOException unterminatedQuote() {
+        return new IOException("Unterminated quoted field at end of CSV line " + lineNumber);
+    }
+
+    private void append(char c) {
+        if (recordLength == record.length) {
+            record = Arrays.copyOf(record, record.length * 2);
+        }
+        record[recordLength++] = c;
+    }
+
+    // 컬럼 끝: String.trim()과 같이 앞뒤의 ' ' 이하 문자를 제외한 위치를 기록
+    private void endField(int start) {
+        int end = recordLength;
+        while (start < end && record[start] <= ' ') {
+            start++;
+        }
+        while (end > start && record[end - 1] <= ' ') {
+            end--;
+        }
+        if (2 * fieldCount + 1 >= bounds.length) {
+            bounds = Arrays.copyOf(bounds, bounds.length * 2);
+        }
+        bounds[2 * fieldCount] = start;
+        bounds[2 * fieldCount + 1] = end;
+        fieldCount++;
+    }
+
+    // BufferedReader.readLine()과 같이 '\n', '\r', "\r\n"을 줄바꿈으로 처리. 파일 끝이면 false
+    private boolean readLine() throws IOException {
+        lineLength = 0;
+        boolean read = false;
+        while (true) {
+            if (!chars.hasRemaining() && !fill()) {
+                if (read) {
+                    lineNumber++;
+                }
+                return read;
+            }
+            char[] buffer = chars.array();
+            int position = chars.position();
+            int limit = chars.limit();
+            if (skipLineFeed) {
+                skipLineFeed = false;
+                if (buffer[position] == '\n') {
+                    chars.position(position + 1);
+                    continue;
+                }
+            }
+            read = true;
+            int start = position;
+            while (position < limit) {
+                char c = buffer[position];
+                if (c == '\n' || c == '\r') {
+                    appendLine(buffer, start, position - start);
+                    chars.position(position + 1);
+                    skipLineFeed = c == '\r';
+                    lineNumber++;
+                    return true;
+                }
+                position++;
+            }
+            appendLine(buffer, start, position - start);
+            chars.position(position);
+        }
+    }
+
+    private void appendLine(char[] buffer, int offset, int length) {
+        if (lineLength + length > line.length) {
+            line = Arrays.copyOf(line, Math.max(line.length * 2, lineLength + length));
+        }
+        System.arraycopy(buffer, offset, line, lineLength, length);
+        lineLength += length;
+    }
+
+    // 문자 버퍼를 모두 읽었을 때 다음 바이트를 읽어 디코딩. 더 이상 문자가 없으면 false
+    // 잘못된 바이트는 BufferedReader처럼 그 앞까지의 문자를 모두 읽은 뒤 MalformedInputException 등(IOException)으로 실패
+    private boolean fill() throws IOException {
+        if (pendingError != null) {
+            pendingError.throwException();
+        }
+        chars.clear();
+        if (decodeEnded) {
+            chars.flip();
+            return false;
+        }
+        while (true) {
+            if (!inputEnded && channel.read(bytes) < 0) {
+                inputEnded = true;
+            }
+            bytes.flip();
+            CoderResult result = decoder.decode(bytes, chars, inputEnded);
+            bytes.compact();
+            if (inputEnded && result.isUnderflow()) {
+                result = decoder.flush(chars);
+                decodeEnded = result.isUnderflow();
+            }
+            if (result.isError()) {
+                if (chars.position() == 0) {
+                    result.throwException();
+                }
+                pendingError = result;
+            }
+            if (chars.position() > 0 || inputEnded) {
+                chars.flip();
+                return chars.hasRemaining();
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package antock.Antock_Project.external.csv;
+
+import org.reactivestreams.Subscription;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP 응답 본문(DataBuffer Flux)을 받는 대로 읽을 수 있는 InputStream.
+ * 최대 prefetch개의 조각만 미리 받아 두고, 읽는 쪽이 조각을 소비할 때마다 다음 조각을 요청하므로
+ * (backpressure) 파서가 느려도 응답 전체가 메모리에 쌓이지 않고, 네트워크 스레드를 막지도 않습니다.
+ * 응답 도중 오류가 나면 남은 데이터를 읽은 뒤 IOException으로 전달합니다. (잘린 파일을 정상 종료로 읽지 않음)
+ */
+final class DataBufferInputStream extends InputStream {
+
+    private static final byte[] END = new byte[0];
+
+    private final LinkedBlockingQueue<byte[]> chunks = new LinkedBlockingQueue<>();
+    private final Subscriber subscriber = new Subscriber();
+    private final long readTimeoutNanos;
+    private volatile Throwable error;
+    private byte[] current;
+    private int position;
+    private boolean finished;
+
+    /**
+     * @param body        응답 본문
+     * @param prefetch    미리 받아 둘 최대 조각 수
+     * @param readTimeout 다음 조각을 기다리는 최대 시간
+     */
+    DataBufferInputStream(Flux<DataBuffer> body, int prefetch, Duration readTimeout) {
+        this.readTimeoutNanos = readTimeout.toNanos();
+        subscriber.prefetch = prefetch;
+        body.subscribe(subscriber);
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] one = new byte[1];
+        int read = read(one, 0, 1);
+        return read == -1 ? -1 : one[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (!nextChunk()) {
+            return -1;
+        }
+        int read = Math.min(length, current.length - position);
+        System.arraycopy(current, position, buffer, offset, read);
+        position += read;
+        return read;
+    }
+
+    @Override
+    public int available() {
+        return current == null ? 0 : current.length - position;
+    }
+
+    @Override
+    public void close() {
+        finished = true;
+        subscriber.dispose(); // 다 읽지 않고 닫으면 응답 수신 중단
+        chunks.clear();
+    }
+
+    // 현재 조각을 다 읽었으면 다음 조각을 기다림. 더 읽을 데이터가 없으면 false
+    private boolean nextChunk() throws IOException {
+        while (current == null || position == current.length) {
+            if (finished) {
+                return false;
+            }
+            byte[] chunk;
+            try {
+                chunk = chunks.poll(readTimeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close();
+                throw new InterruptedIOException("CSV 응답 대기 중 인터럽트 발생");
+            }
+            if (chunk == null) {
+                close();
+                throw new IOException("CSV 응답 대기 시간 초과");
+            }
+            if (chunk == END) {
+                finished = true;
+                if (error != null) {
+                    throw new IOException("CSV 응답 수신 중 오류 발생: " + error.getMessage(), error);
+                }
+                return false;
+            }
+            current = chunk;
+            position = 0;
+            subscriber.request(1); // 조각 하나를 꺼냈으므로 하나 더 받음
+        }
+        return true;
+    }
+
+    private final class Subscriber extends BaseSubscriber<DataBuffer> {
+
+        private int prefetch;
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+            subscription.request(prefetch);
+        }
+
+        @Override
+        protected void hookOnNext(DataBuffer buffer) {
+            try {
+                byte[] bytes = new byte[buffer.readableByteCount()];
+                buffer.read(bytes);
+                if (bytes.length > 0) {
+                    chunks.add(bytes);
+                } else {
+                    request(1);
+                }
+            } finally {
+                DataBufferUtils.release(buffer);
+            }
+        }
+
+        @Override
+        protected void hookOnError(Throwable throwable) {
+            error = throwable;
+            chunks.add(END);
+        }
+
+        @Override
+        protected void hookOnComplete() {
+            chunks.add(END);
+        }
+    }
+}
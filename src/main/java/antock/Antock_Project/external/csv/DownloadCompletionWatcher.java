@@ -0,0 +1,145 @@
+package antock.Antock_Project.external.csv;
+
+import antock.Antock_Project.common.exception.BusinessException;
+import antock.Antock_Project.common.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * 다운로드 디렉토리의 파일 생성/변경 이벤트(WatchService)로 다운로드 완료를 감지합니다.
+ * <p>
+ * 브라우저는 다운로드 중인 파일을 임시 이름(.crdownload)으로 쓰다가 완료되면 원래 이름으로 바꿉니다.
+ * 임시 파일이 남아 있지 않고, 대상 파일의 크기가 {@code stableFor} 동안 바뀌지 않으면 완료로 판단하여
+ * 고정 시간 대기나 주기적인 디렉토리 조회 없이 바로 파일을 반환합니다.
+ * 작업 전용 디렉토리를 감시하므로 다른 작업의 파일을 가져오는 일이 없습니다.
+ */
+@Slf4j
+public final class DownloadCompletionWatcher {
+
+    private static final String[] PARTIAL_SUFFIXES = {".crdownload", ".part", ".tmp"};
+
+    private final Duration stableFor;
+
+    public DownloadCompletionWatcher(Duration stableFor) {
+        this.stableFor = stableFor;
+    }
+
+    /**
+     * 조건에 맞는 파일의 다운로드가 끝날 때까지 기다립니다.
+     *
+     * @param directory 감시할 (작업 전용) 다운로드 디렉토리
+     * @param fileFilter 다운로드 대상 파일 조건 (임시 파일은 자동으로 제외)
+     * @param timeout 최대 대기 시간
+     * @return 다운로드가 끝난 파일
+     * @throws BusinessException 시간 내에 완료되지 않은 경우 DOWNLOAD_TIMEOUT
+     */
+    public Path awaitCompletedFile(Path directory, Predicate<Path> fileFilter, Duration timeout) throws IOException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        try (WatchService watchService = directory.getFileSystem().newWatchService()) {
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+
+            // 감시 등록 전에 이미 생긴 파일이 있을 수 있으므로 한 번 확인
+            Candidate candidate = new Candidate();
+            candidate.refresh(directory, fileFilter);
+
+            while (true) {
+                long now = System.nanoTime();
+                if (candidate.isComplete(now, stableFor.toNanos())) {
+                    log.debug("Download completed: {} ({} bytes)", candidate.file, candidate.size);
+                    return candidate.file;
+                }
+                long remaining = deadline - now;
+                if (remaining <= 0) {
+                    throw new BusinessException(ErrorCode.DOWNLOAD_TIMEOUT,
+                            "파일 다운로드 시간 초과 (" + timeout.toSeconds() + "초, 디렉토리: " + directory + ")");
+                }
+                // 완료 후보가 있으면 크기가 유지되는지 확인할 시점까지만 대기
+                long wait = candidate.file == null ? remaining
+                        : Math.min(remaining, Math.max(1, candidate.lastChange + stableFor.toNanos() - now));
+                WatchKey key = watchService.poll(wait, TimeUnit.NANOSECONDS);
+                if (key != null) {
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                            break; // 이벤트 유실 시 아래에서 디렉토리를 다시 확인
+                        }
+                        log.trace("Download directory event {}: {}", event.kind().name(), event.context());
+                    }
+                    key.reset();
+                }
+                candidate.refresh(directory, fileFilter);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.CSV_DOWNLOAD_FAILED, "다운로드 대기 중 인터럽트 발생");
+        } catch (ClosedWatchServiceException e) {
+            throw new BusinessException(ErrorCode.CSV_DOWNLOAD_FAILED, "다운로드 디렉토리 감시가 중단되었습니다.");
+        }
+    }
+
+    static boolean isPartial(Path file) {
+        String name = file.getFileName().toString();
+        for (String suffix : PARTIAL_SUFFIXES) {
+            if (name.endsWith(suffix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 완료 후보 파일과 마지막으로 바뀐 시점
+    private static final class Candidate {
+        private Path file;
+        private long size = -1;
+        private boolean partialPresent;
+        private long lastChange = System.nanoTime();
+
+        void refresh(Path directory, Predicate<Path> fileFilter) throws IOException {
+            Path found = null;
+            boolean partial = false;
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path path : (Iterable<Path>) files::iterator) {
+                    if (!Files.isRegularFile(path)) {
+                        continue;
+                    }
+                    if (isPartial(path)) {
+                        partial = true;
+                    } else if (found == null && fileFilter.test(path)) {
+                        found = path;
+                    }
+                }
+            }
+            long foundSize = found == null ? -1 : sizeOf(found);
+            if (partial != partialPresent || foundSize != size || (found != null && !found.equals(file))) {
+                lastChange = System.nanoTime();
+            }
+            file = found;
+            size = foundSize;
+            partialPresent = partial;
+        }
+
+        boolean isComplete(long now, long stableNanos) {
+            return file != null && !partialPresent && size > 0 && now - lastChange >= stableNanos;
+        }
+
+        private static long sizeOf(Path file) {
+            try {
+                return Files.size(file);
+            } catch (IOException e) {
+                return -1; // 이름이 바뀌는 중이면 다음 이벤트에서 다시 확인
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package antock.Antock_Project.external.csv;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * 먼저 primary로 다운로드하고, 실패하면 fallback으로 다시 시도하는 CsvDownloader.
+ * (예: HTTP 직접 다운로드가 사이트 변경 등으로 실패하면 브라우저로 다운로드)
+ */
+@Slf4j
+public class FallbackCsvDownloader implements CsvDownloader {
+
+    private final CsvDownloader primary;
+    private final CsvDownloader fallback;
+
+    public FallbackCsvDownloader(CsvDownloader primary, CsvDownloader fallback) {
+        this.primary = primary;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public Path downloadCsvFile(String condition) {
+        try {
+            Path downloaded = primary.downloadCsvFile(condition);
+            if (downloaded != null) {
+                return downloaded;
+            }
+            log.warn("{} returned no file for condition '{}', falling back to {}",
+                    primary.getClass().getSimpleName(), condition, fallback.getClass().getSimpleName());
+        } catch (RuntimeException e) {
+            log.warn("{} failed for condition '{}', falling back to {}: {}",
+                    primary.getClass().getSimpleName(), condition, fallback.getClass().getSimpleName(), e.getMessage());
+        }
+        return fallback.downloadCsvFile(condition);
+    }
+
+    // 본문을 읽기 시작한 뒤의 오류는 되돌릴 수 없으므로, 스트림을 여는 단계(응답 헤더 확인)까지만 fallback
+    @Override
+    public InputStream openCsvStream(String condition) {
+        try {
+            InputStream stream = primary.openCsvStream(condition);
+            if (stream != null) {
+                return stream;
+            }
+            log.warn("{} returned no stream for condition '{}', falling back to {}",
+                    primary.getClass().getSimpleName(), condition, fallback.getClass().getSimpleName());
+        } catch (RuntimeException e) {
+            log.warn("{} failed for condition '{}', falling back to {}: {}",
+                    primary.getClass().getSimpleName(), condition, fallback.getClass().getSimpleName(), e.getMessage());
+        }
+        return fallback.openCsvStream(condition);
+    }
+}
@@ -0,0 +1,186 @@
+package antock.Antock_Project.external.csv;
+
+import antock.Antock_Project.common.exception.BusinessException;
+import antock.Antock_Project.common.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 공정거래위원회 CSV 파일 전용 고속 CsvParser. ({@link CsvTokenizer} 사용)
+ * 결과(행, 컬럼 값, 건너뛰는 행, 오류 코드)는 {@link OpenCsvParser}와 같으며,
+ * 행마다 Reader/opencsv를 거치며 컬럼 값 String을 모두 만드는 대신 사용하는 컬럼만 String으로 만듭니다.
+ * 기본 파서이며 (application.yml의 antocker.csv.parser: fast), antocker.csv.parser=opencsv로 두면 OpenCsvParser를 사용합니다.
+ */
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(name = "antocker.csv.parser", havingValue = "fast")
+public class FastCsvParser implements CsvParser {
+
+    private static final Charset CSV_CHARSET = Charset.forName("EUC-KR");
+    private static final int DEFAULT_BUFFER_SIZE = 256 * 1024; // 한 번에 읽어 디코딩할 바이트 수
+
+    private final int bufferSize;
+
+    public FastCsvParser() {
+        this(DEFAULT_BUFFER_SIZE);
+    }
+
+    FastCsvParser(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public List<Map<String, String>> parseCsvFile(Path filePath) {
+        try (Stream<CsvRow> rows = streamCsvFile(filePath)) {
+            List<Map<String, String>> dataList = rows.map(CsvRow::toMap).collect(Collectors.toList());
+            log.info("Successfully parsed {} lines from CSV file: {}", dataList.size(), filePath);
+            return dataList;
+        }
+    }
+
+    @Override
+    public Stream<CsvRow> streamCsvFile(Path filePath) {
+        log.info("Starting CSV parsing for file: {}", filePath);
+
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(filePath);
+        } catch (IOException e) {
+            log.error("IOException while reading headers from file {}: {}", filePath, e.getMessage(), e);
+            throw new BusinessException(ErrorCode.CSV_PARSE_FAILED, "CSV 파일 헤더를 읽는 중 오류 발생: " + e.getMessage());
+        }
+        return stream(new CsvTokenizer(channel, CSV_CHARSET, bufferSize), filePath.toString());
+    }
+
+    @Override
+    public Stream<CsvRow> streamCsv(InputStream inputStream, String sourceName) {
+        log.info("Starting CSV parsing from stream: {}", sourceName);
+        return stream(new CsvTokenizer(Channels.newChannel(inputStream), CSV_CHARSET, bufferSize), sourceName);
+    }
+
+    private Stream<CsvRow> stream(CsvTokenizer tokenizer, String source) {
+        CsvHeader header;
+        try {
+            header = readHeader(tokenizer);
+        } catch (IOException e) {
+            closeQuietly(tokenizer, source);
+            log.error("IOException while reading headers from file {}: {}", source, e.getMessage(), e);
+            throw new BusinessException(ErrorCode.CSV_PARSE_FAILED, "CSV 파일 헤더를 읽는 중 오류 발생: " + e.getMessage());
+        }
+
+        if (header == null) {
+            closeQuietly(tokenizer, source);
+            log.error("Failed to read headers or headers are empty from CSV file: {}", source);
+            throw new BusinessException(ErrorCode.CSV_PARSE_FAILED, "CSV 파일 헤더를 읽을 수 없거나 비어있습니다.");
+        }
+
+        Iterator<CsvRow> rowIterator = new RowIterator(tokenizer, header, source);
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(rowIterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> closeQuietly(tokenizer, source));
+    }
+
+    // 첫 번째 레코드를 헤더로 읽음 (공백 제거). 파일이 비어 있으면 null
+    private CsvHeader readHeader(CsvTokenizer tokenizer) throws IOException {
+        if (!tokenizer.next()) {
+            return null;
+        }
+        String[] names = new String[tokenizer.fieldCount()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = tokenizer.field(i);
+        }
+        return CsvHeader.of(names);
+    }
+
+    private void closeQuietly(CsvTokenizer tokenizer, String filePath) {
+        try {
+            tokenizer.close();
+        } catch (IOException e) {
+            log.warn("Failed to close CSV reader for file {}: {}", filePath, e.getMessage());
+        }
+    }
+
+    /**
+     * 토크나이저에서 한 레코드씩 읽어 CsvRow로 변환하는 Iterator.
+     * 컬럼 수가 헤더와 맞지 않는 행은 OpenCsvParser와 같이 경고 로그를 남기고 건너뜁니다.
+     */
+    private static final class RowIterator implements Iterator<CsvRow> {
+
+        private final CsvTokenizer tokenizer;
+        private final CsvHeader header;
+        private final String filePath;
+        private CsvRow nextRow;
+        private long lineNumber = 1; // 헤더가 1번 줄
+
+        private RowIterator(CsvTokenizer tokenizer, CsvHeader header, String filePath) {
+            this.tokenizer = tokenizer;
+            this.header = header;
+            this.filePath = filePath;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (nextRow == null) {
+                nextRow = readNextValidRow();
+            }
+            return nextRow != null;
+        }
+
+        @Override
+        public CsvRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            CsvRow row = nextRow;
+            nextRow = null;
+            return row;
+        }
+
+        private CsvRow readNextValidRow() {
+            try {
+                while (tokenizer.next()) {
+                    lineNumber++;
+                    if (tokenizer.fieldCount() == header.size()) {
+                        return tokenizer.toRow(header);
+                    }
+                    log.warn("Skipping line #{} due to column count mismatch. Expected: {}, Actual: {}, Line: {}",
+                            lineNumber, header.size(), tokenizer.fieldCount(), joinFields());
+                }
+                return null;
+            } catch (IOException e) {
+                log.error("IOException during CSV parsing for file {}: {}", filePath, e.getMessage(), e);
+                throw new BusinessException(ErrorCode.CSV_PARSE_FAILED, "CSV 파일을 읽는 중 오류 발생: " + e.getMessage());
+            }
+        }
+
+        private String joinFields() {
+            StringBuilder joined = new StringBuilder();
+            for (int i = 0; i < tokenizer.fieldCount(); i++) {
+                if (i > 0) {
+                    joined.append(',');
+                }
+                joined.append(tokenizer.field(i));
+            }
+            return joined.toString();
+        }
+    }
+}
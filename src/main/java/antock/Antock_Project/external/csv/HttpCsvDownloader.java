@@ -0,0 +1,152 @@
+package antock.Antock_Project.external.csv;
+
+import antock.Antock_Project.common.exception.BusinessException;
+import antock.Antock_Project.common.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 브라우저 없이 공정거래위원회 사이트의 CSV 다운로드 요청을 직접 보내는 CsvDownloader.
+ * '자료 다운로드' 버튼이 보내는 요청(파일 이름 지정 GET)을 그대로 재현하며,
+ * 응답 본문은 메모리에 모으지 않고 받는 대로 파일에 쓰거나, 파일 없이 파서에 바로 전달합니다. ({@link #openCsvStream})
+ * <p>
+ * condition은 "서울특별시" 또는 "서울특별시,강남구" 형태이며, 다운로드 파일 이름은
+ * "통신판매사업자_서울특별시_강남구.csv" 처럼 만들어집니다.
+ */
+@Slf4j
+public class HttpCsvDownloader implements CsvDownloader {
+
+    private static final String FILE_NAME_PREFIX = "통신판매사업자_";
+    private static final int STREAM_PREFETCH = 16; // 스트리밍 시 미리 받아 둘 응답 조각 수
+
+    private final WebClient webClient;
+    private final String urlTemplate;
+    private final Path downloadDirectory;
+    private final Duration timeout;
+
+    /**
+     * @param webClient         요청에 사용할 WebClient
+     * @param urlTemplate       다운로드 URL ({fileName} 자리에 파일 이름)
+     * @param downloadDirectory 파일을 저장할 디렉토리
+     * @param timeout           다운로드 전체 최대 시간
+     */
+    public HttpCsvDownloader(WebClient webClient, String urlTemplate, Path downloadDirectory, Duration timeout) {
+        this.webClient = webClient;
+        this.urlTemplate = urlTemplate;
+        this.downloadDirectory = downloadDirectory;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public Path downloadCsvFile(String condition) {
+        // 파일 이름은 로컬 파일 시스템 인코딩과 무관하도록 ASCII로 만듦 (원래 이름은 URL에만 사용)
+        String localName = "ftc-" + UUID.randomUUID();
+        Path partial = downloadDirectory.resolve(localName + ".csv.part");
+        Path target = downloadDirectory.resolve(localName + ".csv");
+        long start = System.nanoTime();
+        try {
+            Files.createDirectories(downloadDirectory);
+            DataBufferUtils.write(open(condition).flatMapMany(body -> body), partial,
+                            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)
+                    .block(timeout);
+            long size = Files.size(partial);
+            if (size == 0) {
+                throw new BusinessException(ErrorCode.CSV_DOWNLOAD_FAILED, "빈 CSV 파일이 다운로드되었습니다 (지역: " + condition + ")");
+            }
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING);
+            log.info("CSV file downloaded over HTTP: {} ({} bytes, {} ms)", target, size,
+                    Duration.ofNanos(System.nanoTime() - start).toMillis());
+            return target;
+        } catch (BusinessException e) {
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            // block(timeout) 초과 시 IllegalStateException
+            log.error("HTTP CSV download failed for condition '{}': {}", condition, e.getMessage());
+            throw new BusinessException(ErrorCode.CSV_DOWNLOAD_FAILED, "CSV 파일 다운로드 중 오류 발생 (지역: " + condition + ")");
+        } finally {
+            deleteQuietly(partial);
+        }
+    }
+
+    /**
+     * 응답 헤더까지 확인한 뒤, 본문은 파일에 쓰지 않고 받는 대로 읽을 수 있는 InputStream으로 반환합니다.
+     * 오류 응답이나 HTML 페이지는 여기서 실패하므로 FallbackCsvDownloader가 브라우저 다운로드로 넘어갈 수 있습니다.
+     */
+    @Override
+    public InputStream openCsvStream(String condition) {
+        try {
+            Flux<DataBuffer> body = open(condition).block(timeout);
+            if (body == null) {
+                throw new BusinessException(ErrorCode.CSV_DOWNLOAD_FAILED, "CSV 응답이 없습니다 (지역: " + condition + ")");
+            }
+            log.info("Streaming CSV over HTTP for condition '{}'", condition);
+            return new DataBufferInputStream(body, STREAM_PREFETCH, timeout);
+        } catch (BusinessException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            log.error("HTTP CSV request failed for condition '{}': {}", condition, e.getMessage());
+            throw new BusinessException(ErrorCode.CSV_DOWNLOAD_FAILED, "CSV 파일 다운로드 중 오류 발생 (지역: " + condition + ")");
+        }
+    }
+
+    // 응답 헤더를 받아 확인한 뒤 본문을 반환. 오류 응답이나 HTML 페이지(파일이 없을 때 안내 페이지를 돌려줌)는 실패로 처리
+    private Mono<Flux<DataBuffer>> open(String condition) {
+        URI uri = UriComponentsBuilder.fromUriString(urlTemplate)
+                .buildAndExpand(Map.of("fileName", fileName(condition)))
+                .encode(StandardCharsets.UTF_8)
+                .toUri();
+        log.info("Requesting CSV over HTTP for condition '{}': {}", condition, uri);
+        return webClient.get()
+                .uri(uri)
+                .accept(MediaType.parseMediaType("text/csv"), MediaType.APPLICATION_OCTET_STREAM, MediaType.ALL)
+                .retrieve()
+                .onStatus(status -> !status.is2xxSuccessful(), response -> response.releaseBody()
+                        .then(Mono.error(new BusinessException(ErrorCode.CSV_DOWNLOAD_FAILED,
+                                "CSV 다운로드 응답 오류 " + response.statusCode().value() + " (지역: " + condition + ")"))))
+                .toEntityFlux(DataBuffer.class)
+                .flatMap(entity -> {
+                    MediaType contentType = entity.getHeaders().getContentType();
+                    Flux<DataBuffer> body = entity.getBody() != null ? entity.getBody() : Flux.empty();
+                    if (contentType != null && MediaType.TEXT_HTML.isCompatibleWith(contentType)) {
+                        return body.doOnNext(DataBufferUtils::release).then(Mono.error(new BusinessException(
+                                ErrorCode.CSV_DOWNLOAD_FAILED, "CSV 대신 HTML 페이지가 응답되었습니다 (지역: " + condition + ")")));
+                    }
+                    return Mono.just(body);
+                });
+    }
+
+    static String fileName(String condition) {
+        return FILE_NAME_PREFIX + Arrays.stream(condition.split(","))
+                .map(String::trim)
+                .filter(part -> !part.isEmpty())
+                .collect(Collectors.joining("_")) + ".csv";
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete partial download: {}", file);
+        }
+    }
+}
@@ -3,22 +3,27 @@ package antock.Antock_Project.external.csv;
 import antock.Antock_Project.common.exception.BusinessException;
 import antock.Antock_Project.common.exception.ErrorCode;
 import com.opencsv.CSVReader;
-import com.opencsv.CSVReaderBuilder;
-import com.opencsv.exceptions.CsvException;
 import com.opencsv.exceptions.CsvValidationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.io.FileReader;
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @Slf4j
 @Component
@@ -26,80 +31,155 @@ public class OpenCsvParser implements CsvParser {
 
     // 공정거래위원회 CSV 파일의 인코딩 (EUC-KR 가능성 높음, 실제 파일 확인 필요)
     private static final Charset CSV_CHARSET = Charset.forName("EUC-KR"); // 또는 StandardCharsets.UTF_8
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024; // 스트림 파싱 시 디코딩된 문자 버퍼 크기
 
     @Override
     public List<Map<String, String>> parseCsvFile(Path filePath) {
+        // 스트리밍 API를 그대로 사용하고 결과만 리스트로 모음 (기존 호출부 호환용)
+        try (Stream<CsvRow> rows = streamCsvFile(filePath)) {
+            List<Map<String, String>> dataList = rows.map(CsvRow::toMap).collect(Collectors.toList());
+            log.info("Successfully parsed {} lines from CSV file: {}", dataList.size(), filePath);
+            return dataList;
+        }
+    }
+
+    @Override
+    public Stream<CsvRow> streamCsvFile(Path filePath) {
         log.info("Starting CSV parsing for file: {}", filePath);
-        List<Map<String, String>> dataList = new ArrayList<>();
 
-        String[] headers;
+        Reader reader;
         try {
-            headers = readHeaders(filePath); // 헤더 읽기
-            if (headers == null || headers.length == 0) {
-                log.error("Failed to read headers or headers are empty from CSV file: {}", filePath);
-                throw new BusinessException(ErrorCode.CSV_PARSE_FAILED, "CSV 파일 헤더를 읽을 수 없거나 비어있습니다.");
-            }
+            reader = Files.newBufferedReader(filePath, CSV_CHARSET);
         } catch (IOException e) {
             log.error("IOException while reading headers from file {}: {}", filePath, e.getMessage(), e);
             throw new BusinessException(ErrorCode.CSV_PARSE_FAILED, "CSV 파일 헤더를 읽는 중 오류 발생: " + e.getMessage());
         }
+        return stream(reader, filePath.toString());
+    }
 
-        // try-with-resources를 사용하여 Reader 자동 종료
-        try (Reader reader = new FileReader(filePath.toFile(), CSV_CHARSET);
-             // 헤더를 이미 읽었으므로 여기서는 skipLines(0) 또는 기본값 사용 가능, 단, readAll()은 헤더 포함하여 읽음
-             // 여기서는 CSVReader만 사용하여 readAll()로 전체를 읽고, 첫 줄(헤더)은 제외하는 방식으로 변경
-             CSVReader csvReader = new CSVReader(reader)) {
-
-            List<String[]> lines = csvReader.readAll();
-
-            // 첫 줄(헤더) 제외하고 처리
-            if (lines.size() <= 1) {
-                log.warn("CSV file has no data rows (only header or empty): {}", filePath);
-                return dataList; // 데이터 없음
-            }
-
-            // 헤더를 제외한 실제 데이터 라인부터 처리
-            for (int i = 1; i < lines.size(); i++) {
-                String[] line = lines.get(i);
-                if (line.length == headers.length) { // 헤더 개수와 데이터 개수가 일치하는지 확인
-                    Map<String, String> dataMap = new HashMap<>();
-                    for (int j = 0; j < headers.length; j++) {
-                        dataMap.put(headers[j].trim(), line[j].trim()); // 헤더와 데이터 매핑 (공백 제거)
-                    }
-                    dataList.add(dataMap);
-                } else {
-                    log.warn("Skipping line #{} due to column count mismatch. Expected: {}, Actual: {}, Line: {}",
-                            i + 1, headers.length, line.length, String.join(",", line));
-                }
-            }
-
-            log.info("Successfully parsed {} lines from CSV file: {}", dataList.size(), filePath);
-            return dataList;
+    @Override
+    public Stream<CsvRow> streamCsv(InputStream inputStream, String sourceName) {
+        log.info("Starting CSV parsing from stream: {}", sourceName);
+        // InputStreamReader는 읽은 바이트만큼만 디코딩하며, 디코더 설정은 파일을 읽을 때(Files.newBufferedReader)와 같음
+        // (잘못된 바이트는 대체 문자로 바꾸지 않고 오류로 처리)
+        Reader reader = new BufferedReader(new InputStreamReader(inputStream, CSV_CHARSET.newDecoder()), STREAM_BUFFER_SIZE);
+        return stream(reader, sourceName);
+    }
 
+    private Stream<CsvRow> stream(Reader reader, String source) {
+        CSVReader csvReader = new CSVReader(reader);
+        String[] headers;
+        try {
+            headers = readHeaders(csvReader, source); // 같은 Reader에서 헤더를 한 번만 읽음
         } catch (IOException e) {
-            log.error("IOException during CSV parsing for file {}: {}", filePath, e.getMessage(), e);
-            throw new BusinessException(ErrorCode.CSV_PARSE_FAILED, "CSV 파일을 읽는 중 오류 발생: " + e.getMessage());
-        } catch (CsvException e) { // CsvValidationException 포함 CsvException 처리
-            log.error("CsvException during CSV parsing for file {}: {}", filePath, e.getMessage(), e);
-            throw new BusinessException(ErrorCode.CSV_PARSE_FAILED, "CSV 파일 파싱 중 오류 발생: " + e.getMessage());
+            closeQuietly(csvReader, source);
+            log.error("IOException while reading headers from file {}: {}", source, e.getMessage(), e);
+            throw new BusinessException(ErrorCode.CSV_PARSE_FAILED, "CSV 파일 헤더를 읽는 중 오류 발생: " + e.getMessage());
+        } catch (RuntimeException e) {
+            closeQuietly(csvReader, source);
+            throw e;
         }
+
+        if (headers == null || headers.length == 0) {
+            closeQuietly(csvReader, source);
+            log.error("Failed to read headers or headers are empty from CSV file: {}", source);
+            throw new BusinessException(ErrorCode.CSV_PARSE_FAILED, "CSV 파일 헤더를 읽을 수 없거나 비어있습니다.");
+        }
+
+        Iterator<CsvRow> rowIterator = new RowIterator(csvReader, CsvHeader.of(headers), source);
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(rowIterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> closeQuietly(csvReader, source));
     }
 
     /**
-     * CSV 파일의 첫 번째 줄을 읽어 헤더 배열을 반환합니다.
+     * CSV 파일의 첫 번째 줄을 읽어 헤더 배열을 반환합니다. (공백 제거)
      * CsvValidationException 처리를 추가합니다.
      */
-    private String[] readHeaders(Path filePath) throws IOException {
-        try (Reader reader = new FileReader(filePath.toFile(), CSV_CHARSET);
-             CSVReader csvReader = new CSVReader(reader)) {
-            return csvReader.readNext(); // 첫 번째 줄 읽기
+    private String[] readHeaders(CSVReader csvReader, String filePath) throws IOException {
+        try {
+            String[] headers = csvReader.readNext(); // 첫 번째 줄 읽기
+            if (headers == null) {
+                return null;
+            }
+            for (int i = 0; i < headers.length; i++) {
+                headers[i] = headers[i].trim();
+            }
+            return headers;
         } catch (CsvValidationException e) {
             // CsvValidationException은 CSV 내용 자체의 유효성 문제일 수 있음
             log.error("CsvValidationException while reading headers from file {}: {}", filePath, e.getMessage(), e);
-            // IOException으로 감싸서 반환하거나, BusinessException으로 처리할 수 있음
-            // 여기서는 파싱 실패로 간주하고 BusinessException 발생
             throw new BusinessException(ErrorCode.CSV_PARSE_FAILED, "CSV 파일 헤더 유효성 검증 실패: " + e.getMessage());
         }
         // IOException은 메서드 시그니처에 throws로 선언되어 호출부에서 처리됨
     }
+
+    private void closeQuietly(CSVReader csvReader, String filePath) {
+        try {
+            csvReader.close();
+        } catch (IOException e) {
+            log.warn("Failed to close CSV reader for file {}: {}", filePath, e.getMessage());
+        }
+    }
+
+    /**
+     * CSVReader에서 한 줄씩 읽어 공유 헤더를 갖는 CsvRow로 변환하는 Iterator.
+     * 컬럼 수가 헤더와 맞지 않는 행은 경고 로그를 남기고 건너뜁니다.
+     */
+    private static final class RowIterator implements Iterator<CsvRow> {
+
+        private final CSVReader csvReader;
+        private final CsvHeader header;
+        private final String filePath;
+        private CsvRow nextRow;
+        private long lineNumber = 1; // 헤더가 1번 줄
+
+        private RowIterator(CSVReader csvReader, CsvHeader header, String filePath) {
+            this.csvReader = csvReader;
+            this.header = header;
+            this.filePath = filePath;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (nextRow == null) {
+                nextRow = readNextValidRow();
+            }
+            return nextRow != null;
+        }
+
+        @Override
+        public CsvRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            CsvRow row = nextRow;
+            nextRow = null;
+            return row;
+        }
+
+        private CsvRow readNextValidRow() {
+            try {
+                String[] line;
+                while ((line = csvReader.readNext()) != null) {
+                    lineNumber++;
+                    if (line.length == header.size()) { // 헤더 개수와 데이터 개수가 일치하는지 확인
+                        for (int j = 0; j < line.length; j++) {
+                            line[j] = line[j].trim(); // 공백 제거 (읽은 배열을 그대로 재사용)
+                        }
+                        return header.row(line);
+                    }
+                    log.warn("Skipping line #{} due to column count mismatch. Expected: {}, Actual: {}, Line: {}",
+                            lineNumber, header.size(), line.length, String.join(",", line));
+                }
+                return null;
+            } catch (IOException e) {
+                log.error("IOException during CSV parsing for file {}: {}", filePath, e.getMessage(), e);
+                throw new BusinessException(ErrorCode.CSV_PARSE_FAILED, "CSV 파일을 읽는 중 오류 발생: " + e.getMessage());
+            } catch (CsvValidationException e) {
+                log.error("CsvException during CSV parsing for file {}: {}", filePath, e.getMessage(), e);
+                throw new BusinessException(ErrorCode.CSV_PARSE_FAILED, "CSV 파일 파싱 중 오류 발생: " + e.getMessage());
+            }
+        }
+    }
 }
@@ -1,14 +1,22 @@
 package antock.Antock_Project.infrastructure.persistence;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import antock.Antock_Project.domain.antocker.entity.Antocker;
 import antock.Antock_Project.domain.antocker.repository.AntockerRepository;
 import antock.Antock_Project.infrastructure.storage.AntockerStorageService;
 
+// JPA 저장 (IDENTITY 전략이라 엔티티마다 INSERT 1회). antocker.storage.mode=jpa 일 때 사용
+// JDBC upsert와 같이 사업자등록번호가 이미 있으면 기존 엔티티를 갱신 (증분 적재에서 변경된 행은 이미 DB에 있음)
 @Repository
+@ConditionalOnProperty(name = "antocker.storage.mode", havingValue = "jpa")
 public class AntockerDBRepository implements AntockerStorageService {
 
     private final AntockerRepository antockerRepository;
@@ -18,7 +26,40 @@ public class AntockerDBRepository implements AntockerStorageService {
     }
 
     @Override
-    public void saveAll(List<Antocker> antockers) {
-        antockerRepository.saveAll(antockers);
+    @Transactional
+    public int saveAll(List<Antocker> antockers) {
+        if (antockers.isEmpty()) {
+            return 0;
+        }
+        // 같은 사업자등록번호가 여러 번 있으면 마지막 행으로 저장 (JDBC upsert와 같음)
+        Map<String, Antocker> byBusinessNumber = new LinkedHashMap<>();
+        for (Antocker antocker : antockers) {
+            byBusinessNumber.put(antocker.getBusinessRegistrationNumber(), antocker);
+        }
+        Map<String, Antocker> existing = new LinkedHashMap<>();
+        for (Antocker antocker : antockerRepository.findByBusinessRegistrationNumberIn(new ArrayList<>(byBusinessNumber.keySet()))) {
+            existing.put(antocker.getBusinessRegistrationNumber(), antocker);
+        }
+
+        List<Antocker> toSave = new ArrayList<>(byBusinessNumber.size());
+        for (Antocker antocker : byBusinessNumber.values()) {
+            Antocker stored = existing.get(antocker.getBusinessRegistrationNumber());
+            toSave.add(stored != null ? update(stored, antocker) : antocker);
+        }
+        antockerRepository.saveAll(toSave);
+        return antockers.size();
+    }
+
+    // JDBC upsert의 WHEN MATCHED와 같은 컬럼 갱신
+    private static Antocker update(Antocker stored, Antocker source) {
+        stored.setCorporateRegistrationNumber(source.getCorporateRegistrationNumber());
+        stored.setCompanyName(source.getCompanyName());
+        stored.setAddress(source.getAddress());
+        stored.setAdministrativeCode(source.getAdministrativeCode());
+        stored.setRowFingerprint(source.getRowFingerprint());
+        stored.setSourceRegion(source.getSourceRegion());
+        stored.setEnrichmentPending(source.isEnrichmentPending());
+        stored.setRemoved(false);
+        return stored;
     }
 }
@@ -0,0 +1,90 @@
+package antock.Antock_Project.infrastructure.persistence;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import antock.Antock_Project.domain.antocker.entity.Antocker;
+import antock.Antock_Project.infrastructure.storage.AntockerStorageService;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JDBC 배치 upsert로 Antocker를 저장하는 AntockerStorageService (기본 저장 방식).
+ * Antocker는 IDENTITY 전략이라 JPA saveAll은 엔티티마다 INSERT를 한 번씩 실행하므로,
+ * 여기서는 batchSize개씩 묶은 MERGE 문을 한 번의 배치로 전송합니다.
+ * 사업자등록번호가 이미 있으면 나머지 컬럼을 갱신하므로, 동시에 실행된 다른 작업과 겹쳐도 유일 제약 위반이 발생하지 않습니다.
+ * 영속성 컨텍스트를 거치지 않으므로 저장된 엔티티의 id는 채워지지 않습니다.
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "antocker.storage.mode", havingValue = "jdbc", matchIfMissing = true)
+public class AntockerJdbcRepository implements AntockerStorageService {
+
+    // 표준 SQL MERGE (H2 2.x, PostgreSQL 15+, Oracle, SQL Server 지원)
+    private static final String UPSERT_SQL = """
+            MERGE INTO antocker t
+            USING (VALUES (CAST(? AS VARCHAR(10)), CAST(? AS VARCHAR(13)), CAST(? AS VARCHAR(255)),
+                           CAST(? AS VARCHAR(255)), CAST(? AS VARCHAR(10)), CAST(? AS BIGINT), CAST(? AS VARCHAR(100)),
+                           CAST(? AS BOOLEAN)))
+                AS s(business_registration_number, corporate_registration_number, company_name,
+                     address, administrative_code, row_fingerprint, source_region, enrichment_pending)
+            ON t.business_registration_number = s.business_registration_number
+            WHEN MATCHED THEN UPDATE SET
+                corporate_registration_number = s.corporate_registration_number,
+                company_name = s.company_name,
+                address = s.address,
+                administrative_code = s.administrative_code,
+                row_fingerprint = s.row_fingerprint,
+                source_region = s.source_region,
+                enrichment_pending = s.enrichment_pending,
+                removed = FALSE
+            WHEN NOT MATCHED THEN INSERT
+                (business_registration_number, corporate_registration_number, company_name, address, administrative_code,
+                 row_fingerprint, source_region, enrichment_pending, removed)
+                VALUES (s.business_registration_number, s.corporate_registration_number, s.company_name,
+                        s.address, s.administrative_code, s.row_fingerprint, s.source_region, s.enrichment_pending, FALSE)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public AntockerJdbcRepository(JdbcTemplate jdbcTemplate,
+                                    @Value("${antocker.storage.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    @Transactional
+    public int saveAll(List<Antocker> antockers) {
+        if (antockers.isEmpty()) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        jdbcTemplate.batchUpdate(UPSERT_SQL, antockers, batchSize, AntockerJdbcRepository::bind);
+        log.debug("Upserted {} antockers in {} ms", antockers.size(), (System.nanoTime() - start) / 1_000_000);
+        return antockers.size();
+    }
+
+    private static void bind(PreparedStatement ps, Antocker antocker) throws SQLException {
+        ps.setString(1, antocker.getBusinessRegistrationNumber());
+        ps.setString(2, antocker.getCorporateRegistrationNumber());
+        ps.setString(3, antocker.getCompanyName());
+        ps.setString(4, antocker.getAddress());
+        ps.setString(5, antocker.getAdministrativeCode());
+        if (antocker.getRowFingerprint() != null) {
+            ps.setLong(6, antocker.getRowFingerprint());
+        } else {
+            ps.setNull(6, Types.BIGINT);
+        }
+        ps.setString(7, antocker.getSourceRegion());
+        ps.setBoolean(8, antocker.isEnrichmentPending());
+    }
+}
@@ -4,5 +4,11 @@ import java.util.List;
 import antock.Antock_Project.domain.antocker.entity.Antocker;
 
 public interface AntockerStorageService {
-    void saveAll(List<Antocker> antockers);
+
+    /**
+     * Antocker 목록을 저장합니다. 같은 사업자등록번호가 이미 있으면 구현체에 따라 갱신(upsert)될 수 있습니다.
+     *
+     * @return 저장된 데이터 개수
+     */
+    int saveAll(List<Antocker> antockers);
 }
@@ -0,0 +1,128 @@
+package antock.Antock_Project.common.cache;
+
+import antock.Antock_Project.external.Antocker.dto.AntockerDetailResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PersistentLookupCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path tempDir;
+
+    private PersistentLookupCache<AntockerDetailResponse> newCache(Duration ttl, int maxSize) {
+        return new PersistentLookupCache<>("test", AntockerDetailResponse.class, objectMapper,
+                ttl, ttl, maxSize, tempDir);
+    }
+
+    private AntockerDetailResponse detail(String crpno) {
+        AntockerDetailResponse.Item item = new AntockerDetailResponse.Item();
+        item.setCrpno(crpno);
+        AntockerDetailResponse.Items items = new AntockerDetailResponse.Items();
+        items.setItem(new AntockerDetailResponse.Item[]{item});
+        AntockerDetailResponse.Body body = new AntockerDetailResponse.Body();
+        body.setItems(items);
+        AntockerDetailResponse.Response response = new AntockerDetailResponse.Response();
+        response.setBody(body);
+        AntockerDetailResponse detail = new AntockerDetailResponse();
+        detail.setResponse(response);
+        return detail;
+    }
+
+    @Test
+    @DisplayName("결과와 '결과 없음'을 구분하여 캐시하고 적중률 집계")
+    void putAndGet() {
+        // given
+        PersistentLookupCache<AntockerDetailResponse> cache = newCache(Duration.ofHours(1), 10);
+        cache.put("1111111111", detail("1101110000000"));
+        cache.putNegative("2222222222");
+
+        // when & then
+        assertThat(cache.get("1111111111").getValue().getResponse().getBody().getItems().getItem()[0].getCrpno())
+                .isEqualTo("1101110000000");
+        assertThat(cache.get("2222222222").isNegative()).isTrue();
+        assertThat(cache.get("3333333333")).isNull();
+        assertThat(cache.getHitCount()).isEqualTo(2);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 항목은 조회되지 않음")
+    void expiredEntryIsMiss() {
+        // given
+        PersistentLookupCache<AntockerDetailResponse> cache = newCache(Duration.ZERO, 10);
+        cache.put("1111111111", detail("1101110000000"));
+
+        // when & then
+        assertThat(cache.get("1111111111")).isNull();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 항목부터 제거")
+    void evictsLeastRecentlyUsed() {
+        // given
+        PersistentLookupCache<AntockerDetailResponse> cache = newCache(Duration.ofHours(1), 2);
+        cache.putNegative("a");
+        cache.putNegative("b");
+        cache.get("a"); // a를 최근 사용으로 갱신
+
+        // when
+        cache.putNegative("c");
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("a")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("닫은 뒤 다시 생성하면 디스크에서 항목 복원")
+    void survivesRestart() {
+        // given
+        PersistentLookupCache<AntockerDetailResponse> cache = newCache(Duration.ofHours(1), 10);
+        cache.put("1111111111", detail("1101110000000"));
+        cache.putNegative("2222222222");
+        cache.close();
+
+        // when
+        PersistentLookupCache<AntockerDetailResponse> reopened = newCache(Duration.ofHours(1), 10);
+
+        // then
+        assertThat(reopened.size()).isEqualTo(2);
+        assertThat(reopened.get("1111111111").getValue().hasItems()).isTrue();
+        assertThat(reopened.get("2222222222").isNegative()).isTrue();
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("journal 기록과 compaction은 writer 스레드에서 실행되며, 닫을 때 남은 기록을 마치고 최신 값만 남김")
+    void writesJournalInBackground() throws IOException {
+        // given: maxSize의 2배를 넘게 기록하여 compaction 발생, 같은 키를 여러 번 갱신
+        PersistentLookupCache<AntockerDetailResponse> cache = newCache(Duration.ofHours(1), 5);
+        for (int i = 0; i < 50; i++) {
+            cache.put("k" + (i % 5), detail("crpno-" + i));
+        }
+        cache.close();
+
+        // when
+        PersistentLookupCache<AntockerDetailResponse> reopened = newCache(Duration.ofHours(1), 5);
+
+        // then
+        assertThat(Files.readAllLines(tempDir.resolve("test.cache"))).hasSize(5);
+        assertThat(reopened.get("k0").getValue().getResponse().getBody().getItems().getItem()[0].getCrpno())
+                .isEqualTo("crpno-45");
+        assertThat(reopened.get("k4").getValue().getResponse().getBody().getItems().getItem()[0].getCrpno())
+                .isEqualTo("crpno-49");
+        reopened.close();
+    }
+}
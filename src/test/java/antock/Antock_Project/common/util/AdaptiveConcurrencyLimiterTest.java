@@ -0,0 +1,123 @@
+package antock.Antock_Project.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static AdaptiveConcurrencyLimiter limiter(int initial) {
+        return limiter(initial, 2.0);
+    }
+
+    private static AdaptiveConcurrencyLimiter limiter(int initial, double latencyTolerance) {
+        return new AdaptiveConcurrencyLimiter("test", 1, initial, 32, latencyTolerance, 0.5,
+                throwable -> throwable instanceof IllegalStateException);
+    }
+
+    @Test
+    @DisplayName("동시에 실행되는 작업 수가 제한값을 넘지 않고, 모두 끝나면 허가가 반환됨")
+    void call_NeverExceedsLimit() {
+        // given: 응답 시간 흔들림(2ms 작업)으로 제한값이 줄지 않도록 응답 시간 기준을 넉넉하게 둠
+        AdaptiveConcurrencyLimiter limiter = limiter(4, 100.0);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        // when: 100개 작업을 한꺼번에 요청
+        Flux.range(0, 100)
+                .flatMap(i -> limiter.call(() -> Mono.fromRunnable(() ->
+                                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max))
+                        .then(Mono.delay(Duration.ofMillis(2)))
+                        .doFinally(signal -> running.decrementAndGet())), 100)
+                .blockLast();
+
+        // then: 정상 응답이므로 제한값은 늘어날 수 있지만 최대값을 넘지 않음
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(32);
+        assertThat(limiter.getInFlight()).isZero();
+        assertThat(limiter.getLimit()).isGreaterThan(4);
+    }
+
+    @Test
+    @DisplayName("과부하 오류 시 제한값을 줄이고, 같은 시점에 시작된 호출의 실패로는 한 번만 줄임")
+    void call_DecreasesOnceOnConcurrentOverload() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = limiter(16);
+
+        // when: 동시에 시작된 8개 호출이 모두 과부하로 실패 (8개가 모두 시작된 뒤에 실패)
+        AtomicInteger started = new AtomicInteger();
+        CompletableFuture<Void> allStarted = new CompletableFuture<>();
+        Flux.range(0, 8)
+                .flatMap(i -> limiter.call(() -> Mono.defer(() -> {
+                                    if (started.incrementAndGet() == 8) {
+                                        allStarted.complete(null);
+                                    }
+                                    return Mono.fromFuture(allStarted);
+                                })
+                                .then(Mono.error(new IllegalStateException("429"))))
+                        .onErrorResume(e -> Mono.empty()), 8)
+                .blockLast();
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(8);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("과부하가 아닌 오류(4xx 등)는 제한값에 영향 없음")
+    void call_IgnoresNonOverloadErrors() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = limiter(8);
+
+        // when
+        Flux.range(0, 20)
+                .flatMap(i -> limiter.call(() -> Mono.error(new IllegalArgumentException("400")))
+                        .onErrorResume(e -> Mono.empty()))
+                .blockLast();
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(8);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("응답 시간이 기준보다 크게 늘어나면 제한값을 줄임")
+    void call_DecreasesOnLatencyGrowth() {
+        // given: 빠른 응답으로 기준 응답 시간 설정 (첫 응답이 기준이 되므로 스케줄러 시작 지연이 섞이지 않도록 미리 실행)
+        Mono.delay(Duration.ofMillis(1)).block();
+        AdaptiveConcurrencyLimiter limiter = limiter(8);
+        for (int i = 0; i < 5; i++) {
+            limiter.call(() -> Mono.delay(Duration.ofMillis(5))).block();
+        }
+        int before = limiter.getLimit();
+
+        // when: 응답 시간이 기준의 2배를 넘음
+        limiter.call(() -> Mono.delay(Duration.ofMillis(300))).block();
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(before / 2);
+    }
+
+    @Test
+    @DisplayName("대기 중 취소된 호출은 허가를 가져가지 않음")
+    void call_CancelledWaiterReleasesNothing() {
+        // given: 제한 1, 첫 번째 호출이 허가를 점유
+        AdaptiveConcurrencyLimiter limiter = limiter(1);
+        Mono<Long> slow = limiter.call(() -> Mono.delay(Duration.ofMillis(50)));
+        var first = slow.subscribe();
+
+        // when: 두 번째 호출은 대기하다가 취소됨
+        limiter.call(() -> Mono.just(1)).subscribe().dispose();
+        first.dispose();
+
+        // then: 새 호출이 바로 실행됨
+        assertThat(limiter.call(() -> Mono.just(2)).block(Duration.ofSeconds(1))).isEqualTo(2);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+}
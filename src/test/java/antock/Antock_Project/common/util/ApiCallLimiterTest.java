@@ -0,0 +1,66 @@
+package antock.Antock_Project.common.util;
+
+import antock.Antock_Project.common.config.ApiLimitProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApiCallLimiterTest {
+
+    @Test
+    @DisplayName("초당 요청 수 제한이 병목이면 토큰 대기 시간을 응답 지연으로 보지 않아 동시 호출 수를 줄이지 않음")
+    void call_DoesNotShrinkLimitWhenRateLimited() {
+        // given: 초당 30개, 동시 호출 8개 (토큰을 기다리는 호출이 허가를 쥔 채 최대 8/30초 대기)
+        ApiLimitProperties properties = new ApiLimitProperties();
+        properties.setRateLimit(30);
+        properties.setRateBurst(1);
+        properties.setInitialConcurrency(8);
+        ApiCallLimiter limiter = new ApiCallLimiter("test", properties);
+
+        // when: 응답 시간이 일정한(20ms) 정상 API에 30개 호출
+        Flux.range(0, 30)
+                .flatMap(i -> limiter.call(() -> Mono.delay(Duration.ofMillis(20))), 30)
+                .blockLast();
+
+        // then
+        assertThat(limiter.getConcurrencyLimiter().getLimit()).isGreaterThanOrEqualTo(8);
+        assertThat(limiter.getConcurrencyLimiter().getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("정상 API에 bulkhead보다 많은 호출이 몰려도 자리를 기다렸다가 모두 성공")
+    void guard_QueuesCallsBeyondBulkheadAgainstHealthyApi() throws InterruptedException {
+        // given: bulkhead 4자리, 호출 40개 동시 요청 (지역 여러 개 x 보강 동시 실행 수가 bulkhead보다 큰 상황)
+        ApiLimitProperties properties = new ApiLimitProperties();
+        properties.setBulkheadMaxCalls(4);
+        properties.setBulkheadMaxWait(Duration.ofSeconds(5));
+        ApiCallLimiter limiter = new ApiCallLimiter("test", properties);
+        AtomicInteger succeeded = new AtomicInteger();
+
+        // when
+        Flux.range(0, 40)
+                .flatMap(i -> limiter.guard(() -> limiter.call(() -> Mono.delay(Duration.ofMillis(10))))
+                        .doOnSuccess(value -> succeeded.incrementAndGet()), 40)
+                .blockLast();
+
+        // then
+        assertThat(succeeded.get()).isEqualTo(40);
+        assertThat(awaitBulkheadDrained(limiter, Duration.ofSeconds(5))).isZero();
+    }
+
+    // bulkhead 자리는 완료 신호 이후 doFinally에서 반환되므로, 마지막 호출의 반환을 기한까지 기다림
+    private static int awaitBulkheadDrained(ApiCallLimiter limiter, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        int inFlight;
+        while ((inFlight = limiter.getBulkhead().getInFlight()) > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        return inFlight;
+    }
+}
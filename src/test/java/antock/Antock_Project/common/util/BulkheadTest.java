@@ -0,0 +1,65 @@
+package antock.Antock_Project.common.util;
+
+import antock.Antock_Project.common.exception.BusinessException;
+import antock.Antock_Project.common.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkheadTest {
+
+    @Test
+    @DisplayName("자리가 없으면 기다리지 않고 API_UNAVAILABLE로 실패하고, 작업이 끝나면 자리를 반환")
+    void call_RejectsWhenFull() {
+        // given
+        Bulkhead bulkhead = new Bulkhead("test", 2);
+        Sinks.One<String> first = Sinks.one();
+        Sinks.One<String> second = Sinks.one();
+        bulkhead.call(first::asMono).subscribe();
+        Disposable cancelled = bulkhead.call(second::asMono).subscribe();
+        assertThat(bulkhead.getInFlight()).isEqualTo(2);
+
+        // when & then
+        assertThatThrownBy(() -> bulkhead.call(() -> Mono.just("ok")).block())
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.API_UNAVAILABLE));
+
+        // when: 하나는 완료, 하나는 취소
+        first.tryEmitValue("done");
+        cancelled.dispose();
+
+        // then
+        assertThat(bulkhead.getInFlight()).isZero();
+        assertThat(bulkhead.call(() -> Mono.just("ok")).block()).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("최대 대기 시간이 있으면 자리가 날 때까지 기다렸다가 실행하고, 그 안에 자리가 나지 않으면 API_UNAVAILABLE로 실패")
+    void call_WaitsForSlotUpToMaxWait() {
+        // given
+        Bulkhead bulkhead = new Bulkhead("test", 1, Duration.ofMillis(200));
+        Sinks.One<String> slow = Sinks.one();
+        bulkhead.call(slow::asMono).subscribe();
+
+        // when & then: 자리가 나지 않으면 최대 대기 시간 후 실패 (대기열에서도 제거됨)
+        assertThatThrownBy(() -> bulkhead.call(() -> Mono.just("late")).block())
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.API_UNAVAILABLE));
+
+        // when: 기다리는 동안 자리가 나면 실행
+        Mono<String> waiting = bulkhead.call(() -> Mono.just("ok")).cache();
+        waiting.subscribe();
+        slow.tryEmitValue("done");
+
+        // then
+        assertThat(waiting.block()).isEqualTo("ok");
+        assertThat(bulkhead.getInFlight()).isZero();
+    }
+}
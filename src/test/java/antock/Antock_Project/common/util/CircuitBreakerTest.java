@@ -0,0 +1,127 @@
+package antock.Antock_Project.common.util;
+
+import antock.Antock_Project.common.exception.BusinessException;
+import antock.Antock_Project.common.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    // 최근 10개 중 50% 이상 실패 (4개 이상 호출된 뒤) 시 OPEN, 30초 후 시험 호출 2개
+    private CircuitBreaker breaker() {
+        return new CircuitBreaker("test", 0.5, 10, 4, Duration.ofSeconds(30), 2,
+                throwable -> throwable instanceof IllegalStateException, clock::get);
+    }
+
+    private static void succeed(CircuitBreaker breaker) {
+        breaker.call(() -> Mono.just("ok")).block();
+    }
+
+    private static void fail(CircuitBreaker breaker, RuntimeException error) {
+        breaker.call(() -> Mono.error(error)).onErrorResume(e -> Mono.empty()).block();
+    }
+
+    @Test
+    @DisplayName("실패 비율이 기준 이상이면 OPEN, 이후 호출은 작업을 실행하지 않고 API_UNAVAILABLE로 실패")
+    void call_OpensAndFailsFast() {
+        // given
+        CircuitBreaker breaker = breaker();
+        succeed(breaker);
+        succeed(breaker);
+        fail(breaker, new IllegalStateException("503"));
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED); // 최소 호출 수 미달
+
+        // when
+        fail(breaker, new IllegalStateException("503"));
+
+        // then
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        AtomicInteger subscribed = new AtomicInteger();
+        assertThatThrownBy(() -> breaker.call(() -> Mono.fromCallable(subscribed::incrementAndGet)).block())
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.API_UNAVAILABLE));
+        assertThat(subscribed).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("실패로 기록하지 않는 오류(요청 오류 등)는 OPEN 조건에 포함하지 않음")
+    void call_IgnoresUnrecordedErrors() {
+        // given
+        CircuitBreaker breaker = breaker();
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            fail(breaker, new IllegalArgumentException("400"));
+        }
+
+        // then
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("OPEN 유지 시간이 지나면 시험 호출을 허용하고, 모두 성공하면 CLOSED로 전환하며 리스너에 알림")
+    void call_ClosesAfterSuccessfulTrialCalls() {
+        // given
+        CircuitBreaker breaker = breaker();
+        List<CircuitBreaker.State> transitions = new ArrayList<>();
+        breaker.addListener(transitions::add);
+        for (int i = 0; i < 4; i++) {
+            fail(breaker, new IllegalStateException("timeout"));
+        }
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+        // when
+        succeed(breaker);
+        succeed(breaker);
+
+        // then
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(transitions).containsExactly(CircuitBreaker.State.OPEN, CircuitBreaker.State.HALF_OPEN,
+                CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 OPEN, 시험 호출 수를 넘는 동시 호출은 차단")
+    void call_ReopensOnFailedTrialCall() {
+        // given
+        CircuitBreaker breaker = breaker();
+        for (int i = 0; i < 4; i++) {
+            fail(breaker, new IllegalStateException("timeout"));
+        }
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+
+        // when: 시험 호출 2개가 진행 중일 때 3번째 호출
+        Mono<String> pending = Mono.never();
+        breaker.call(() -> pending).subscribe();
+        breaker.call(() -> pending).subscribe();
+
+        // then
+        assertThatThrownBy(() -> breaker.call(() -> Mono.just("ok")).block())
+                .isInstanceOf(BusinessException.class);
+
+        // when: 새 breaker에서 시험 호출 실패
+        CircuitBreaker other = breaker();
+        for (int i = 0; i < 4; i++) {
+            fail(other, new IllegalStateException("timeout"));
+        }
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        fail(other, new IllegalStateException("timeout"));
+
+        // then
+        assertThat(other.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+}
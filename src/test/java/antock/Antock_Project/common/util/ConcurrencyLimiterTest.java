@@ -0,0 +1,48 @@
+package antock.Antock_Project.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimiterTest {
+
+    @Test
+    @DisplayName("동시에 실행되는 작업 수가 제한값을 넘지 않음")
+    void call_NeverExceedsLimit() {
+        // given
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter("test", 3);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+
+        // when
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            int value = i;
+            futures.add(CompletableFuture.supplyAsync(() -> limiter.call(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                return value;
+            }), executor));
+        }
+        futures.forEach(CompletableFuture::join);
+        executor.shutdown();
+
+        // then
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(3);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+}
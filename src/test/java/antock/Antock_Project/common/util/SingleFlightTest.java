@@ -0,0 +1,98 @@
+package antock.Antock_Project.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    @Test
+    @DisplayName("같은 키의 동시 호출은 한 번만 실행되고 결과를 공유")
+    void execute_SharesInFlightCall() throws Exception {
+        // given
+        SingleFlight<String, String> singleFlight = new SingleFlight<>("test");
+        AtomicInteger invocations = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when: 첫 호출이 끝나지 않은 상태에서 같은 키로 8번 요청
+        List<CompletableFuture<Optional<String>>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(CompletableFuture.supplyAsync(() -> singleFlight.execute("key", () -> {
+                invocations.incrementAndGet();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return Optional.of("value");
+            }), executor));
+        }
+        while (singleFlight.getCallCount() + singleFlight.getSharedCount() < 8) {
+            Thread.sleep(10);
+        }
+        release.countDown();
+
+        // then
+        for (CompletableFuture<Optional<String>> future : futures) {
+            assertThat(future.get(5, TimeUnit.SECONDS)).contains("value");
+        }
+        assertThat(invocations.get()).isEqualTo(1);
+        assertThat(singleFlight.getSharedCount()).isEqualTo(7);
+        assertThat(singleFlight.getInFlight()).isZero();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("호출이 끝난 뒤의 요청은 새로 실행되고, 예외는 공유 후 제거됨")
+    void execute_DoesNotRetainResults() {
+        // given
+        SingleFlight<String, String> singleFlight = new SingleFlight<>("test");
+
+        // when & then
+        assertThatThrownBy(() -> singleFlight.execute("key", () -> {
+            throw new IllegalStateException("API error");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(singleFlight.execute("key", () -> Optional.of("value"))).contains("value");
+        assertThat(singleFlight.getCallCount()).isEqualTo(2);
+        assertThat(singleFlight.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("논블로킹 호출도 진행 중인 호출을 공유 (빈 결과 포함)")
+    void executeReactive_SharesInFlightCall() {
+        // given
+        SingleFlight<String, String> singleFlight = new SingleFlight<>("test");
+        AtomicInteger invocations = new AtomicInteger();
+
+        // when
+        List<Mono<String>> monos = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            monos.add(singleFlight.executeReactive("key", () -> Mono.<String>empty()
+                    .delaySubscription(Duration.ofMillis(200))
+                    .doOnSubscribe(subscription -> invocations.incrementAndGet())));
+        }
+        List<String> results = Flux.merge(monos).collectList().block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(results).isEmpty();
+        assertThat(invocations.get()).isEqualTo(1);
+        assertThat(singleFlight.getSharedCount()).isEqualTo(4);
+        assertThat(singleFlight.getInFlight()).isZero();
+    }
+}
@@ -0,0 +1,53 @@
+package antock.Antock_Project.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketRateLimiterTest {
+
+    @Test
+    @DisplayName("쌓인 토큰(burst)만큼은 바로 사용하고, 이후에는 토큰 간격만큼 대기")
+    void reserve_AllowsBurstThenSpacesRequests() {
+        // given: 초당 10개 (간격 100ms), burst 3
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter("test", 10, 3);
+
+        // when & then
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.reserve()).isZero();
+        }
+        long fourth = limiter.reserve();
+        long fifth = limiter.reserve();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(fourth)).isBetween(50L, 100L);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(fifth - fourth)).isBetween(90L, 110L);
+    }
+
+    @Test
+    @DisplayName("초당 요청 수가 0이면 제한 없음")
+    void reserve_Unlimited() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter("test", 0, 1);
+
+        assertThat(limiter.isUnlimited()).isTrue();
+        for (int i = 0; i < 1000; i++) {
+            assertThat(limiter.reserve()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("Reactive 대기는 예약한 시간 후 완료")
+    void acquireReactive_DelaysUntilToken() {
+        // given: burst 1개 사용 후 다음 토큰은 50ms 후
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter("test", 20, 1);
+        limiter.acquireReactive().block();
+
+        // when
+        long start = System.nanoTime();
+        limiter.acquireReactive().block();
+
+        // then
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(30);
+    }
+}
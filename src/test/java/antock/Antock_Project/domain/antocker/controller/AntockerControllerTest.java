@@ -1,6 +1,12 @@
 package antock.Antock_Project.domain.antocker.controller;
 
-import antock.Antock_Project.domain.antocker.service.AntockerService;
+import antock.Antock_Project.common.exception.BusinessException;
+import antock.Antock_Project.common.exception.ErrorCode;
+import antock.Antock_Project.domain.antocker.dto.ImportJobProgressResponse;
+import antock.Antock_Project.domain.antocker.entity.ImportJobStatus;
+import antock.Antock_Project.domain.antocker.service.ImportJobRegistry;
+import antock.Antock_Project.domain.antocker.service.ImportJobTracker;
+import antock.Antock_Project.domain.antocker.service.RegionImportScheduler;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,10 +15,12 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
-import java.util.concurrent.CompletableFuture;
+import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -25,25 +33,100 @@ class AntockerControllerTest {
     private MockMvc mockMvc;
 
     @MockBean
-    private AntockerService antockerService;
+    private RegionImportScheduler regionImportScheduler;
+
+    @MockBean
+    private ImportJobRegistry importJobRegistry;
 
     @Test
     @DisplayName("POST /api/antockers/process 요청 시 서비스 호출 및 202 응답 확인")
     void startProcessing_Success() throws Exception {
         // given
         String region = "서울특별시";
-        // Mock AntockerService 설정: processAndSaveAntockerData 호출 시 성공적으로 완료된 CompletableFuture 반환
-        when(antockerService.processAndSaveAntockerData(anyString()))
-                .thenReturn(CompletableFuture.completedFuture(10)); // 예시로 10개 저장 완료
+        ImportJobTracker tracker = mock(ImportJobTracker.class);
+        when(tracker.getId()).thenReturn("job-1");
+        when(tracker.progress()).thenReturn(progress("job-1", region, ImportJobStatus.RUNNING));
+        // Mock RegionImportScheduler 설정: submit 호출 시 작업 반환
+        when(regionImportScheduler.submit(anyString())).thenReturn(tracker);
 
         // when & then
         mockMvc.perform(post("/api/antockers/process") // POST 요청 시뮬레이션
                         .param("region", region) // 요청 파라미터 설정
                         .contentType(MediaType.APPLICATION_JSON)) // 요청 타입 (필수는 아님)
                 .andExpect(status().isAccepted()) // HTTP 상태 코드 202 Accepted 확인
-                .andExpect(content().string("Processing started for region: " + region)); // 응답 본문 확인
+                .andExpect(header().string("Location", "/api/antockers/jobs/job-1")) // 작업 조회 URL
+                .andExpect(jsonPath("$.id").value("job-1")) // 응답 본문 확인
+                .andExpect(jsonPath("$.region").value(region));
+
+        // RegionImportScheduler의 submit 메소드가 "서울특별시" 인수로 호출되었는지 검증
+        verify(regionImportScheduler).submit(region);
+    }
+
+    @Test
+    @DisplayName("POST /api/antockers/process/batch 요청 시 지역별 작업 시작 및 202 응답 확인")
+    void startBatchProcessing_Success() throws Exception {
+        // given
+        ImportJobTracker seoul = mock(ImportJobTracker.class);
+        ImportJobTracker busan = mock(ImportJobTracker.class);
+        when(seoul.progress()).thenReturn(progress("job-1", "서울특별시", ImportJobStatus.RUNNING));
+        when(busan.progress()).thenReturn(progress("job-2", "부산광역시", ImportJobStatus.RUNNING));
+        when(regionImportScheduler.submitAll(List.of("서울특별시", "부산광역시"))).thenReturn(List.of(seoul, busan));
+
+        // when & then
+        mockMvc.perform(post("/api/antockers/process/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"regions\": [\"서울특별시\", \"부산광역시\"]}"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$[0].id").value("job-1"))
+                .andExpect(jsonPath("$[1].region").value("부산광역시"));
+    }
+
+    @Test
+    @DisplayName("POST /api/antockers/process/batch 요청에 지역이 없으면 400 응답")
+    void startBatchProcessing_EmptyRegions() throws Exception {
+        mockMvc.perform(post("/api/antockers/process/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"regions\": []}"))
+                .andExpect(status().isBadRequest());
+
+        verify(regionImportScheduler, never()).submitAll(any());
+    }
+
+    @Test
+    @DisplayName("GET /api/antockers/jobs/{id} 요청 시 작업 진행 상황 반환")
+    void getJob_ReturnsProgress() throws Exception {
+        // given
+        ImportJobTracker tracker = mock(ImportJobTracker.class);
+        ImportJobProgressResponse progress = progress("job-1", "서울특별시", ImportJobStatus.RUNNING);
+        progress.setParsedRows(1000);
+        progress.setSavedRows(400);
+        progress.setRowsPerSecond(250.0);
+        progress.setEtaSeconds(3L);
+        when(tracker.progress()).thenReturn(progress);
+        when(importJobRegistry.get("job-1")).thenReturn(tracker);
+
+        // when & then
+        mockMvc.perform(get("/api/antockers/jobs/job-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("RUNNING"))
+                .andExpect(jsonPath("$.parsedRows").value(1000))
+                .andExpect(jsonPath("$.savedRows").value(400))
+                .andExpect(jsonPath("$.rowsPerSecond").value(250.0))
+                .andExpect(jsonPath("$.etaSeconds").value(3));
+    }
+
+    @Test
+    @DisplayName("없는 작업 조회 시 404 응답")
+    void getJob_NotFound() throws Exception {
+        // given
+        when(importJobRegistry.get("unknown")).thenThrow(new BusinessException(ErrorCode.ENTITY_NOT_FOUND));
+
+        // when & then
+        mockMvc.perform(get("/api/antockers/jobs/unknown"))
+                .andExpect(status().isNotFound());
+    }
 
-        // AntockerService의 processAndSaveAntockerData 메소드가 "서울특별시" 인수로 호출되었는지 검증
-        verify(antockerService).processAndSaveAntockerData(region);
+    private static ImportJobProgressResponse progress(String id, String region, ImportJobStatus status) {
+        return ImportJobProgressResponse.builder().id(id).region(region).status(status).build();
     }
 }
@@ -5,10 +5,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @DataJpaTest
 class AntockerRepositoryTest {
@@ -66,4 +68,107 @@ class AntockerRepositoryTest {
         assertThat(antockers).hasSize(2);
         assertThat(antockers).extracting("companyName").containsExactly("테스트 상호1", "테스트 상호2");
     }
+
+    @Test
+    void findBusinessRegistrationNumbersAfter_PagesById() {
+        // Given
+        antockerRepository.saveAll(List.of(
+                Antocker.builder().companyName("테스트 상호1").businessRegistrationNumber("1111111111").build(),
+                Antocker.builder().companyName("테스트 상호2").businessRegistrationNumber("2222222222").build(),
+                Antocker.builder().companyName("테스트 상호3").businessRegistrationNumber("3333333333").build()));
+        entityManager.flush();
+
+        // When: 2개씩 조회
+        List<AntockerRepository.BusinessNumberEntry> first =
+                antockerRepository.findBusinessRegistrationNumbersAfter(0L, PageRequest.of(0, 2));
+        List<AntockerRepository.BusinessNumberEntry> second = antockerRepository.findBusinessRegistrationNumbersAfter(
+                first.get(first.size() - 1).getId(), PageRequest.of(0, 2));
+
+        // Then
+        assertThat(first).extracting(AntockerRepository.BusinessNumberEntry::getBusinessRegistrationNumber)
+                .containsExactly("1111111111", "2222222222");
+        assertThat(second).extracting(AntockerRepository.BusinessNumberEntry::getBusinessRegistrationNumber)
+                .containsExactly("3333333333");
+    }
+
+    @Test
+    void findExistingBusinessRegistrationNumbers_Success() {
+        // Given
+        antockerRepository.saveAll(List.of(
+                Antocker.builder().companyName("테스트 상호1").businessRegistrationNumber("1111111111").build(),
+                Antocker.builder().companyName("테스트 상호2").businessRegistrationNumber("2222222222").build()));
+        entityManager.flush();
+
+        // When
+        List<String> existing = antockerRepository.findExistingBusinessRegistrationNumbers(
+                List.of("1111111111", "3333333333"));
+
+        // Then
+        assertThat(existing).containsExactly("1111111111");
+    }
+
+    @Test
+    void findRowFingerprintsBySourceRegion_And_MarkRemoved() {
+        // Given
+        antockerRepository.saveAll(List.of(
+                Antocker.builder().businessRegistrationNumber("1111111111").rowFingerprint(1L).sourceRegion("서울").build(),
+                Antocker.builder().businessRegistrationNumber("2222222222").rowFingerprint(2L).sourceRegion("서울").build(),
+                Antocker.builder().businessRegistrationNumber("3333333333").rowFingerprint(3L).sourceRegion("부산").build()));
+        entityManager.flush();
+
+        // When
+        int removed = antockerRepository.markRemoved("서울", List.of("2222222222", "3333333333"));
+        entityManager.clear();
+        List<AntockerRepository.RowFingerprint> fingerprints =
+                antockerRepository.findRowFingerprintsBySourceRegion("서울");
+
+        // Then: 다른 지역 행은 표시되지 않음
+        assertThat(removed).isEqualTo(1);
+        assertThat(fingerprints)
+                .extracting(AntockerRepository.RowFingerprint::getBusinessRegistrationNumber,
+                        AntockerRepository.RowFingerprint::getRowFingerprint,
+                        AntockerRepository.RowFingerprint::isRemoved)
+                .containsExactlyInAnyOrder(
+                        tuple("1111111111", 1L, false),
+                        tuple("2222222222", 2L, true));
+    }
+
+    @Test
+    void completeEnrichment_UpdatesOnlyRowsUnchangedSinceRead() {
+        // Given: 보강 대기 행, 그 사이 적재로 보강이 끝난 행, 그 사이 주소가 바뀐 행, 주소 없는 보강 대기 행
+        Antocker pending = Antocker.builder().businessRegistrationNumber("1111111111").companyName("상호1")
+                .address("서울특별시 강남구 테헤란로 1").enrichmentPending(true).build();
+        Antocker reimported = Antocker.builder().businessRegistrationNumber("2222222222").companyName("상호2")
+                .address("서울특별시 강남구 테헤란로 2").administrativeCode("1168010200").build();
+        Antocker moved = Antocker.builder().businessRegistrationNumber("3333333333").companyName("상호3")
+                .address("서울특별시 서초구 서초대로 3").enrichmentPending(true).build();
+        Antocker noAddress = Antocker.builder().businessRegistrationNumber("4444444444").companyName("상호4")
+                .enrichmentPending(true).build();
+        antockerRepository.saveAll(List.of(pending, reimported, moved, noAddress));
+        entityManager.flush();
+
+        // When
+        int updated = antockerRepository.completeEnrichment(pending.getId(), "서울특별시 강남구 테헤란로 1",
+                "1101110000001", "1168010100")
+                + antockerRepository.completeEnrichment(reimported.getId(), "서울특별시 강남구 테헤란로 2",
+                "1101110000002", "9999999999")
+                + antockerRepository.completeEnrichment(moved.getId(), "서울특별시 강남구 테헤란로 3",
+                "1101110000003", "9999999999")
+                + antockerRepository.completeEnrichment(noAddress.getId(), null, "1101110000004", null);
+        entityManager.clear();
+
+        // Then
+        assertThat(updated).isEqualTo(2);
+        assertThat(antockerRepository.findByBusinessRegistrationNumber("1111111111")).hasValueSatisfying(a -> {
+            assertThat(a.getCorporateRegistrationNumber()).isEqualTo("1101110000001");
+            assertThat(a.getAdministrativeCode()).isEqualTo("1168010100");
+            assertThat(a.isEnrichmentPending()).isFalse();
+        });
+        assertThat(antockerRepository.findByBusinessRegistrationNumber("2222222222")).hasValueSatisfying(a ->
+                assertThat(a.getAdministrativeCode()).isEqualTo("1168010200"));
+        assertThat(antockerRepository.findByBusinessRegistrationNumber("3333333333")).hasValueSatisfying(a ->
+                assertThat(a.isEnrichmentPending()).isTrue());
+        assertThat(antockerRepository.findByBusinessRegistrationNumber("4444444444")).hasValueSatisfying(a ->
+                assertThat(a.isEnrichmentPending()).isFalse());
+    }
 }
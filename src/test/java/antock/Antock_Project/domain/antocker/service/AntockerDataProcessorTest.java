@@ -1,5 +1,8 @@
 package antock.Antock_Project.domain.antocker.service;
 
+import antock.Antock_Project.common.config.ImportPipelineProperties;
+import antock.Antock_Project.common.exception.BusinessException;
+import antock.Antock_Project.common.exception.ErrorCode;
 import antock.Antock_Project.domain.antocker.entity.Antocker;
 import antock.Antock_Project.external.Antocker.AntockerApiClient;
 // import antock.Antock_Project.external.Antocker.AntockerDetailResponse; // 이전 타입 제거
@@ -7,15 +10,20 @@ import antock.Antock_Project.external.Antocker.dto.AntockerDetailResponse; // DT
 import antock.Antock_Project.external.address.AddressApiClient;
 // import antock.Antock_Project.external.address.AddressResponse; // 이전 타입 제거
 import antock.Antock_Project.external.address.dto.AddressResponse; // DTO 타입 임포트
+import antock.Antock_Project.external.csv.CsvHeader;
+import antock.Antock_Project.external.csv.CsvRow;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -36,20 +44,21 @@ class AntockerDataProcessorTest {
     @Mock
     private AddressApiClient addressApiClient;
 
+    @Spy
+    private ImportPipelineProperties pipelineProperties = new ImportPipelineProperties();
+
     @InjectMocks
     private AntockerDataProcessor antockerDataProcessor;
 
-    private Map<String, String> sampleCsvData;
+    private CsvRow sampleCsvData;
     private AntockerDetailResponse sampleDetailResponse; // DTO 타입으로 변경
     private AddressResponse sampleAddressResponse; // DTO 타입으로 변경
 
     @BeforeEach
     void setUp() {
         // 샘플 CSV 데이터 설정
-        sampleCsvData = new HashMap<>();
-        sampleCsvData.put("사업자등록번호", "1234567890");
-        sampleCsvData.put("상호", "테스트상점");
-        sampleCsvData.put("사업장주소", "서울시 강남구 테스트로 123");
+        sampleCsvData = CsvHeader.of("사업자등록번호", "상호", "사업장주소")
+                .row("1234567890", "테스트상점", "서울시 강남구 테스트로 123");
 
         // 샘플 AntockerDetailResponse (DTO) 설정
         sampleDetailResponse = new AntockerDetailResponse();
@@ -144,4 +153,108 @@ class AntockerDataProcessorTest {
         assertNull(resultAntocker.getCorporateRegistrationNumber());
         assertNull(resultAntocker.getAdministrativeCode());
     }
+
+    @Test
+    @DisplayName("논블로킹 처리: 두 API 결과를 조합하여 Antocker 생성")
+    void processAntockerDataReactive_Success() {
+        // given
+        when(antockerApiClient.fetchAntockerDetailsReactive(anyString())).thenReturn(Mono.just(sampleDetailResponse));
+        when(addressApiClient.fetchAddressInfoReactive(anyString())).thenReturn(Mono.just(sampleAddressResponse));
+
+        // when
+        Antocker resultAntocker = antockerDataProcessor.processAntockerDataReactive(sampleCsvData).block();
+
+        // then
+        assertNotNull(resultAntocker);
+        assertEquals("1234567890", resultAntocker.getBusinessRegistrationNumber());
+        assertEquals("1111112222222", resultAntocker.getCorporateRegistrationNumber());
+        assertEquals("1168010100", resultAntocker.getAdministrativeCode());
+    }
+
+    @Test
+    @DisplayName("논블로킹 처리: API 결과가 비어 있어도 Antocker 생성")
+    void processAntockerDataReactive_EmptyResponses() {
+        // given
+        when(antockerApiClient.fetchAntockerDetailsReactive(anyString())).thenReturn(Mono.empty());
+        when(addressApiClient.fetchAddressInfoReactive(anyString())).thenReturn(Mono.empty());
+
+        // when
+        List<Antocker> results = antockerDataProcessor
+                .processAntockerDataReactive(Flux.just(sampleCsvData, sampleCsvData))
+                .collectList()
+                .block();
+
+        // then
+        assertNotNull(results);
+        assertEquals(2, results.size());
+        assertNull(results.get(0).getCorporateRegistrationNumber());
+        assertNull(results.get(0).getAdministrativeCode());
+        assertEquals("테스트상점", results.get(0).getCompanyName());
+    }
+
+    @Test
+    @DisplayName("API 호출 실패 시 예외를 전파하지 않고 해당 값 없이 보강 대기로 처리")
+    void processAntockerData_ApiFailure_MarksPending() throws ExecutionException, InterruptedException {
+        // given: 주소 API circuit breaker가 열려 있음
+        when(antockerApiClient.fetchAntockerDetails(anyString())).thenReturn(Optional.of(sampleDetailResponse));
+        when(addressApiClient.fetchAddressInfo(anyString()))
+                .thenThrow(new BusinessException(ErrorCode.API_UNAVAILABLE, "Juso API circuit breaker OPEN"));
+
+        // when
+        Antocker resultAntocker = antockerDataProcessor.processAntockerData(sampleCsvData).get();
+
+        // then
+        assertEquals("1111112222222", resultAntocker.getCorporateRegistrationNumber());
+        assertNull(resultAntocker.getAdministrativeCode());
+        assertTrue(resultAntocker.isEnrichmentPending());
+    }
+
+    @Test
+    @DisplayName("논블로킹 처리: API 오류 시 보강 대기로 처리, 결과 없음(empty)은 보강 대기가 아님")
+    void processAntockerDataReactive_ApiFailure_MarksPending() {
+        // given
+        when(antockerApiClient.fetchAntockerDetailsReactive(anyString()))
+                .thenReturn(Mono.error(new BusinessException(ErrorCode.API_OVERLOADED, "503")));
+        when(addressApiClient.fetchAddressInfoReactive(anyString())).thenReturn(Mono.empty());
+
+        // when
+        Antocker resultAntocker = antockerDataProcessor.processAntockerDataReactive(sampleCsvData).block();
+
+        // then
+        assertNotNull(resultAntocker);
+        assertNull(resultAntocker.getCorporateRegistrationNumber());
+        assertTrue(resultAntocker.isEnrichmentPending());
+
+        // given: 두 API 모두 결과 없음
+        when(antockerApiClient.fetchAntockerDetailsReactive(anyString())).thenReturn(Mono.empty());
+
+        // when & then
+        assertFalse(antockerDataProcessor.processAntockerDataReactive(sampleCsvData).block().isEnrichmentPending());
+    }
+
+    @Test
+    @DisplayName("묶음 처리: 상세는 한 번에 조회하고, 결과에 없는(조회 실패) 번호만 보강 대기로 처리")
+    void processAntockerDataBatchReactive_UsesBatchLookup() {
+        // given
+        CsvRow other = CsvHeader.of("사업자등록번호", "상호", "사업장주소")
+                .row("2222222222", "다른상점", "서울시 강남구 테스트로 456");
+        when(antockerApiClient.fetchAntockerDetailsBatchReactive(List.of("1234567890", "2222222222")))
+                .thenReturn(Mono.just(Map.of("1234567890", sampleDetailResponse)));
+        when(addressApiClient.fetchAddressInfoReactive(anyString())).thenReturn(Mono.just(sampleAddressResponse));
+
+        // when
+        List<Antocker> results = antockerDataProcessor.processAntockerDataBatchReactive(List.of(sampleCsvData, other))
+                .block();
+
+        // then: 입력 순서 유지
+        assertNotNull(results);
+        assertEquals(2, results.size());
+        assertEquals("1111112222222", results.get(0).getCorporateRegistrationNumber());
+        assertFalse(results.get(0).isEnrichmentPending());
+        assertEquals("2222222222", results.get(1).getBusinessRegistrationNumber());
+        assertNull(results.get(1).getCorporateRegistrationNumber());
+        assertEquals("1168010100", results.get(1).getAdministrativeCode());
+        assertTrue(results.get(1).isEnrichmentPending());
+        verify(antockerApiClient, never()).fetchAntockerDetailsReactive(anyString());
+    }
 }
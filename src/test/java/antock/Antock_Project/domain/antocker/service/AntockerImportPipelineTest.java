@@ -0,0 +1,214 @@
+package antock.Antock_Project.domain.antocker.service;
+
+import antock.Antock_Project.common.config.ImportPipelineProperties;
+import antock.Antock_Project.domain.antocker.entity.Antocker;
+import antock.Antock_Project.external.csv.CsvHeader;
+import antock.Antock_Project.external.csv.CsvRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AntockerImportPipelineTest {
+
+    private final CsvHeader header = CsvHeader.of("사업자등록번호", "상호");
+    private ImportPipelineProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        // 작은 큐/배치로 backpressure 및 배치 분할이 실제로 발생하도록 설정
+        properties = new ImportPipelineProperties();
+        properties.setQueueCapacity(4);
+        properties.setEnrichConcurrency(3);
+        properties.setBatchSize(10);
+    }
+
+    private CompletableFuture<Antocker> enrich(CsvRow row) {
+        return CompletableFuture.supplyAsync(() -> Antocker.builder()
+                .businessRegistrationNumber(row.getBusinessRegistrationNumber())
+                .companyName(row.getCompanyName())
+                .build());
+    }
+
+    @Test
+    @DisplayName("파일 내 중복과 이미 저장된 행을 처리 전에 제외하고 배치 단위로 저장")
+    void run_SavesInBatches() {
+        // given: 0~99 사업자번호 + 0~9 중복 10건, 95~99는 이미 저장됨
+        Stream<CsvRow> rows = Stream.concat(IntStream.range(0, 100).boxed(), IntStream.range(0, 10).boxed())
+                .map(i -> header.row(String.valueOf(i), "상점" + i));
+        List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        AntockerImportPipeline pipeline = new AntockerImportPipeline("test", properties,
+                row -> Integer.parseInt(row.getBusinessRegistrationNumber()) >= 95, this::enrich, (batch, checkpoint) -> {
+            batchSizes.add(batch.size());
+            return batch.size();
+        });
+
+        // when
+        int saved = pipeline.run(rows);
+
+        // then
+        assertThat(saved).isEqualTo(95);
+        assertThat(batchSizes).allMatch(size -> size <= 10).hasSize(10);
+        ImportPipelineMetrics.Snapshot snapshot = pipeline.snapshot();
+        assertThat(snapshot.getParsedRows()).isEqualTo(110);
+        assertThat(snapshot.getEnrichedRows()).isEqualTo(95); // 중복/기존 행은 외부 API 처리 안 함
+        assertThat(snapshot.getDuplicateRows()).isEqualTo(10);
+        assertThat(snapshot.getExistingRows()).isEqualTo(5);
+        assertThat(snapshot.getSavedRows()).isEqualTo(95);
+        assertThat(snapshot.getInFlightRows()).isZero();
+    }
+
+    @Test
+    @DisplayName("처리 단계에서 예외 발생 시 파이프라인을 중단하고 예외 전파")
+    void run_AbortsOnEnrichFailure() {
+        // given
+        AtomicInteger writes = new AtomicInteger();
+        Stream<CsvRow> rows = IntStream.range(0, 1000).mapToObj(i -> header.row(String.valueOf(i), "상점"));
+        AntockerImportPipeline pipeline = new AntockerImportPipeline("test", properties, row -> false,
+                row -> "5".equals(row.getBusinessRegistrationNumber())
+                        ? CompletableFuture.failedFuture(new IllegalStateException("API error"))
+                        : enrich(row),
+                (batch, checkpoint) -> writes.addAndGet(batch.size()));
+
+        // when & then
+        assertThatThrownBy(() -> pipeline.run(rows))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("API error");
+        assertThat(pipeline.snapshot().getParsedRows()).isLessThan(1000); // 파싱도 중간에 중단됨
+    }
+
+    @Test
+    @DisplayName("checkpoint 이전 행은 처리하지 않고, 배치마다 커밋된 행 이후의 checkpoint 전달")
+    void run_ResumesFromCheckpoint() {
+        // given: 이전 실행에서 30번째 행까지 커밋됨
+        Stream<CsvRow> rows = IntStream.range(0, 100).mapToObj(i -> header.row(String.valueOf(i), "상점" + i));
+        List<Long> checkpoints = Collections.synchronizedList(new ArrayList<>());
+        AntockerImportPipeline pipeline = new AntockerImportPipeline("test", properties, row -> false,
+                row -> {
+                    assertThat(Integer.parseInt(row.getBusinessRegistrationNumber())).isGreaterThanOrEqualTo(30);
+                    return enrich(row);
+                },
+                (batch, checkpoint) -> {
+                    checkpoints.add(checkpoint);
+                    return batch.size();
+                });
+
+        // when
+        int saved = pipeline.run(rows, 30);
+
+        // then
+        assertThat(saved).isEqualTo(70);
+        assertThat(pipeline.snapshot().getExistingRows()).isEqualTo(30);
+        assertThat(checkpoints).isSorted().allMatch(checkpoint -> checkpoint > 30 && checkpoint <= 100);
+        assertThat(checkpoints.get(checkpoints.size() - 1)).isEqualTo(100);
+        assertThat(pipeline.snapshot().getCheckpointRow()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("묶음 처리: 대기 중인 행을 enrichBatchSize개까지 묶어 처리하고, 결과 없는 행은 저장하지 않음")
+    void batched_EnrichesRowsInGroups() {
+        // given: 짝수 행만 저장할 결과가 있음
+        properties.setEnrichConcurrency(4);
+        properties.setEnrichBatchSize(3);
+        List<Integer> groupSizes = Collections.synchronizedList(new ArrayList<>());
+        List<String> savedNumbers = Collections.synchronizedList(new ArrayList<>());
+        AntockerImportPipeline pipeline = AntockerImportPipeline.batched("test", properties, row -> false,
+                rows -> {
+                    groupSizes.add(rows.size());
+                    return CompletableFuture.supplyAsync(() -> rows.stream()
+                            .map(row -> Integer.parseInt(row.getBusinessRegistrationNumber()) % 2 == 0
+                                    ? Antocker.builder().businessRegistrationNumber(row.getBusinessRegistrationNumber()).build()
+                                    : null)
+                            .toList());
+                },
+                (batch, checkpoint) -> {
+                    batch.forEach(antocker -> savedNumbers.add(antocker.getBusinessRegistrationNumber()));
+                    return batch.size();
+                });
+
+        // when
+        int saved = pipeline.run(IntStream.range(0, 50).mapToObj(i -> header.row(String.valueOf(i), "상점")));
+
+        // then
+        assertThat(saved).isEqualTo(25);
+        assertThat(savedNumbers).hasSize(25).allMatch(number -> Integer.parseInt(number) % 2 == 0);
+        assertThat(groupSizes).allMatch(size -> size >= 1 && size <= 3);
+        assertThat(groupSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(50);
+        assertThat(pipeline.snapshot().getCheckpointRow()).isEqualTo(50);
+        assertThat(pipeline.snapshot().getInFlightRows()).isZero();
+    }
+
+    @Test
+    @DisplayName("묶음 처리: 결과 수가 행 수와 다르면 파이프라인 중단")
+    void batched_ResultSizeMismatch_Fails() {
+        // given
+        properties.setEnrichBatchSize(2);
+        AntockerImportPipeline pipeline = AntockerImportPipeline.batched("test", properties, row -> false,
+                rows -> CompletableFuture.completedFuture(List.of()),
+                (batch, checkpoint) -> batch.size());
+
+        // when & then
+        assertThatThrownBy(() -> pipeline.run(IntStream.range(0, 5).mapToObj(i -> header.row(String.valueOf(i), "상점"))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("저장이 밀려도 처리 결과를 완료시키는 스레드(외부 API 응답 스레드)는 대기하지 않음")
+    void run_DoesNotBlockCompletingThread() throws InterruptedException {
+        // given: writeQueue 1칸, 결과 8개를 한 스레드(Netty event loop 역할)에서 한꺼번에 완료
+        properties.setQueueCapacity(1);
+        properties.setEnrichConcurrency(8);
+        properties.setBatchSize(1);
+        List<CompletableFuture<Antocker>> pending = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch allCompleted = new CountDownLatch(1);
+        Thread eventLoop = new Thread(() -> {
+            while (pending.size() < 8) {
+                Thread.onSpinWait();
+            }
+            pending.forEach(future -> future.complete(Antocker.builder().businessRegistrationNumber("1").build()));
+            allCompleted.countDown();
+        }, "test-event-loop");
+        eventLoop.setDaemon(true);
+        eventLoop.start();
+        AtomicInteger writes = new AtomicInteger();
+        AtomicBoolean completedWhileWriting = new AtomicBoolean();
+        AntockerImportPipeline pipeline = new AntockerImportPipeline("test", properties, row -> false,
+                row -> {
+                    CompletableFuture<Antocker> future = new CompletableFuture<>();
+                    pending.add(future);
+                    return future;
+                },
+                (batch, checkpoint) -> {
+                    // 첫 저장이 끝나기 전에 결과 8개가 모두 완료되어야 함 (완료 스레드가 writeQueue에서 대기하지 않음)
+                    try {
+                        if (writes.getAndIncrement() == 0) {
+                            completedWhileWriting.set(allCompleted.await(5, TimeUnit.SECONDS));
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return batch.size();
+                });
+
+        // when
+        int saved = pipeline.run(IntStream.range(0, 8).mapToObj(i -> header.row(String.valueOf(i), "상점")));
+
+        // then
+        assertThat(saved).isEqualTo(8);
+        assertThat(completedWhileWriting).isTrue();
+        eventLoop.join();
+    }
+}
@@ -1,11 +1,19 @@
 package antock.Antock_Project.domain.antocker.service;
 
+import antock.Antock_Project.common.config.ImportPipelineProperties;
 import antock.Antock_Project.common.exception.BusinessException;
 import antock.Antock_Project.common.exception.ErrorCode;
+import antock.Antock_Project.common.util.ConcurrencyLimiter;
 import antock.Antock_Project.domain.antocker.entity.Antocker;
+import antock.Antock_Project.domain.antocker.entity.ImportJob;
+import antock.Antock_Project.domain.antocker.entity.ImportJobStatus;
 import antock.Antock_Project.domain.antocker.repository.AntockerRepository;
+import antock.Antock_Project.domain.antocker.repository.RegionImportManifestRepository;
 import antock.Antock_Project.external.csv.CsvDownloader;
+import antock.Antock_Project.external.csv.CsvHeader;
 import antock.Antock_Project.external.csv.CsvParser;
+import antock.Antock_Project.external.csv.CsvRow;
+import antock.Antock_Project.infrastructure.storage.AntockerStorageService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,9 +22,13 @@ import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -28,11 +40,13 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -45,18 +59,30 @@ class AntockerServiceTest {
     @Mock
     private CsvDownloader ftcCsvDownloader;
     @Mock
-    private CsvParser openCsvParser;
+    private CsvParser csvParser;
     @Mock
     private AntockerDataProcessor antockerDataProcessor;
     @Mock
     private AntockerRepository antockerRepository;
+    @Mock
+    private AntockerStorageService antockerStorageService;
+    @Mock
+    private RegionImportManifestRepository regionImportManifestRepository;
+    @Mock
+    private ImportJobService importJobService;
+    @Spy
+    private ImportPipelineProperties pipelineProperties = new ImportPipelineProperties();
+    @Spy
+    private TransactionOperations transactionOperations = TransactionOperations.withoutTransaction();
+    @Spy
+    private ConcurrencyLimiter csvDownloadLimiter = new ConcurrencyLimiter("CSV download", 1);
 
     @TempDir
     Path tempDir; // 임시 파일 경로 생성용
 
     private final String testCondition = "서울,강남구";
     private Path sampleCsvPath;
-    private List<Map<String, String>> sampleParsedData;
+    private List<CsvRow> sampleParsedData;
     private Antocker sampleAntocker1;
     private Antocker sampleAntocker2;
     private Antocker sampleAntocker3Duplicate1;
@@ -67,10 +93,11 @@ class AntockerServiceTest {
         sampleCsvPath = Files.createFile(tempDir.resolve("sample.csv"));
 
         // 샘플 파싱 데이터 (111 중복 포함)
+        CsvHeader header = CsvHeader.of("사업자등록번호", "상호명");
         sampleParsedData = List.of(
-                Map.of("사업자등록번호", "111", "상호명", "A"),
-                Map.of("사업자등록번호", "222", "상호명", "B"),
-                Map.of("사업자등록번호", "111", "상호명", "A 중복")
+                header.row("111", "A"),
+                header.row("222", "B"),
+                header.row("111", "A 중복")
         );
 
         // 샘플 처리된 데이터
@@ -80,42 +107,35 @@ class AntockerServiceTest {
 
         // @BeforeEach에서는 공통적으로 필요한 최소한의 Mock만 설정하거나 아예 설정하지 않음
         // 각 테스트 메소드에서 필요한 Mock을 명시적으로 설정
+        // 재개할 작업 없음, 새 작업은 다운로드한 파일을 그대로 사용
+        lenient().when(importJobService.resume(anyString())).thenReturn(Optional.empty());
+        lenient().when(importJobService.start(anyString(), any(Path.class)))
+                .thenAnswer(invocation -> importJob(invocation.getArgument(1), 0));
     }
 
     @Test
-    @DisplayName("정상 처리: CSV 다운로드, 파싱, 처리, 내부 중복 제거, DB 중복 제거 후 저장")
+    @DisplayName("정상 처리: CSV 다운로드, 파싱, 내부 중복 및 DB 중복 제거 후 처리, 저장")
     void processAndSaveAntockerData_Success() throws ExecutionException, InterruptedException {
         // given
         // --- 필요한 Mock 설정 --- 
         when(ftcCsvDownloader.downloadCsvFile(testCondition)).thenReturn(sampleCsvPath);
-        when(openCsvParser.parseCsvFile(sampleCsvPath)).thenReturn(sampleParsedData);
+        when(csvParser.streamCsvFile(sampleCsvPath)).thenReturn(sampleParsedData.stream());
+
+        // 중복 제거 로직 Mock 설정: "222"는 이미 DB에 존재한다고 가정
+        stubSavedBusinessNumbers("222");
 
         // processAntockerData Mock 설정 (CompletableFuture 반환)
+        // 내부 중복("111" 두 번째 행)과 DB 중복("222")은 처리 전에 제외되므로 첫 번째 행만 처리됨
         when(antockerDataProcessor.processAntockerData(sampleParsedData.get(0)))
                 .thenReturn(CompletableFuture.completedFuture(sampleAntocker1));
-        when(antockerDataProcessor.processAntockerData(sampleParsedData.get(1)))
-                .thenReturn(CompletableFuture.completedFuture(sampleAntocker2));
-        when(antockerDataProcessor.processAntockerData(sampleParsedData.get(2)))
-                .thenReturn(CompletableFuture.completedFuture(sampleAntocker3Duplicate1)); // 중복 데이터 처리 결과
-
-        // 중복 제거 로직 Mock 설정
-        // getExistingBusinessNumbers Mock 설정: "222"는 이미 DB에 존재한다고 가정
-        // 내부 중복 제거 후 unique 번호는 "111", "222"
-        when(antockerRepository.findByBusinessRegistrationNumberIn(List.of("111", "222")))
-                .thenReturn(List.of(sampleAntocker2)); // "222"만 DB에 존재
-
-        // saveAll Mock 설정
-        when(antockerRepository.saveAll(anyList())).thenAnswer(invocation -> {
-            List<Antocker> antockersToSave = invocation.getArgument(0);
-            // ID 할당 시뮬레이션 (실제 DB처럼)
-            long nextId = 100L; // 예시 시작 ID
-            for(Antocker a : antockersToSave) {
-                if (a.getId() == null) {
-                    a.setId(nextId++);
-                }
-            }
-            return antockersToSave; // ID 할당된 리스트 반환
-        });
+
+        // 저장 직전 DB 재확인: 그 사이 저장된 데이터 없음
+        when(antockerRepository.findExistingBusinessRegistrationNumbers(List.of("111")))
+                .thenReturn(List.of());
+
+        // saveAll Mock 설정 (저장된 개수 반환)
+        when(antockerStorageService.saveAll(anyList()))
+                .thenAnswer(invocation -> invocation.<List<Antocker>>getArgument(0).size());
         // --- Mock 설정 끝 --- 
 
         // when
@@ -123,16 +143,16 @@ class AntockerServiceTest {
         int savedCount = resultFuture.get(); // 결과 대기 및 가져오기
 
         // then
-        assertEquals(1, savedCount); // 최종적으로 1개만 저장되어야 함 (내부 중복 제거 후 "111", DB 중복 제거 후 "111"만 저장)
+        assertEquals(1, savedCount); // 최종적으로 1개만 저장되어야 함 (내부 중복 제거 후 "111", "222", DB 중복 제거 후 "111"만 저장)
 
         verify(ftcCsvDownloader).downloadCsvFile(testCondition);
-        verify(openCsvParser).parseCsvFile(sampleCsvPath);
-        // processAntockerData 호출 검증
-        verify(antockerDataProcessor, times(3)).processAntockerData(any(Map.class));
-        // 중복 검사를 위해 findByBusinessRegistrationNumberIn 호출 검증
-        verify(antockerRepository).findByBusinessRegistrationNumberIn(anyList());
+        verify(csvParser).streamCsvFile(sampleCsvPath);
+        // processAntockerData 호출 검증 (중복 행은 외부 API 처리하지 않음)
+        verify(antockerDataProcessor, times(1)).processAntockerData(any(CsvRow.class));
+        // 중복 검사를 위해 findExistingBusinessRegistrationNumbers 호출 검증
+        verify(antockerRepository).findExistingBusinessRegistrationNumbers(anyList());
         // 최종 저장 로직(saveAll) 호출 검증 (1개 데이터 저장)
-        verify(antockerRepository).saveAll(argThat((List<Antocker> list) ->
+        verify(antockerStorageService).saveAll(argThat((List<Antocker> list) ->
                 list.size() == 1 && list.get(0).getBusinessRegistrationNumber().equals("111")
         ));
     }
@@ -152,10 +172,10 @@ class AntockerServiceTest {
         // then
         assertEquals(0, savedCount);
         // 다운로드 실패 시 이후 단계는 호출되지 않음
-        verify(openCsvParser, never()).parseCsvFile(any());
+        verify(csvParser, never()).streamCsvFile(any());
         verify(antockerDataProcessor, never()).processAntockerData(any());
-        verify(antockerRepository, never()).saveAll(anyList());
-        verify(antockerRepository, never()).findByBusinessRegistrationNumberIn(anyList()); // 중복 체크도 안함
+        verify(antockerStorageService, never()).saveAll(anyList());
+        verify(antockerRepository, never()).findExistingBusinessRegistrationNumbers(anyList()); // 중복 체크도 안함
     }
 
     @Test
@@ -164,7 +184,7 @@ class AntockerServiceTest {
         // given
         // --- 필요한 Mock 설정 --- 
         when(ftcCsvDownloader.downloadCsvFile(testCondition)).thenReturn(sampleCsvPath);
-        when(openCsvParser.parseCsvFile(sampleCsvPath)).thenReturn(List.of()); // 파싱 결과 없음
+        when(csvParser.streamCsvFile(sampleCsvPath)).thenReturn(Stream.empty()); // 파싱 결과 없음
         // --- Mock 설정 끝 --- 
 
         // when
@@ -175,8 +195,8 @@ class AntockerServiceTest {
         assertEquals(0, savedCount);
         // 파싱 결과 없으면 이후 단계 호출 안됨
         verify(antockerDataProcessor, never()).processAntockerData(any());
-        verify(antockerRepository, never()).saveAll(anyList());
-        verify(antockerRepository, never()).findByBusinessRegistrationNumberIn(anyList());
+        verify(antockerStorageService, never()).saveAll(anyList());
+        verify(antockerRepository, never()).findExistingBusinessRegistrationNumbers(anyList());
     }
 
     @Test
@@ -185,14 +205,14 @@ class AntockerServiceTest {
         // given
         // --- 필요한 Mock 설정 --- 
         when(ftcCsvDownloader.downloadCsvFile(testCondition)).thenReturn(sampleCsvPath);
-        when(openCsvParser.parseCsvFile(sampleCsvPath)).thenReturn(sampleParsedData);
+        when(csvParser.streamCsvFile(sampleCsvPath)).thenReturn(sampleParsedData.stream());
         // 데이터 처리 시 예외 발생하도록 Mock 설정 (첫 번째 데이터 처리 시 발생 가정)
         when(antockerDataProcessor.processAntockerData(sampleParsedData.get(0)))
                 .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Processing error")));
-        // 다른 데이터 처리에 대한 Mock (호출될 수도, 안 될 수도 있지만 설정은 해둠)
-        when(antockerDataProcessor.processAntockerData(sampleParsedData.get(1)))
+        // 다른 데이터 처리에 대한 Mock (파이프라인 중단 시점에 따라 호출될 수도, 안 될 수도 있으므로 lenient)
+        lenient().when(antockerDataProcessor.processAntockerData(sampleParsedData.get(1)))
                 .thenReturn(CompletableFuture.completedFuture(sampleAntocker2));
-        when(antockerDataProcessor.processAntockerData(sampleParsedData.get(2)))
+        lenient().when(antockerDataProcessor.processAntockerData(sampleParsedData.get(2)))
                  .thenReturn(CompletableFuture.completedFuture(sampleAntocker3Duplicate1));
         // --- Mock 설정 끝 --- 
 
@@ -200,31 +220,31 @@ class AntockerServiceTest {
         CompletableFuture<Integer> resultFuture = antockerService.processAndSaveAntockerData(testCondition);
 
         // CompletableFuture가 예외로 완료되었는지 확인
-        // allOf().handle(...) 내부에서 CompletionException으로 감싸서 던지므로 확인
+        // 청크 처리 중 allOf().join()이 던진 CompletionException은 get() 시 원인 예외로 풀려서 전달됨
         assertThatThrownBy(resultFuture::get)
                 .isInstanceOf(ExecutionException.class)
-                .hasCauseInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(RuntimeException.class)
                 .hasRootCauseInstanceOf(RuntimeException.class) // 원인 예외 확인
                 .hasMessageContaining("Processing error");
 
         // 예외가 발생했으므로 저장은 호출되지 않아야 함
-        verify(antockerRepository, never()).saveAll(anyList());
-        verify(antockerRepository, never()).findByBusinessRegistrationNumberIn(anyList());
+        verify(antockerStorageService, never()).saveAll(anyList());
+        verify(antockerRepository, never()).findExistingBusinessRegistrationNumbers(anyList());
     }
 
     @Test
-    @DisplayName("저장할 고유 데이터 없을 시 처리")
+    @DisplayName("저장할 고유 데이터 없을 시 처리 (처리 중 다른 작업이 먼저 저장한 경우)")
     void processAndSaveAntockerData_NoUniqueDataToSave() throws ExecutionException, InterruptedException {
         // given
         // --- 필요한 Mock 설정 --- 
-        List<Map<String, String>> singleExistingData = List.of(Map.of("사업자등록번호", "111")); // 데이터 1개
+        List<CsvRow> singleExistingData = List.of(CsvHeader.of("사업자등록번호").row("111")); // 데이터 1개
         when(ftcCsvDownloader.downloadCsvFile(testCondition)).thenReturn(sampleCsvPath);
-        when(openCsvParser.parseCsvFile(sampleCsvPath)).thenReturn(singleExistingData);
-        when(antockerDataProcessor.processAntockerData(any(Map.class)))
+        when(csvParser.streamCsvFile(sampleCsvPath)).thenReturn(singleExistingData.stream());
+        when(antockerDataProcessor.processAntockerData(any(CsvRow.class)))
                 .thenReturn(CompletableFuture.completedFuture(sampleAntocker1));
         // 모든 데이터가 이미 존재한다고 가정 (DB 중복 체크)
-        when(antockerRepository.findByBusinessRegistrationNumberIn(List.of("111")))
-                .thenReturn(List.of(sampleAntocker1));
+        when(antockerRepository.findExistingBusinessRegistrationNumbers(List.of("111")))
+                .thenReturn(List.of("111"));
         // --- Mock 설정 끝 --- 
 
         // when
@@ -233,7 +253,200 @@ class AntockerServiceTest {
 
         // then
         assertEquals(0, savedCount);
-        verify(antockerRepository, never()).saveAll(anyList()); // 저장 호출 안됨
-        verify(antockerRepository).findByBusinessRegistrationNumberIn(List.of("111")); // 중복 체크는 호출됨
+        verify(antockerStorageService, never()).saveAll(anyList()); // 저장 호출 안됨
+        verify(antockerRepository).findExistingBusinessRegistrationNumbers(List.of("111")); // 중복 체크는 호출됨
+    }
+
+    @Test
+    @DisplayName("이미 저장된 사업자등록번호만 있으면 외부 API를 호출하지 않음")
+    void processAndSaveAntockerData_AllAlreadySaved() throws ExecutionException, InterruptedException {
+        // given
+        when(ftcCsvDownloader.downloadCsvFile(testCondition)).thenReturn(sampleCsvPath);
+        when(csvParser.streamCsvFile(sampleCsvPath)).thenReturn(sampleParsedData.stream());
+        stubSavedBusinessNumbers("111", "222");
+
+        // when
+        int savedCount = antockerService.processAndSaveAntockerData(testCondition).get();
+
+        // then
+        assertEquals(0, savedCount);
+        verify(antockerDataProcessor, never()).processAntockerData(any());
+        verify(antockerStorageService, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("배치마다 별도 트랜잭션으로 저장")
+    void processAndSaveAntockerData_CommitsEachBatch() throws ExecutionException, InterruptedException {
+        // given: 배치 크기 1 → 고유 데이터 2건이 각각 별도 트랜잭션으로 저장됨
+        pipelineProperties.setBatchSize(1);
+        when(ftcCsvDownloader.downloadCsvFile(testCondition)).thenReturn(sampleCsvPath);
+        when(csvParser.streamCsvFile(sampleCsvPath)).thenReturn(sampleParsedData.stream());
+        when(antockerDataProcessor.processAntockerData(sampleParsedData.get(0)))
+                .thenReturn(CompletableFuture.completedFuture(sampleAntocker1));
+        when(antockerDataProcessor.processAntockerData(sampleParsedData.get(1)))
+                .thenReturn(CompletableFuture.completedFuture(sampleAntocker2));
+        when(antockerStorageService.saveAll(anyList())).thenReturn(1);
+
+        // when
+        int savedCount = antockerService.processAndSaveAntockerData(testCondition).get();
+
+        // then
+        assertEquals(2, savedCount);
+        verify(transactionOperations, times(2)).execute(any());
+        verify(antockerStorageService, times(2)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("증분 적재: 변경된 행만 처리하여 갱신하고, CSV에서 사라진 행은 removed로 표시")
+    void processAndSaveAntockerData_DeltaSync() throws ExecutionException, InterruptedException {
+        // given: 지난 적재 때 "111"은 같은 내용, "222"는 다른 내용으로 저장됨. "333"은 이번 CSV에 없음
+        when(ftcCsvDownloader.downloadCsvFile(testCondition)).thenReturn(sampleCsvPath);
+        when(csvParser.streamCsvFile(sampleCsvPath)).thenReturn(sampleParsedData.stream());
+        stubSavedBusinessNumbers("111", "222", "333");
+        when(antockerRepository.findRowFingerprintsBySourceRegion(testCondition)).thenReturn(List.of(
+                rowFingerprint("111", sampleParsedData.get(0).fingerprint()),
+                rowFingerprint("222", sampleParsedData.get(1).fingerprint() + 1),
+                rowFingerprint("333", 0L)));
+        when(antockerDataProcessor.processAntockerData(sampleParsedData.get(1)))
+                .thenReturn(CompletableFuture.completedFuture(sampleAntocker2));
+        when(antockerRepository.findExistingBusinessRegistrationNumbers(List.of("222"))).thenReturn(List.of("222"));
+        when(antockerStorageService.saveAll(anyList())).thenReturn(1);
+        when(antockerRepository.markRemoved(testCondition, List.of("333"))).thenReturn(1);
+
+        // when
+        int savedCount = antockerService.processAndSaveAntockerData(testCondition).get();
+
+        // then
+        assertEquals(1, savedCount);
+        verify(antockerDataProcessor, times(1)).processAntockerData(any(CsvRow.class)); // "222"만 처리
+        verify(antockerStorageService).saveAll(argThat((List<Antocker> list) -> list.size() == 1
+                && list.get(0).getBusinessRegistrationNumber().equals("222")
+                && list.get(0).getRowFingerprint() == sampleParsedData.get(1).fingerprint()
+                && testCondition.equals(list.get(0).getSourceRegion())));
+        verify(antockerRepository).markRemoved(testCondition, List.of("333"));
+        verify(regionImportManifestRepository).save(argThat(manifest -> manifest.getTotalRows() == 3
+                && manifest.getNewRows() == 0 && manifest.getChangedRows() == 1
+                && manifest.getUnchangedRows() == 1 && manifest.getRemovedRows() == 1));
+    }
+
+    @Test
+    @DisplayName("중단된 작업 재개: 다운로드 없이 보관한 파일의 checkpoint 이후 행만 처리")
+    void processAndSaveAntockerData_ResumesFromCheckpoint() throws ExecutionException, InterruptedException {
+        // given: 이전 실행에서 첫 번째 행("111")까지 커밋됨
+        pipelineProperties.setDeltaSync(false);
+        when(importJobService.resume(testCondition)).thenReturn(Optional.of(importJob(sampleCsvPath, 1)));
+        when(csvParser.streamCsvFile(sampleCsvPath)).thenReturn(sampleParsedData.stream());
+        when(antockerDataProcessor.processAntockerData(sampleParsedData.get(1)))
+                .thenReturn(CompletableFuture.completedFuture(sampleAntocker2));
+        when(antockerRepository.findExistingBusinessRegistrationNumbers(List.of("222"))).thenReturn(List.of());
+        when(antockerStorageService.saveAll(anyList())).thenReturn(1);
+
+        // when
+        int savedCount = antockerService.processAndSaveAntockerData(testCondition).get();
+
+        // then
+        assertEquals(1, savedCount);
+        verify(ftcCsvDownloader, never()).downloadCsvFile(anyString());
+        verify(antockerDataProcessor, times(1)).processAntockerData(any(CsvRow.class)); // "222"만 처리
+        verify(importJobService).checkpoint(1L, 3L, 1); // 배치와 같은 트랜잭션에서 checkpoint 기록
+        verify(importJobService).complete(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("처리 실패 시 작업을 FAILED로 기록 (파일과 checkpoint 유지)")
+    void processAndSaveAntockerData_RecordsFailedJob() {
+        // given
+        when(ftcCsvDownloader.downloadCsvFile(testCondition)).thenReturn(sampleCsvPath);
+        when(csvParser.streamCsvFile(sampleCsvPath)).thenReturn(sampleParsedData.stream());
+        RuntimeException cause = new RuntimeException("Processing error");
+        when(antockerDataProcessor.processAntockerData(any(CsvRow.class)))
+                .thenReturn(CompletableFuture.failedFuture(cause));
+
+        // when
+        CompletableFuture<Integer> resultFuture = antockerService.processAndSaveAntockerData(testCondition);
+
+        // then
+        assertThatThrownBy(resultFuture::get).hasRootCauseMessage("Processing error");
+        verify(importJobService).fail(eq(1L), anyLong(), any(RuntimeException.class));
+        verify(importJobService, never()).complete(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("스트리밍 다운로드: 파일 없이 다운로드 스트림을 바로 파싱하고, 스트림은 작업 후 닫힘")
+    void processAndSaveAntockerData_StreamsDownload() throws ExecutionException, InterruptedException, IOException {
+        // given
+        pipelineProperties.setStreamDownload(true);
+        InputStream csvStream = spy(new ByteArrayInputStream(new byte[0]));
+        when(importJobService.startStreaming(testCondition)).thenReturn(ImportJob.builder().id(1L)
+                .status(ImportJobStatus.RUNNING).build());
+        when(ftcCsvDownloader.openCsvStream(testCondition)).thenReturn(csvStream);
+        when(csvParser.streamCsv(csvStream, testCondition)).thenReturn(sampleParsedData.stream());
+        when(antockerDataProcessor.processAntockerData(any(CsvRow.class)))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(Antocker.builder()
+                        .businessRegistrationNumber(invocation.<CsvRow>getArgument(0).getBusinessRegistrationNumber())
+                        .build()));
+        when(antockerRepository.findExistingBusinessRegistrationNumbers(anyList())).thenReturn(List.of());
+        when(antockerStorageService.saveAll(anyList()))
+                .thenAnswer(invocation -> invocation.<List<Antocker>>getArgument(0).size());
+
+        // when
+        int savedCount = antockerService.processAndSaveAntockerData(testCondition).get();
+
+        // then
+        assertEquals(2, savedCount);
+        verify(ftcCsvDownloader, never()).downloadCsvFile(anyString());
+        verify(csvParser, never()).streamCsvFile(any());
+        verify(importJobService, never()).start(anyString(), any(Path.class));
+        verify(importJobService).complete(1L, 3L);
+        verify(csvStream).close();
+    }
+
+    private static ImportJob importJob(Path sourceFile, long lastCommittedRow) {
+        return ImportJob.builder()
+                .id(1L)
+                .status(ImportJobStatus.RUNNING)
+                .sourceFile(sourceFile.toString())
+                .lastCommittedRow(lastCommittedRow)
+                .build();
+    }
+
+    private static AntockerRepository.RowFingerprint rowFingerprint(String businessNumber, Long fingerprint) {
+        return new AntockerRepository.RowFingerprint() {
+            @Override
+            public String getBusinessRegistrationNumber() {
+                return businessNumber;
+            }
+
+            @Override
+            public Long getRowFingerprint() {
+                return fingerprint;
+            }
+
+            @Override
+            public boolean isRemoved() {
+                return false;
+            }
+        };
+    }
+
+    // 저장된 사업자등록번호 (한 번의 조회로 모두 반환)
+    private void stubSavedBusinessNumbers(String... businessNumbers) {
+        List<AntockerRepository.BusinessNumberEntry> entries = new ArrayList<>();
+        for (int i = 0; i < businessNumbers.length; i++) {
+            long id = i + 1;
+            String businessNumber = businessNumbers[i];
+            entries.add(new AntockerRepository.BusinessNumberEntry() {
+                @Override
+                public Long getId() {
+                    return id;
+                }
+
+                @Override
+                public String getBusinessRegistrationNumber() {
+                    return businessNumber;
+                }
+            });
+        }
+        when(antockerRepository.findBusinessRegistrationNumbersAfter(anyLong(), any())).thenReturn(entries);
     }
 }
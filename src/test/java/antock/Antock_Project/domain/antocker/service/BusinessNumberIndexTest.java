@@ -0,0 +1,46 @@
+package antock.Antock_Project.domain.antocker.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BusinessNumberIndexTest {
+
+    @Test
+    @DisplayName("10자리 사업자등록번호 추가/조회 (테이블 확장 포함)")
+    void add_NumericBusinessNumbers() {
+        // given
+        BusinessNumberIndex index = new BusinessNumberIndex();
+
+        // when
+        for (long i = 0; i < 100_000; i++) {
+            assertThat(index.add(String.format("%010d", i * 7))).isTrue();
+        }
+
+        // then
+        assertThat(index.size()).isEqualTo(100_000);
+        assertThat(index.add("0000000007")).isFalse(); // 중복
+        assertThat(index.contains("0000000000")).isTrue();
+        assertThat(index.contains("0000699993")).isTrue();
+        assertThat(index.contains("0000000001")).isFalse();
+        assertThat(index.contains("000000007")).isFalse(); // 자릿수가 다르면 다른 번호
+    }
+
+    @Test
+    @DisplayName("10자리 숫자가 아닌 값도 그대로 비교")
+    void add_NonNumericBusinessNumbers() {
+        // given
+        BusinessNumberIndex index = new BusinessNumberIndex(List.of("123-45-67890", "111", "1234567890"));
+
+        // then
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.contains("123-45-67890")).isTrue();
+        assertThat(index.contains("111")).isTrue();
+        assertThat(index.contains("1234567890")).isTrue();
+        assertThat(index.contains("12345-67890")).isFalse();
+        assertThat(index.contains(null)).isFalse();
+    }
+}
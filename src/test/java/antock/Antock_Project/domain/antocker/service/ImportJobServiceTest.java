@@ -0,0 +1,113 @@
+package antock.Antock_Project.domain.antocker.service;
+
+import antock.Antock_Project.domain.antocker.entity.ImportJob;
+import antock.Antock_Project.domain.antocker.entity.ImportJobStatus;
+import antock.Antock_Project.domain.antocker.repository.ImportJobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class ImportJobServiceTest {
+
+    private static final String REGION = "서울특별시,강남구";
+
+    @Autowired
+    private ImportJobRepository importJobRepository;
+
+    @TempDir
+    Path tempDir;
+
+    private ImportJobService importJobService;
+
+    @BeforeEach
+    void setUp() {
+        importJobService = new ImportJobService(importJobRepository, tempDir.resolve("jobs").toString(), 2, Duration.ofDays(1));
+    }
+
+    private ImportJob startFailedJob() throws IOException {
+        Path downloaded = Files.writeString(tempDir.resolve("download.csv"), "a,b\n1,2\n");
+        ImportJob job = importJobService.start(REGION, downloaded);
+        importJobService.fail(job.getId(), 1, new IllegalStateException("parse failed"));
+        return job;
+    }
+
+    @Test
+    @DisplayName("재개 횟수 한도까지만 재개하고, 이후에는 재개를 포기하고 보관한 파일을 삭제")
+    void resume_GivesUpAfterMaxAttempts() throws IOException {
+        // given
+        ImportJob job = startFailedJob();
+        Path sourceFile = Paths.get(job.getSourceFile());
+
+        // when: 재개할 때마다 같은 곳에서 다시 실패
+        for (int attempt = 1; attempt <= 2; attempt++) {
+            assertThat(importJobService.resume(REGION)).hasValueSatisfying(resumed ->
+                    assertThat(resumed.getId()).isEqualTo(job.getId()));
+            importJobService.fail(job.getId(), 1, new IllegalStateException("parse failed"));
+        }
+        Optional<ImportJob> third = importJobService.resume(REGION);
+
+        // then
+        assertThat(third).isEmpty();
+        assertThat(importJobRepository.findById(job.getId())).hasValueSatisfying(abandoned -> {
+            assertThat(abandoned.getStatus()).isEqualTo(ImportJobStatus.ABANDONED);
+            assertThat(abandoned.getResumeAttempts()).isEqualTo(2);
+            assertThat(abandoned.getSourceFile()).isNull();
+        });
+        assertThat(sourceFile).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("오래된 작업은 재개하지 않음")
+    void resume_SkipsOldJob() throws IOException {
+        // given
+        ImportJob job = startFailedJob();
+        ImportJob stored = importJobRepository.findById(job.getId()).orElseThrow();
+        stored.setCreatedAt(LocalDateTime.now().minusDays(2));
+        importJobRepository.save(stored);
+
+        // when & then
+        assertThat(importJobService.resume(REGION)).isEmpty();
+        assertThat(importJobRepository.findById(job.getId()).orElseThrow().getStatus()).isEqualTo(ImportJobStatus.ABANDONED);
+    }
+
+    @Test
+    @DisplayName("실패한 작업 이후 같은 지역의 작업이 완료되었으면 예전 파일로 재개하지 않음")
+    void resume_SkipsJobSupersededByCompletedJob() throws IOException {
+        // given: 파일로 적재하다 실패한 작업 (재개 가능 상태로 남음)
+        ImportJob failed = startFailedJob();
+        Path sourceFile = Paths.get(failed.getSourceFile());
+        ImportJob legacy = importJobRepository.findById(failed.getId()).orElseThrow();
+
+        // when: 이후 스트리밍 작업이 새로 다운로드하여 완료
+        ImportJob streaming = importJobService.startStreaming(REGION);
+        importJobService.complete(streaming.getId(), 10);
+
+        // then: 새 작업을 시작할 때 예전 작업은 재개 대상에서 제외되고 파일도 삭제됨
+        assertThat(importJobRepository.findById(failed.getId()).orElseThrow().getStatus())
+                .isEqualTo(ImportJobStatus.ABANDONED);
+        assertThat(sourceFile).doesNotExist();
+
+        // when: 이전 버전에서 남은 것처럼 예전 작업이 아직 FAILED로 남아 있어도
+        legacy.setStatus(ImportJobStatus.FAILED);
+        importJobRepository.save(legacy);
+
+        // then: 더 최신 작업이 완료되었으므로 재개하지 않음
+        assertThat(importJobService.resume(REGION)).isEmpty();
+        assertThat(importJobRepository.findById(failed.getId()).orElseThrow().getStatus())
+                .isEqualTo(ImportJobStatus.ABANDONED);
+    }
+}
@@ -0,0 +1,75 @@
+package antock.Antock_Project.domain.antocker.service;
+
+import antock.Antock_Project.common.config.ImportPipelineProperties;
+import antock.Antock_Project.domain.antocker.dto.ImportJobProgressResponse;
+import antock.Antock_Project.domain.antocker.entity.Antocker;
+import antock.Antock_Project.domain.antocker.entity.ImportJobStatus;
+import antock.Antock_Project.external.csv.CsvHeader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImportJobTrackerTest {
+
+    private final CsvHeader header = CsvHeader.of("사업자등록번호", "상호");
+
+    @Test
+    @DisplayName("파이프라인 연결 전에는 0, 연결 후에는 파이프라인 카운터와 작업 시작 이후 캐시 적중 수 반환")
+    void progress_ReadsPipelineCounters() {
+        // given
+        AtomicLong cacheHits = new AtomicLong(100);
+        ImportJobTracker tracker = new ImportJobTracker("job-1", "서울", cacheHits::get);
+        assertThat(tracker.progress().getParsedRows()).isZero();
+
+        ImportPipelineProperties properties = new ImportPipelineProperties();
+        AntockerImportPipeline pipeline = new AntockerImportPipeline("test", properties,
+                row -> row.getBusinessRegistrationNumber().endsWith("9"),
+                row -> {
+                    cacheHits.incrementAndGet();
+                    return CompletableFuture.completedFuture(
+                            Antocker.builder().businessRegistrationNumber(row.getBusinessRegistrationNumber()).build());
+                },
+                (batch, checkpoint) -> batch.size());
+        tracker.attach(pipeline, 7L, 20);
+
+        // when
+        int saved = pipeline.run(IntStream.range(0, 20).mapToObj(i -> header.row(String.valueOf(i), "상점")));
+        tracker.finish(saved, null);
+
+        // then: "9", "19"는 이미 저장됨
+        ImportJobProgressResponse progress = tracker.progress();
+        assertThat(progress.getStatus()).isEqualTo(ImportJobStatus.COMPLETED);
+        assertThat(progress.getImportJobId()).isEqualTo(7L);
+        assertThat(progress.getParsedRows()).isEqualTo(20);
+        assertThat(progress.getEnrichedRows()).isEqualTo(18);
+        assertThat(progress.getExistingRows()).isEqualTo(2);
+        assertThat(progress.getSavedRows()).isEqualTo(18);
+        assertThat(progress.getCacheHits()).isEqualTo(18);
+        assertThat(progress.getCheckpointRow()).isEqualTo(20);
+        assertThat(progress.getSavedCount()).isEqualTo(18);
+        assertThat(progress.getEtaSeconds()).isZero();
+        assertThat(progress.getFinishedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("실패 시 비동기 래핑 예외를 풀어 원인 메시지 기록")
+    void finish_RecordsRootFailure() {
+        // given
+        ImportJobTracker tracker = new ImportJobTracker("job-1", "서울", () -> 0L);
+
+        // when
+        tracker.finish(null, new CompletionException(new ExecutionException(new IllegalStateException("API error"))));
+
+        // then
+        assertThat(tracker.isFinished()).isTrue();
+        assertThat(tracker.progress().getStatus()).isEqualTo(ImportJobStatus.FAILED);
+        assertThat(tracker.progress().getErrorMessage()).isEqualTo("API error");
+    }
+}
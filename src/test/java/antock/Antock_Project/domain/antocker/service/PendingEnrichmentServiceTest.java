@@ -0,0 +1,101 @@
+package antock.Antock_Project.domain.antocker.service;
+
+import antock.Antock_Project.common.util.CircuitBreaker;
+import antock.Antock_Project.domain.antocker.entity.Antocker;
+import antock.Antock_Project.domain.antocker.repository.AntockerRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PendingEnrichmentServiceTest {
+
+    @Mock
+    private AntockerRepository antockerRepository;
+
+    @Mock
+    private AntockerDataProcessor antockerDataProcessor;
+
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker("test", 0.5, 4, 2, Duration.ofMinutes(1), 1,
+            throwable -> true);
+
+    private PendingEnrichmentService service() {
+        return new PendingEnrichmentService(antockerRepository, antockerDataProcessor,
+                TransactionOperations.withoutTransaction(), List.of(circuitBreaker), 2, 4, Duration.ofMinutes(10));
+    }
+
+    private static Antocker pending(long id, String bizRegNum) {
+        return Antocker.builder().id(id).businessRegistrationNumber(bizRegNum).companyName("상점" + id)
+                .enrichmentPending(true).build();
+    }
+
+    private static Antocker enriched(String bizRegNum, String admCd, boolean stillPending) {
+        return Antocker.builder().businessRegistrationNumber(bizRegNum).corporateRegistrationNumber("1111112222222")
+                .administrativeCode(admCd).enrichmentPending(stillPending).build();
+    }
+
+    @Test
+    @DisplayName("보강 대기 행을 id 순으로 나누어 다시 보강하고, 다시 실패한 행은 그대로 둠")
+    void reenrichPending_UpdatesEnrichedRows() {
+        // given
+        Antocker first = pending(1, "1111111111");
+        Antocker second = pending(2, "2222222222");
+        Antocker third = pending(3, "3333333333");
+        when(antockerRepository.findByEnrichmentPendingTrueAndIdGreaterThanOrderByIdAsc(eq(0L), any()))
+                .thenReturn(List.of(first, second));
+        when(antockerRepository.findByEnrichmentPendingTrueAndIdGreaterThanOrderByIdAsc(eq(2L), any()))
+                .thenReturn(List.of(third));
+        when(antockerRepository.findByEnrichmentPendingTrueAndIdGreaterThanOrderByIdAsc(eq(3L), any()))
+                .thenReturn(List.of());
+        when(antockerDataProcessor.enrichReactive(eq("1111111111"), any(), any()))
+                .thenReturn(Mono.just(enriched("1111111111", "1168010100", false)));
+        when(antockerDataProcessor.enrichReactive(eq("2222222222"), any(), any()))
+                .thenReturn(Mono.just(enriched("2222222222", null, true))); // 다시 실패
+        when(antockerDataProcessor.enrichReactive(eq("3333333333"), any(), any()))
+                .thenReturn(Mono.just(enriched("3333333333", "1168010200", false)));
+        when(antockerRepository.completeEnrichment(anyLong(), any(), any(), any())).thenReturn(1);
+
+        // when
+        int completed = service().reenrichPending();
+
+        // then
+        assertThat(completed).isEqualTo(2);
+        verify(antockerRepository).completeEnrichment(1L, null, "1111112222222", "1168010100");
+        verify(antockerRepository).completeEnrichment(3L, null, "1111112222222", "1168010200");
+        verify(antockerRepository, never()).completeEnrichment(eq(2L), any(), any(), any());
+        verify(antockerRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("circuit breaker가 열려 있으면 실행하지 않고, 닫힌 뒤 다음 확인 시점에 실행")
+    void reenrichIfDue_WaitsForCircuitToClose() {
+        // given
+        PendingEnrichmentService service = service();
+        for (int i = 0; i < 2; i++) {
+            circuitBreaker.call(() -> Mono.error(new IllegalStateException("503")))
+                    .onErrorResume(e -> Mono.empty()).block();
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        // when
+        service.reenrichIfDue();
+
+        // then
+        verify(antockerRepository, never()).findByEnrichmentPendingTrueAndIdGreaterThanOrderByIdAsc(anyLong(), any());
+    }
+}
@@ -0,0 +1,80 @@
+package antock.Antock_Project.domain.antocker.service;
+
+import antock.Antock_Project.domain.antocker.entity.ImportJobStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RegionImportSchedulerTest {
+
+    @InjectMocks
+    private RegionImportScheduler regionImportScheduler;
+
+    @Mock
+    private AntockerService antockerService;
+    @Mock
+    private ImportJobRegistry importJobRegistry;
+
+    private ImportJobTracker tracker(String region) {
+        return new ImportJobTracker(region + "-job", region, () -> 0L);
+    }
+
+    @Test
+    @DisplayName("같은 지역의 작업이 진행 중이면 새로 시작하지 않고 기존 작업 반환")
+    void submit_DeduplicatesInFlightRegion() {
+        // given: 첫 번째 작업이 아직 끝나지 않음
+        CompletableFuture<Integer> running = new CompletableFuture<>();
+        ImportJobTracker first = tracker("서울특별시");
+        when(importJobRegistry.register("서울특별시")).thenReturn(first);
+        when(antockerService.processAndSaveAntockerData("서울특별시", first)).thenReturn(running);
+
+        // when
+        ImportJobTracker submitted = regionImportScheduler.submit("서울특별시");
+        ImportJobTracker duplicate = regionImportScheduler.submit(" 서울특별시 ");
+
+        // then
+        assertThat(duplicate).isSameAs(submitted).isSameAs(first);
+        verify(antockerService, times(1)).processAndSaveAntockerData(anyString(), any());
+
+        // 작업이 끝나면 결과가 기록되고 같은 지역을 다시 시작할 수 있음
+        running.complete(5);
+        assertThat(first.getStatus()).isEqualTo(ImportJobStatus.COMPLETED);
+        ImportJobTracker second = tracker("서울특별시");
+        when(importJobRegistry.register("서울특별시")).thenReturn(second);
+        when(antockerService.processAndSaveAntockerData("서울특별시", second))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("download failed")));
+
+        assertThat(regionImportScheduler.submit("서울특별시")).isSameAs(second);
+        assertThat(second.getStatus()).isEqualTo(ImportJobStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("all은 모든 시/도로 확장하고 중복 지역은 한 번만 처리")
+    void submitAll_ResolvesAllAndDuplicates() {
+        // given
+        when(importJobRegistry.register(anyString())).thenAnswer(invocation -> tracker(invocation.getArgument(0)));
+        when(antockerService.processAndSaveAntockerData(anyString(), any()))
+                .thenReturn(new CompletableFuture<>());
+
+        // when
+        List<ImportJobTracker> trackers = regionImportScheduler.submitAll(List.of("서울특별시", "all", ""));
+
+        // then: 서울특별시는 ALL_REGIONS의 첫 번째 항목이므로 순서 유지
+        assertThat(trackers).extracting(ImportJobTracker::getRegion)
+                .containsExactlyElementsOf(RegionImportScheduler.ALL_REGIONS);
+        verify(antockerService, times(RegionImportScheduler.ALL_REGIONS.size()))
+                .processAndSaveAntockerData(anyString(), any());
+    }
+}
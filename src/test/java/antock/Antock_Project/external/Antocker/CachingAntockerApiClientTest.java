@@ -0,0 +1,91 @@
+package antock.Antock_Project.external.Antocker;
+
+import antock.Antock_Project.common.cache.PersistentLookupCache;
+import antock.Antock_Project.common.exception.BusinessException;
+import antock.Antock_Project.common.exception.ErrorCode;
+import antock.Antock_Project.external.Antocker.dto.AntockerDetailResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachingAntockerApiClientTest {
+
+    private final List<String> requested = Collections.synchronizedList(new ArrayList<>());
+
+    // "0"으로 시작하는 번호는 결과 없음, "9"로 시작하는 번호는 API 오류
+    private final AntockerApiClient delegate = new AntockerApiClient() {
+        @Override
+        public Optional<AntockerDetailResponse> fetchAntockerDetails(String businessRegistrationNumber) {
+            return fetchAntockerDetailsReactive(businessRegistrationNumber).blockOptional();
+        }
+
+        @Override
+        public Mono<AntockerDetailResponse> fetchAntockerDetailsReactive(String businessRegistrationNumber) {
+            requested.add(businessRegistrationNumber);
+            if (businessRegistrationNumber.startsWith("9")) {
+                return Mono.error(new BusinessException(ErrorCode.API_OVERLOADED, "503"));
+            }
+            return businessRegistrationNumber.startsWith("0") ? Mono.empty() : Mono.just(detail("crp-" + businessRegistrationNumber));
+        }
+    };
+
+    private static AntockerDetailResponse detail(String crpNo) {
+        AntockerDetailResponse.Item item = new AntockerDetailResponse.Item();
+        item.setCrpno(crpNo);
+        AntockerDetailResponse.Items items = new AntockerDetailResponse.Items();
+        items.setItem(new AntockerDetailResponse.Item[]{item});
+        AntockerDetailResponse.Body body = new AntockerDetailResponse.Body();
+        body.setItems(items);
+        AntockerDetailResponse.Response response = new AntockerDetailResponse.Response();
+        response.setBody(body);
+        AntockerDetailResponse detail = new AntockerDetailResponse();
+        detail.setResponse(response);
+        return detail;
+    }
+
+    @Test
+    @DisplayName("기본 묶음 조회: 중복 제거 후 건별 조회, 결과 없음은 빈 응답으로 포함하고 실패한 번호는 제외")
+    void fetchAntockerDetailsBatch_DefaultImplementation() {
+        // when
+        Map<String, AntockerDetailResponse> results = delegate.fetchAntockerDetailsBatch(
+                Arrays.asList("1111111111", "0000000000", "9999999999", "1111111111", null));
+
+        // then
+        assertThat(requested).containsExactlyInAnyOrder("1111111111", "0000000000", "9999999999");
+        assertThat(results).containsOnlyKeys("1111111111", "0000000000");
+        assertThat(results.get("1111111111").hasItems()).isTrue();
+        assertThat(results.get("0000000000").hasItems()).isFalse();
+    }
+
+    @Test
+    @DisplayName("캐시 묶음 조회: 캐시에 없는 번호만 조회하고, 성공한 결과(결과 없음 포함)만 캐시")
+    void fetchAntockerDetailsBatch_QueriesOnlyMisses() {
+        // given
+        PersistentLookupCache<AntockerDetailResponse> cache = new PersistentLookupCache<>("test",
+                AntockerDetailResponse.class, new ObjectMapper(), Duration.ofDays(1), Duration.ofDays(1), 100, null);
+        CachingAntockerApiClient client = new CachingAntockerApiClient(delegate, cache);
+        client.fetchAntockerDetailsBatch(List.of("1111111111", "0000000000", "9999999999"));
+        requested.clear();
+
+        // when
+        Map<String, AntockerDetailResponse> results = client.fetchAntockerDetailsBatch(
+                List.of("1111111111", "0000000000", "9999999999", "2222222222"));
+
+        // then: 실패했던 번호는 캐시되지 않아 다시 조회
+        assertThat(requested).containsExactlyInAnyOrder("9999999999", "2222222222");
+        assertThat(results).containsOnlyKeys("1111111111", "0000000000", "2222222222");
+        assertThat(results.get("0000000000").hasItems()).isFalse();
+        assertThat(cache.size()).isEqualTo(3);
+    }
+}
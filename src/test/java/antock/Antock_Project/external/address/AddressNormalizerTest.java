@@ -0,0 +1,44 @@
+package antock.Antock_Project.external.address;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AddressNormalizerTest {
+
+    @Test
+    @DisplayName("공백, 괄호 참고항목, 쉼표 뒤 상세주소 제거")
+    void normalize_RemovesDetailAddress() {
+        assertThat(AddressNormalizer.normalize("  서울특별시  강남구 테헤란로 123, 4층 401호 (역삼동) "))
+                .isEqualTo("서울특별시 강남구 테헤란로 123");
+        assertThat(AddressNormalizer.normalize("서울특별시 강남구 테헤란로 123 [역삼동, 테헤란빌딩]"))
+                .isEqualTo("서울특별시 강남구 테헤란로 123");
+    }
+
+    @Test
+    @DisplayName("끝에 붙은 층/호/동 번호 토큰 제거")
+    void normalize_StripsUnitSuffixes() {
+        String expected = "서울특별시 강남구 테헤란로 123";
+        assertThat(AddressNormalizer.normalize("서울특별시 강남구 테헤란로 123 지하1층 B101호")).isEqualTo(expected);
+        assertThat(AddressNormalizer.normalize("서울특별시 강남구 테헤란로 123 101동 1202호")).isEqualTo(expected);
+        assertThat(AddressNormalizer.normalize("서울특별시 강남구 테헤란로 123 3F")).isEqualTo(expected);
+        assertThat(AddressNormalizer.normalize("서울특별시 강남구 테헤란로 123 1~2층 일부")).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("행정동 이름과 지번은 유지")
+    void normalize_KeepsDongAndLotNumber() {
+        assertThat(AddressNormalizer.normalize("서울특별시 강남구 역삼동 123-4"))
+                .isEqualTo("서울특별시 강남구 역삼동 123-4");
+        assertThat(AddressNormalizer.normalize("경기도 성남시 분당구 정자동"))
+                .isEqualTo("경기도 성남시 분당구 정자동");
+    }
+
+    @Test
+    @DisplayName("null 또는 빈 주소는 빈 문자열")
+    void normalize_Blank() {
+        assertThat(AddressNormalizer.normalize(null)).isEmpty();
+        assertThat(AddressNormalizer.normalize("   ")).isEmpty();
+    }
+}
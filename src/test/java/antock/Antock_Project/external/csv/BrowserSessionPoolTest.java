@@ -0,0 +1,167 @@
+package antock.Antock_Project.external.csv;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BrowserSessionPoolTest {
+
+    @TempDir
+    Path downloadRoot;
+
+    private final List<WebDriver> started = new ArrayList<>();
+
+    private BrowserSessionPool pool(int poolSize, int maxUses) {
+        return new BrowserSessionPool(() -> {
+            WebDriver driver = mock(WebDriver.class);
+            started.add(driver);
+            return driver;
+        }, poolSize, maxUses, Duration.ofSeconds(5), downloadRoot, false);
+    }
+
+    @Test
+    @DisplayName("작업이 끝난 브라우저를 다음 작업에 재사용하고, 최대 사용 횟수에 도달하면 종료 후 새로 실행")
+    void execute_ReusesAndRecyclesBrowser() {
+        // given
+        BrowserSessionPool pool = pool(1, 2);
+
+        // when
+        WebDriver first = pool.execute(BrowserSessionPool.BrowserSession::getDriver);
+        WebDriver second = pool.execute(BrowserSessionPool.BrowserSession::getDriver);
+        WebDriver third = pool.execute(BrowserSessionPool.BrowserSession::getDriver);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(third).isNotSameAs(first);
+        assertThat(started).hasSize(2);
+        verify(first).quit();
+        verify(third, never()).quit();
+    }
+
+    @Test
+    @DisplayName("응답하지 않는 브라우저와 WebDriver 오류가 난 브라우저는 버리고, 페이지 요소 오류는 브라우저를 재사용")
+    void execute_DiscardsBrokenBrowser() {
+        // given
+        BrowserSessionPool pool = pool(1, 10);
+        WebDriver first = pool.execute(BrowserSessionPool.BrowserSession::getDriver);
+        when(first.getWindowHandle()).thenThrow(new NoSuchSessionException("chrome not reachable"));
+
+        // when: 상태 확인 실패
+        WebDriver second = pool.execute(BrowserSessionPool.BrowserSession::getDriver);
+
+        // then
+        assertThat(second).isNotSameAs(first);
+        verify(first).quit();
+
+        // when: 페이지 요소 오류 → 재사용
+        assertThatThrownBy(() -> pool.execute(session -> {
+            throw new NoSuchElementException("opt_area1");
+        })).isInstanceOf(NoSuchElementException.class);
+        assertThat(pool.execute(BrowserSessionPool.BrowserSession::getDriver)).isSameAs(second);
+
+        // when: 작업 중 WebDriver 오류 → 폐기
+        assertThatThrownBy(() -> pool.execute(session -> {
+            throw new WebDriverException("renderer crashed");
+        })).isInstanceOf(WebDriverException.class);
+
+        // then
+        verify(second).quit();
+        assertThat(pool.getCreatedCount()).isZero();
+        assertThat(pool.execute(BrowserSessionPool.BrowserSession::getDriver)).isNotSameAs(second);
+    }
+
+    @Test
+    @DisplayName("작업마다 별도 다운로드 디렉토리를 사용하고, 작업이 끝나면 keep으로 옮긴 파일만 남김")
+    void execute_IsolatesDownloadDirectory() {
+        // given
+        BrowserSessionPool pool = pool(1, 10);
+        List<Path> directories = new ArrayList<>();
+
+        // when
+        Path kept = pool.execute(session -> {
+            directories.add(session.getDownloadDirectory());
+            Files.writeString(session.getDownloadDirectory().resolve("leftover.crdownload"), "partial");
+            return session.keep(Files.writeString(session.getDownloadDirectory().resolve("seoul.csv"), "a,b"));
+        });
+        pool.execute(session -> directories.add(session.getDownloadDirectory()));
+
+        // then
+        assertThat(directories.get(0)).isNotEqualTo(directories.get(1));
+        assertThat(directories).allSatisfy(directory -> assertThat(directory).doesNotExist());
+        assertThat(kept).exists().hasParentRaw(downloadRoot).hasContent("a,b");
+    }
+
+    @Test
+    @DisplayName("브라우저 수는 pool-size로 제한되고, 모두 사용 중이면 반환될 때까지 대기")
+    void execute_WaitsWhenAllBrowsersInUse() throws Exception {
+        // given
+        BrowserSessionPool pool = pool(1, 10);
+        CountDownLatch inUse = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<WebDriver> first = CompletableFuture.supplyAsync(() -> pool.execute(session -> {
+            inUse.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return session.getDriver();
+        }));
+        assertThat(inUse.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        CompletableFuture<WebDriver> second = CompletableFuture.supplyAsync(
+                () -> pool.execute(BrowserSessionPool.BrowserSession::getDriver));
+        Thread.sleep(100);
+        assertThat(second).isNotDone();
+        release.countDown();
+
+        // then
+        assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(first.get(5, TimeUnit.SECONDS));
+        assertThat(started).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("미리 띄우기(warm-up)가 실패해도 자리를 반환하여, 이후 작업은 브라우저를 새로 실행하여 사용")
+    void warmUp_FailureDoesNotLeakSlot() {
+        // given: 첫 실행은 실패 (Chrome 없음, 드라이버 다운로드 실패 등)
+        AtomicInteger attempts = new AtomicInteger();
+        BrowserSessionPool pool = new BrowserSessionPool(() -> {
+            if (attempts.getAndIncrement() == 0) {
+                throw new WebDriverException("chrome not reachable");
+            }
+            WebDriver driver = mock(WebDriver.class);
+            started.add(driver);
+            return driver;
+        }, 1, 10, Duration.ofMillis(500), downloadRoot, false);
+
+        // when
+        pool.warmUp();
+        WebDriver driver = pool.execute(BrowserSessionPool.BrowserSession::getDriver);
+
+        // then
+        assertThat(driver).isSameAs(started.get(0));
+        assertThat(pool.getCreatedCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,67 @@
+package antock.Antock_Project.external.csv;
+
+import antock.Antock_Project.common.exception.BusinessException;
+import antock.Antock_Project.common.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DownloadCompletionWatcherTest {
+
+    @TempDir
+    Path downloadDir;
+
+    private final DownloadCompletionWatcher watcher = new DownloadCompletionWatcher(Duration.ofMillis(100));
+
+    @Test
+    @DisplayName("임시 파일(.crdownload)로 받는 동안은 기다리고, 이름이 바뀐 뒤 크기가 유지되면 해당 파일을 반환")
+    void awaitCompletedFile_WaitsForRename() throws Exception {
+        // given: 다른 이름의 CSV가 이미 있어도 조건에 맞는 파일만 대상
+        Files.writeString(downloadDir.resolve("other.csv"), "x");
+        CompletableFuture<Path> result = CompletableFuture.supplyAsync(() -> {
+            try {
+                return watcher.awaitCompletedFile(downloadDir,
+                        path -> path.getFileName().toString().startsWith("seoul"), Duration.ofSeconds(10));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // when: 브라우저처럼 임시 파일에 나누어 쓰고 완료 시 이름 변경
+        Path partial = downloadDir.resolve("seoul.csv.crdownload");
+        Files.writeString(partial, "a,b\n");
+        Thread.sleep(150);
+        assertThat(result).isNotDone();
+        Files.writeString(partial, "c,d\n", StandardOpenOption.APPEND);
+        Files.move(partial, downloadDir.resolve("seoul.csv"));
+
+        // then
+        Path completed = result.get(10, TimeUnit.SECONDS);
+        assertThat(completed).isEqualTo(downloadDir.resolve("seoul.csv")).hasContent("a,b\nc,d");
+    }
+
+    @Test
+    @DisplayName("이미 받아진 파일은 이벤트 없이도 바로 반환하고, 시간 안에 파일이 없으면 DOWNLOAD_TIMEOUT")
+    void awaitCompletedFile_ExistingFileAndTimeout() throws Exception {
+        // given
+        Files.writeString(downloadDir.resolve("seoul.csv"), "a,b");
+
+        // when & then
+        assertThat(watcher.awaitCompletedFile(downloadDir, path -> path.toString().endsWith(".csv"),
+                Duration.ofSeconds(5))).isEqualTo(downloadDir.resolve("seoul.csv"));
+        assertThatThrownBy(() -> watcher.awaitCompletedFile(downloadDir,
+                path -> path.toString().endsWith(".xlsx"), Duration.ofMillis(200)))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.DOWNLOAD_TIMEOUT));
+    }
+}
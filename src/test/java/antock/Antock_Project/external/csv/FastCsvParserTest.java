@@ -0,0 +1,160 @@
+package antock.Antock_Project.external.csv;
+
+import antock.Antock_Project.common.exception.BusinessException;
+import antock.Antock_Project.common.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * FastCsvParser는 OpenCsvParser와 같은 결과를 내야 하므로, 같은 입력을 두 파서로 파싱하여 비교합니다.
+ */
+class FastCsvParserTest {
+
+    private static final Charset TEST_CSV_CHARSET = Charset.forName("EUC-KR");
+
+    @TempDir
+    Path tempDir;
+
+    private final OpenCsvParser openCsvParser = new OpenCsvParser();
+
+    @Test
+    @DisplayName("OpenCsvParserTest의 CSV 파일들을 OpenCsvParser와 같게 파싱")
+    void sameAsOpenCsv_ExistingFixtures() throws IOException {
+        assertSameAsOpenCsv("사업자등록번호,상호명,사업장소재지\n" +
+                "1111111111,상점A,주소A\n" +
+                "2222222222,상점B,\"주소B, 상세주소\"\n" +
+                "3333333333, 상점C , 주소C ");
+        assertSameAsOpenCsv("");
+        assertSameAsOpenCsv("사업자등록번호,상호명,사업장소재지");
+        assertSameAsOpenCsv("번호,이름\n1,홍길동\n2,임꺽정,추가정보\n3,장보고");
+        assertSameAsOpenCsv("사업자등록번호,상호명,사업장소재지\n" +
+                "1111111111,상점A,\"서울특별시 강남구, 역삼동\"\n" +
+                "2222222222,상점B\n" +
+                "3333333333, 한글상점 , 부산광역시 ");
+    }
+
+    @Test
+    @DisplayName("따옴표, 여러 줄 컬럼, 줄바꿈 종류, opencsv 특수 처리(역슬래시, 컬럼 중간 따옴표)도 OpenCsvParser와 같게 파싱")
+    void sameAsOpenCsv_QuotingAndLineBreaks() throws IOException {
+        String header = "a,b,c\n";
+        String[] bodies = {
+                "1,\"say \"\"hi\"\"\",3\n",       // 따옴표 두 개 → 따옴표
+                "1,\"\"\"\",3\n",                  // 따옴표만 있는 컬럼
+                "1,\"\",3\n",                      // 빈 따옴표 컬럼
+                "1,\"여러\n줄\r\n주소\",3\n",        // 여러 줄 컬럼
+                "1,2,3\r\n4,5,6\r7,8,9",           // \r\n, \r 줄바꿈
+                "1,2,3\n\n4,5,6\n",                // 빈 줄 (컬럼 1개로 건너뜀)
+                "1,a\\b,3\n1,\\\"q,3\n",           // 역슬래시
+                "1,ab\"\"c,3\n",                   // 컬럼 중간의 따옴표 두 개
+                "1, \"q\" ,3\n",                   // 공백 뒤 따옴표
+                "1,\"q\" z,3\n",                   // 닫는 따옴표 뒤 문자
+                "1,\"b\"c\"d\",3\n",
+                "1,\"a\nb\" x,3\n",                // 여러 줄 + 닫는 따옴표 뒤 문자
+                "1,\"끝나지 않은 따옴표,3\n",         // 따옴표가 닫히지 않고 파일 끝 (오류)
+                "1,ab\"c,3\n",                     // opencsv에서 닫히지 않은 따옴표 (오류)
+        };
+        for (String body : bodies) {
+            assertSameAsOpenCsv(header + body);
+        }
+    }
+
+    @Test
+    @DisplayName("임의로 만든 CSV 내용도 OpenCsvParser와 같게 파싱")
+    void sameAsOpenCsv_RandomContent() throws IOException {
+        String[] alphabet = {"a", "한", " ", ",", ",", "\"", "\"", "\\", "\n", "\r"};
+        Random random = new Random(20240601L);
+        for (int i = 0; i < 500; i++) {
+            StringBuilder content = new StringBuilder("x,y\n");
+            int length = random.nextInt(30);
+            for (int j = 0; j < length; j++) {
+                content.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+            assertSameAsOpenCsv(content.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("지연 생성한 컬럼 값과 fingerprint는 값 배열로 만든 행과 같음")
+    void lazyRow_SameValuesAndFingerprint() throws IOException {
+        Path file = createTempCsvFile("lazy.csv", "사업자등록번호,상호,사업장주소\n1234567890, 앤톡 ,\"서울특별시, 강남구\"\n");
+
+        CsvRow row;
+        try (Stream<CsvRow> rows = new FastCsvParser().streamCsvFile(file)) {
+            row = rows.findFirst().orElseThrow();
+        }
+        CsvRow eager = row.getHeader().row("1234567890", "앤톡", "서울특별시, 강남구");
+
+        assertThat(row.fingerprint()).isEqualTo(eager.fingerprint()); // 값을 만들기 전에도 같은 fingerprint
+        assertThat(row.getCompanyName()).isEqualTo("앤톡");
+        assertThat(row.getAddress()).isEqualTo("서울특별시, 강남구");
+        assertThat(row.toMap()).isEqualTo(eager.toMap());
+        assertThat(row.fingerprint()).isEqualTo(eager.fingerprint());
+    }
+
+    // 파일/InputStream, 기본 버퍼/아주 작은 버퍼(버퍼 경계에서 한글, \r\n이 나뉨)로 파싱한 결과가 모두 OpenCsvParser와 같은지 확인
+    private void assertSameAsOpenCsv(String content) throws IOException {
+        Path file = createTempCsvFile("fixture.csv", content);
+        Result expected = parse(openCsvParser, file);
+        for (FastCsvParser parser : List.of(new FastCsvParser(), new FastCsvParser(5))) {
+            assertThat(parse(parser, file)).as("file: %s", content).isEqualTo(expected);
+            assertThat(parseStream(parser, file)).as("stream: %s", content).isEqualTo(expected);
+        }
+    }
+
+    private Result parse(CsvParser parser, Path file) {
+        try (Stream<CsvRow> rows = parser.streamCsvFile(file)) {
+            return Result.of(rows);
+        } catch (BusinessException e) {
+            return Result.failed(e.getErrorCode());
+        }
+    }
+
+    private Result parseStream(CsvParser parser, Path file) throws IOException {
+        try (Stream<CsvRow> rows = parser.streamCsv(new ByteArrayInputStream(Files.readAllBytes(file)), "test")) {
+            return Result.of(rows);
+        } catch (BusinessException e) {
+            return Result.failed(e.getErrorCode());
+        }
+    }
+
+    private Path createTempCsvFile(String fileName, String content) throws IOException {
+        return Files.writeString(tempDir.resolve(fileName), content, TEST_CSV_CHARSET);
+    }
+
+    // 헤더, 행별 컬럼 값과 fingerprint, 또는 실패 시 오류 코드
+    private record Result(List<String> header, List<List<String>> rows, List<Long> fingerprints, ErrorCode error) {
+
+        static Result of(Stream<CsvRow> stream) {
+            List<String> header = null;
+            List<List<String>> rows = new ArrayList<>();
+            List<Long> fingerprints = new ArrayList<>();
+            for (CsvRow row : (Iterable<CsvRow>) stream::iterator) {
+                header = row.getHeader().names();
+                fingerprints.add(row.fingerprint());
+                List<String> values = new ArrayList<>();
+                for (int i = 0; i < row.getHeader().size(); i++) {
+                    values.add(row.get(i));
+                }
+                rows.add(values);
+            }
+            return new Result(header, rows, fingerprints, null);
+        }
+
+        static Result failed(ErrorCode error) {
+            return new Result(null, List.of(), List.of(), error);
+        }
+    }
+}
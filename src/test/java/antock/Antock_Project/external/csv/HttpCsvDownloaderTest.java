@@ -0,0 +1,123 @@
+package antock.Antock_Project.external.csv;
+
+import antock.Antock_Project.common.exception.BusinessException;
+import antock.Antock_Project.common.exception.ErrorCode;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HttpCsvDownloaderTest {
+
+    private static final Charset EUC_KR = Charset.forName("EUC-KR");
+
+    @TempDir
+    Path downloadDir;
+
+    private HttpServer server;
+    private final List<String> requestedFiles = Collections.synchronizedList(new ArrayList<>());
+    private byte[] csv;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        csv = ("통신판매번호,상호,사업자등록번호\n2024-서울강남-0001,앤톡,1234567890\n").repeat(2000).getBytes(EUC_KR);
+        // 서울특별시 파일은 CSV, 그 외에는 사이트처럼 안내 HTML 페이지 응답
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/www/downloadBizComm.do", exchange -> {
+            String query = URLDecoder.decode(exchange.getRequestURI().getRawQuery(), StandardCharsets.UTF_8);
+            String fileName = query.substring(query.indexOf("atchFileNm=") + "atchFileNm=".length());
+            requestedFiles.add(fileName);
+            boolean found = fileName.equals("통신판매사업자_서울특별시_강남구.csv");
+            byte[] body = found ? csv : "<html>파일이 없습니다</html>".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", found ? "application/octet-stream" : "text/html;charset=UTF-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private HttpCsvDownloader downloader() {
+        String urlTemplate = "http://127.0.0.1:" + server.getAddress().getPort()
+                + "/www/downloadBizComm.do?atchFileUrl=dataopen&atchFileNm={fileName}";
+        return new HttpCsvDownloader(WebClient.create(), urlTemplate, downloadDir, Duration.ofSeconds(10));
+    }
+
+    @Test
+    @DisplayName("지역 조건으로 파일 이름을 만들어 요청하고, 응답 본문을 그대로 파일로 저장")
+    void downloadCsvFile_StreamsBodyToFile() throws IOException {
+        // when
+        Path downloaded = downloader().downloadCsvFile("서울특별시, 강남구");
+
+        // then
+        assertThat(requestedFiles).containsExactly("통신판매사업자_서울특별시_강남구.csv");
+        assertThat(downloaded).hasParentRaw(downloadDir);
+        assertThat(Files.readAllBytes(downloaded)).isEqualTo(csv);
+        try (var files = Files.list(downloadDir)) {
+            assertThat(files).containsExactly(downloaded); // 임시(.part) 파일 없음
+        }
+    }
+
+    @Test
+    @DisplayName("스트림으로 열면 파일을 만들지 않고 응답 본문을 받는 대로 읽음")
+    void openCsvStream_ReadsBodyWithoutFile() throws IOException {
+        // when
+        byte[] read;
+        try (InputStream in = downloader().openCsvStream("서울특별시,강남구")) {
+            read = in.readAllBytes();
+        }
+
+        // then
+        assertThat(read).isEqualTo(csv);
+        try (var files = Files.list(downloadDir)) {
+            assertThat(files).isEmpty();
+        }
+        // HTML 응답은 본문을 읽기 전(스트림을 여는 시점)에 실패하므로 fallback 가능
+        assertThatThrownBy(() -> downloader().openCsvStream("부산광역시")).isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("CSV 대신 HTML 페이지가 오면 실패하고, FallbackCsvDownloader는 브라우저 다운로드로 다시 시도")
+    void downloadCsvFile_FallsBackWhenHtmlReturned() throws IOException {
+        // when & then
+        assertThatThrownBy(() -> downloader().downloadCsvFile("부산광역시"))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.CSV_DOWNLOAD_FAILED));
+        try (var files = Files.list(downloadDir)) {
+            assertThat(files).isEmpty();
+        }
+
+        // when
+        Path browserFile = Files.writeString(downloadDir.resolve("browser.csv"), "a,b");
+        CsvDownloader downloader = new FallbackCsvDownloader(downloader(), condition -> browserFile);
+
+        // then
+        assertThat(downloader.downloadCsvFile("부산광역시")).isEqualTo(browserFile);
+    }
+}
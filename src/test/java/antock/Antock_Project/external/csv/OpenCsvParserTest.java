@@ -7,13 +7,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -138,6 +141,78 @@ public class OpenCsvParserTest {
                 .hasMessageContaining("CSV 파일 헤더를 읽는 중 오류 발생"); // IOException이 BusinessException으로 변환
     }
 
+    @Test
+    @DisplayName("스트리밍 파싱: 헤더를 한 번만 읽고 행을 순서대로 반환")
+    void streamCsvFile_Success() throws IOException {
+        // given
+        String csvContent = "사업자등록번호,상호명,사업장소재지\n" +
+                "1111111111,상점A,주소A\n" +
+                "2222222222,상점B\n" + // 컬럼 수 불일치 (건너뜀)
+                "3333333333, 상점C , 주소C ";
+        sampleCsvFile = createTempCsvFile("stream.csv", csvContent);
+
+        // when
+        List<CsvRow> result;
+        try (Stream<CsvRow> rows = openCsvParser.streamCsvFile(sampleCsvFile)) {
+            result = rows.toList();
+        }
+
+        // then
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).getBusinessRegistrationNumber()).isEqualTo("1111111111");
+        assertThat(result.get(0).getHeader()).isSameAs(result.get(1).getHeader()); // 헤더는 파일 단위로 공유
+        assertThat(result.get(1).getBusinessRegistrationNumber()).isEqualTo("3333333333");
+        assertThat(result.get(1).getCompanyName()).isEqualTo("상점C"); // "상호명" 별칭
+        assertThat(result.get(1).getAddress()).isEqualTo("주소C"); // "사업장소재지" 별칭
+        assertThat(result.get(1).get("상호명")).isEqualTo("상점C");
+    }
+
+    @Test
+    @DisplayName("스트리밍 파싱: 빈 파일은 Stream 생성 시점에 예외 발생")
+    void streamCsvFile_EmptyFile() throws IOException {
+        // given
+        sampleCsvFile = createTempCsvFile("stream_empty.csv", "");
+
+        // when & then
+        assertThatThrownBy(() -> openCsvParser.streamCsvFile(sampleCsvFile))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("CSV 파일 헤더를 읽을 수 없거나 비어있습니다.");
+    }
+
+    @Test
+    @DisplayName("InputStream 파싱: 한 글자(2바이트)가 나뉘어 들어와도 파일 파싱과 같은 결과")
+    void streamCsv_SameAsFileParsing() throws IOException {
+        // given
+        String csvContent = "사업자등록번호,상호명,사업장소재지\n" +
+                "1111111111,상점A,\"서울특별시 강남구, 역삼동\"\n" +
+                "2222222222,상점B\n" + // 컬럼 수 불일치 (건너뜀)
+                "3333333333, 한글상점 , 부산광역시 ";
+        sampleCsvFile = createTempCsvFile("stream_source.csv", csvContent);
+        byte[] bytes = Files.readAllBytes(sampleCsvFile);
+        // 다운로드 응답처럼 3바이트씩 나누어 전달 (EUC-KR 한글 2바이트가 경계에서 나뉨)
+        InputStream chunked = new ByteArrayInputStream(bytes) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                return super.read(b, off, Math.min(len, 3));
+            }
+        };
+
+        // when
+        List<Map<String, String>> fromFile;
+        List<Map<String, String>> fromStream;
+        try (Stream<CsvRow> rows = openCsvParser.streamCsvFile(sampleCsvFile)) {
+            fromFile = rows.map(CsvRow::toMap).toList();
+        }
+        try (Stream<CsvRow> rows = openCsvParser.streamCsv(chunked, "test")) {
+            fromStream = rows.map(CsvRow::toMap).toList();
+        }
+
+        // then
+        assertThat(fromStream).hasSize(2).isEqualTo(fromFile);
+        assertThat(fromStream.get(0).get("사업장소재지")).isEqualTo("서울특별시 강남구, 역삼동");
+        assertThat(fromStream.get(1).get("상호명")).isEqualTo("한글상점");
+    }
+
     // TODO: 필요시 다른 인코딩 테스트 케이스 추가
     // @Test
     // @DisplayName("UTF-8 인코딩 CSV 파일 파싱")
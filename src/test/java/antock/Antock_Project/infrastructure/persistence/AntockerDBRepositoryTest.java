@@ -0,0 +1,61 @@
+package antock.Antock_Project.infrastructure.persistence;
+
+import antock.Antock_Project.domain.antocker.entity.Antocker;
+import antock.Antock_Project.domain.antocker.repository.AntockerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// antocker.storage.mode=jpa 저장
+@DataJpaTest
+class AntockerDBRepositoryTest {
+
+    @Autowired
+    private AntockerRepository antockerRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private AntockerDBRepository antockerDBRepository;
+
+    @BeforeEach
+    void setUp() {
+        antockerDBRepository = new AntockerDBRepository(antockerRepository);
+    }
+
+    @Test
+    void saveAll_UpdatesChangedRowOnReimport() {
+        // Given: 이전 적재에서 저장된 행 (이후 CSV에서 사라져 removed로 표시됨)
+        antockerDBRepository.saveAll(List.of(Antocker.builder().businessRegistrationNumber("1111111111")
+                .companyName("이전 상호").rowFingerprint(1L).sourceRegion("서울특별시").removed(true).build()));
+        entityManager.flush();
+        entityManager.clear();
+        Long id = antockerRepository.findByBusinessRegistrationNumber("1111111111").orElseThrow().getId();
+
+        // When: 증분 적재에서 변경된 행으로 다시 적재 (id 없는 새 엔티티로 전달됨)
+        int saved = antockerDBRepository.saveAll(List.of(
+                Antocker.builder().businessRegistrationNumber("1111111111").companyName("새 상호")
+                        .administrativeCode("1168010100").rowFingerprint(2L).sourceRegion("서울특별시").build(),
+                Antocker.builder().businessRegistrationNumber("2222222222").companyName("상호2").build()));
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then: 유일 제약 위반 없이 기존 행 갱신
+        assertThat(saved).isEqualTo(2);
+        assertThat(antockerRepository.count()).isEqualTo(2);
+        assertThat(antockerRepository.findByBusinessRegistrationNumber("1111111111"))
+                .hasValueSatisfying(a -> {
+                    assertThat(a.getId()).isEqualTo(id);
+                    assertThat(a.getCompanyName()).isEqualTo("새 상호");
+                    assertThat(a.getAdministrativeCode()).isEqualTo("1168010100");
+                    assertThat(a.getRowFingerprint()).isEqualTo(2L);
+                    assertThat(a.isRemoved()).isFalse();
+                });
+    }
+}
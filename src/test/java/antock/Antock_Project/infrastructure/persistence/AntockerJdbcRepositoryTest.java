@@ -0,0 +1,99 @@
+package antock.Antock_Project.infrastructure.persistence;
+
+import antock.Antock_Project.domain.antocker.entity.Antocker;
+import antock.Antock_Project.domain.antocker.repository.AntockerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class AntockerJdbcRepositoryTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private AntockerRepository antockerRepository;
+
+    private AntockerJdbcRepository antockerJdbcRepository;
+
+    @BeforeEach
+    void setUp() {
+        antockerJdbcRepository = new AntockerJdbcRepository(new JdbcTemplate(dataSource), 100);
+    }
+
+    @Test
+    void saveAll_InsertsInBatches() {
+        // Given: 배치 크기(100)보다 많은 데이터
+        List<Antocker> antockers = IntStream.range(0, 250)
+                .mapToObj(i -> Antocker.builder()
+                        .businessRegistrationNumber(String.format("%010d", i))
+                        .companyName("상호" + i)
+                        .build())
+                .toList();
+
+        // When
+        int saved = antockerJdbcRepository.saveAll(antockers);
+
+        // Then
+        assertThat(saved).isEqualTo(250);
+        assertThat(antockerRepository.count()).isEqualTo(250);
+        assertThat(antockerRepository.findByBusinessRegistrationNumber("0000000249"))
+                .hasValueSatisfying(a -> {
+                    assertThat(a.getId()).isNotNull();
+                    assertThat(a.getCompanyName()).isEqualTo("상호249");
+                });
+    }
+
+    @Test
+    void saveAll_UpdatesExistingBusinessNumber() {
+        // Given
+        antockerJdbcRepository.saveAll(List.of(Antocker.builder()
+                .businessRegistrationNumber("1111111111").companyName("이전 상호").build()));
+
+        // When
+        antockerJdbcRepository.saveAll(List.of(
+                Antocker.builder().businessRegistrationNumber("1111111111").companyName("새 상호")
+                        .administrativeCode("1168010100").build(),
+                Antocker.builder().businessRegistrationNumber("2222222222").companyName("상호2").build()));
+
+        // Then: 유일 제약 위반 없이 기존 행 갱신
+        assertThat(antockerRepository.count()).isEqualTo(2);
+        assertThat(antockerRepository.findByBusinessRegistrationNumber("1111111111"))
+                .hasValueSatisfying(a -> {
+                    assertThat(a.getCompanyName()).isEqualTo("새 상호");
+                    assertThat(a.getAdministrativeCode()).isEqualTo("1168010100");
+                });
+    }
+
+    @Test
+    void saveAll_StoresEnrichmentPending() {
+        // Given: 주소 API 장애로 보강하지 못한 행
+        antockerJdbcRepository.saveAll(List.of(
+                Antocker.builder().businessRegistrationNumber("1111111111").enrichmentPending(true).build(),
+                Antocker.builder().businessRegistrationNumber("2222222222").build()));
+
+        // When
+        List<Antocker> pending = antockerRepository.findByEnrichmentPendingTrueAndIdGreaterThanOrderByIdAsc(
+                0L, PageRequest.of(0, 10));
+
+        // Then
+        assertThat(pending).extracting(Antocker::getBusinessRegistrationNumber).containsExactly("1111111111");
+
+        // When: 다시 적재되어 보강에 성공
+        antockerJdbcRepository.saveAll(List.of(Antocker.builder().businessRegistrationNumber("1111111111")
+                .administrativeCode("1168010100").build()));
+
+        // Then
+        assertThat(antockerRepository.countByEnrichmentPendingTrue()).isZero();
+    }
+}